@@ -0,0 +1,113 @@
+package com.fleetmanager.gateway.accesslog;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Owns the access-log ring buffer and the single background thread that formats and
+ * writes its entries, so string building and appender I/O never run on the event loop.
+ *
+ * Lines go to the {@code gateway.access} logger as {@code key=value} pairs; route it to
+ * its own appender in the logging config if it should not share the application log.
+ */
+@Component
+public class AccessLogDrainer implements SmartLifecycle {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("gateway.access");
+    private static final int BATCH_SIZE = 256;
+
+    private final AccessLogRingBuffer buffer;
+    private final long parkNanos;
+    private final StringBuilder line = new StringBuilder(256); // drainer thread only
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AccessLogDrainer(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.buffer = new AccessLogRingBuffer(properties.getBufferSize());
+        this.parkNanos = properties.getDrainInterval().toNanos();
+
+        FunctionCounter.builder("gateway.access_log.dropped", buffer, AccessLogRingBuffer::droppedCount)
+                .description("Access-log entries dropped because the ring buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("gateway.access_log.buffered", buffer, AccessLogRingBuffer::size)
+                .description("Access-log entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Non-blocking; returns {@code false} if the entry was dropped.
+     */
+    public boolean submit(AccessLogEntry entry) {
+        return buffer.offer(entry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "access-log-drainer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            if (buffer.drain(this::write, BATCH_SIZE) == 0) {
+                LockSupport.parkNanos(this, parkNanos);
+            }
+        }
+        // flush what was accepted before shutdown
+        while (buffer.drain(this::write, BATCH_SIZE) > 0) {
+            // keep draining
+        }
+    }
+
+    private void write(AccessLogEntry e) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return;
+        }
+        line.setLength(0);
+        line.append("ts=").append(Instant.ofEpochMilli(e.timestampMillis()))
+                .append(" route=").append(e.routeId())
+                .append(" method=").append(e.method())
+                .append(" path=").append(e.path())
+                .append(" status=").append(e.status())
+                .append(" duration_ms=").append(TimeUnit.NANOSECONDS.toMicros(e.durationNanos()) / 1000.0);
+        if (e.tenantId() != null) {
+            line.append(" tenant=").append(e.tenantId());
+        }
+        ACCESS_LOG.info(line.toString());
+    }
+}
@@ -0,0 +1,16 @@
+package com.fleetmanager.gateway.accesslog;
+
+/**
+ * One completed request, captured on the event loop and formatted later by {@link AccessLogDrainer}.
+ * Holds only references the exchange already owns, so capturing it costs a single allocation.
+ */
+public record AccessLogEntry(
+        long timestampMillis,
+        String method,
+        String path,
+        String routeId,
+        int status,
+        long durationNanos,
+        String tenantId
+) {
+}
@@ -0,0 +1,39 @@
+package com.fleetmanager.gateway.accesslog;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+
+    /** Turns the access log off; latency metrics are still recorded. */
+    private boolean enabled = true;
+
+    /** Ring buffer slots, rounded up to a power of two. Entries are dropped (and counted) when full. */
+    private int bufferSize = 8192;
+
+    /** Fraction of requests written to the access log for routes without an override. */
+    private double defaultSampleRate = 1.0;
+
+    /** Per-route sample rate overrides, keyed by route id. */
+    private Map<String, Double> routes = new HashMap<>();
+
+    /** Server errors are logged regardless of the sample rate. */
+    private boolean alwaysLogServerErrors = true;
+
+    /** How long the drainer parks when the buffer is empty. */
+    private Duration drainInterval = Duration.ofMillis(100);
+
+    public double sampleRateFor(String routeId) {
+        Double rate = routeId == null ? null : routes.get(routeId);
+        return rate != null ? rate : defaultSampleRate;
+    }
+}
@@ -0,0 +1,97 @@
+package com.fleetmanager.gateway.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer / single-consumer ring buffer.
+ *
+ * Producers claim a slot with one CAS on the head counter and publish it through the
+ * slot's sequence number (Vyukov's bounded queue), so no producer ever blocks another or
+ * the consumer. When the buffer is full {@link #offer} fails immediately instead of waiting;
+ * losing an access-log line is preferable to stalling a Netty event loop.
+ *
+ * {@link #drain} must only be called from one thread.
+ */
+public class AccessLogRingBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<AccessLogEntry> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long tail; // consumer-owned
+
+    public AccessLogRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return {@code false} if the buffer was full and the entry was dropped
+     */
+    public boolean offer(AccessLogEntry entry) {
+        while (true) {
+            long pos = head.get();
+            int idx = (int) pos & mask;
+            long diff = sequences.get(idx) - pos;
+
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    slots.lazySet(idx, entry);
+                    sequences.lazySet(idx, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            // else another producer claimed this slot first, retry with the new head
+        }
+    }
+
+    /**
+     * Hands up to {@code limit} published entries to the consumer, in claim order.
+     *
+     * @return number of entries drained
+     */
+    public int drain(Consumer<AccessLogEntry> consumer, int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            int idx = (int) tail & mask;
+            if (sequences.get(idx) != tail + 1) {
+                break; // empty, or the next producer has claimed but not yet published
+            }
+            AccessLogEntry entry = slots.get(idx);
+            slots.lazySet(idx, null);
+            sequences.lazySet(idx, tail + mask + 1);
+            tail++;
+            consumer.accept(entry);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /** Approximate, for metrics only. */
+    public int size() {
+        return (int) Math.max(0, Math.min(capacity(), head.get() - tail));
+    }
+}
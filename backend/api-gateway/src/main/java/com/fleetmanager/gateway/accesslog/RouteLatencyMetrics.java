@@ -0,0 +1,54 @@
+package com.fleetmanager.gateway.accesslog;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Per-route latency timers ({@code gateway.route.latency}) publishing p50/p95/p99.
+ *
+ * Timers are resolved once per route and status class and then held in an array,
+ * so the per-request path is a map lookup and an array read rather than a
+ * meter-registry lookup with freshly built tags.
+ */
+@Component
+public class RouteLatencyMetrics {
+
+    public static final String METER_NAME = "gateway.route.latency";
+
+    private static final String[] OUTCOMES = {
+            "UNKNOWN", "INFORMATIONAL", "SUCCESS", "REDIRECTION", "CLIENT_ERROR", "SERVER_ERROR"
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public RouteLatencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String routeId, int status, long durationNanos) {
+        int outcome = status >= 100 && status < 600 ? status / 100 : 0;
+
+        Timer[] routeTimers = timers.computeIfAbsent(routeId, id -> new Timer[OUTCOMES.length]);
+        Timer timer = routeTimers[outcome];
+        if (timer == null) {
+            // benign race: register() returns the same meter for the same id
+            timer = Timer.builder(METER_NAME)
+                    .description("Gateway request latency per route")
+                    .tag("route", routeId)
+                    .tag("outcome", OUTCOMES[outcome])
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .distributionStatisticExpiry(Duration.ofMinutes(1))
+                    .register(meterRegistry);
+            routeTimers[outcome] = timer;
+        }
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
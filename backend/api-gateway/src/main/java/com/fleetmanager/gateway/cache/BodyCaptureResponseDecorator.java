@@ -0,0 +1,101 @@
+package com.fleetmanager.gateway.cache;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Streams the upstream body to the client while keeping a copy of it, and hands a
+ * {@link CapturedResponse} to a callback once the body is complete.
+ *
+ * The copy is abandoned as soon as the body, or its declared {@code Content-Length},
+ * exceeds {@code maxBytes}; the remaining buffers are forwarded without being copied
+ * and the callback is not invoked. Nor is it when the upstream body fails or the
+ * client goes away, so a truncated body is never captured.
+ *
+ * The callback runs on the thread that completed the body, before the last buffer
+ * reaches the client, and must not block. Filters that use this decorator must be
+ * ordered before {@code NettyWriteResponseFilter}, otherwise the write bypasses it.
+ */
+public class BodyCaptureResponseDecorator extends ServerHttpResponseDecorator {
+
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+
+    private final int maxBytes;
+    private final Consumer<CapturedResponse> onCapture;
+
+    // one body per response; reactive signals are serialised, so no locking
+    private byte[] captured;
+    private int size;
+    private boolean overflowed;
+
+    public BodyCaptureResponseDecorator(ServerHttpResponse delegate, int maxBytes,
+                                        Consumer<CapturedResponse> onCapture) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+        this.onCapture = onCapture;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        long declared = getHeaders().getContentLength();
+        if (declared > maxBytes) {
+            return super.writeWith(body);
+        }
+        captured = new byte[declared >= 0 ? (int) declared : Math.min(maxBytes, INITIAL_CAPACITY)];
+
+        return super.writeWith(Flux.<DataBuffer>from(body)
+                .doOnNext(this::copy)
+                .doOnComplete(this::complete));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return writeWith(Flux.from(body).flatMapSequential(p -> p));
+    }
+
+    private void copy(DataBuffer buffer) {
+        if (overflowed) {
+            return;
+        }
+        int readable = buffer.readableByteCount();
+        if (readable > maxBytes - size) {
+            overflowed = true;
+            captured = null;
+            return;
+        }
+        if (size + readable > captured.length) {
+            captured = Arrays.copyOf(captured, Math.min(maxBytes, Math.max(size + readable, captured.length * 2)));
+        }
+        // copy without consuming: the same buffer is forwarded to the client
+        int position = buffer.readPosition();
+        buffer.read(captured, size, readable);
+        buffer.readPosition(position);
+        size += readable;
+    }
+
+    private void complete() {
+        if (overflowed) {
+            return;
+        }
+        byte[] bytes = size == captured.length ? captured : Arrays.copyOf(captured, size);
+        onCapture.accept(new CapturedResponse(getStatusCode(), snapshot(getHeaders()), bytes));
+    }
+
+    private static HttpHeaders snapshot(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        copy.putAll(headers);
+        copy.remove(HttpHeaders.TRANSFER_ENCODING);
+        copy.remove(HttpHeaders.CONNECTION);
+        copy.remove(HttpHeaders.CONTENT_LENGTH);
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+}
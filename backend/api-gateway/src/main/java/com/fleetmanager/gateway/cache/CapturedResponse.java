@@ -0,0 +1,24 @@
+package com.fleetmanager.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Status, headers and fully buffered body of an upstream response.
+ */
+public record CapturedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    /**
+     * Replays this response on another exchange. Headers already set on the target
+     * are kept unless the captured response overrides them.
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().putAll(headers);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
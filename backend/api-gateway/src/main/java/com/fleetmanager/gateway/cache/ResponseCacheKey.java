@@ -0,0 +1,39 @@
+package com.fleetmanager.gateway.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Identity of a cacheable GET. {@code generation} is the tenant's write generation
+ * at the time the request started, so a write makes every older key unreachable.
+ * {@code role} is part of the key because upstream authorisation is role based.
+ */
+public record ResponseCacheKey(long tenantId, long generation, String role, String path, String query) {
+
+    /**
+     * Canonical query string: parameters sorted by name, so {@code ?b=2&a=1} and
+     * {@code ?a=1&b=2} share an entry. Repeated values keep their order, since upstream
+     * may give it meaning ({@code ?sort=make&sort=year} is not {@code ?sort=year&sort=make}).
+     */
+    public static String normalizeQuery(MultiValueMap<String, String> params) {
+        if (params.isEmpty()) {
+            return "";
+        }
+        List<String> names = new ArrayList<>(params.keySet());
+        Collections.sort(names);
+
+        StringBuilder query = new StringBuilder();
+        for (String name : names) {
+            for (String value : params.get(name)) {
+                if (query.length() > 0) {
+                    query.append('&');
+                }
+                query.append(name).append('=').append(value == null ? "" : value);
+            }
+        }
+        return query.toString();
+    }
+}
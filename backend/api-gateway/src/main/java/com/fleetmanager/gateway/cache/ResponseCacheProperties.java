@@ -0,0 +1,25 @@
+package com.fleetmanager.gateway.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Global bounds of the tenant response cache. TTL and cached paths are set per route
+ * on the {@code TenantResponseCache} filter.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Total body bytes held across all tenants. */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /** Larger responses are passed through but not cached. */
+    private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+}
@@ -0,0 +1,88 @@
+package com.fleetmanager.gateway.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Size-bounded store of upstream GET responses, scoped by tenant.
+ *
+ * Each entry carries the TTL of the route that stored it. Invalidation is by
+ * generation: a write bumps the tenant's counter and the old entries, whose keys
+ * hold the previous generation, are never read again and age out on their own TTL.
+ */
+@Component
+public class TenantResponseCache {
+
+    private final Cache<ResponseCacheKey, Entry> cache;
+    private final ConcurrentMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final int maxEntryBytes;
+
+    public TenantResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.maxEntryBytes = (int) Math.min(Integer.MAX_VALUE, properties.getMaxEntrySize().toBytes());
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((ResponseCacheKey key, Entry entry) -> entry.response().body().length + 256)
+                .expireAfter(new EntryExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response.cache");
+    }
+
+    public long generation(long tenantId) {
+        AtomicLong generation = generations.get(tenantId);
+        return generation == null ? 0L : generation.get();
+    }
+
+    /** Makes every entry stored so far for the tenant unreachable. */
+    public void invalidateTenant(long tenantId) {
+        generations.computeIfAbsent(tenantId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public Entry get(ResponseCacheKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(ResponseCacheKey key, CapturedResponse response, long ttlNanos) {
+        // generation moved on while the request was in flight: the body may predate the write
+        if (key.generation() != generation(key.tenantId())) {
+            return;
+        }
+        cache.put(key, new Entry(response, System.currentTimeMillis(), ttlNanos));
+    }
+
+    public int maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public record Entry(CapturedResponse response, long storedAtMillis, long ttlNanos) {
+    }
+
+    private static final class EntryExpiry implements Expiry<ResponseCacheKey, Entry> {
+
+        @Override
+        public long expireAfterCreate(ResponseCacheKey key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ResponseCacheKey key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(ResponseCacheKey key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
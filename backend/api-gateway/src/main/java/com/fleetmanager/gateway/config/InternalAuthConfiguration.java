@@ -0,0 +1,22 @@
+package com.fleetmanager.gateway.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fleetmanager.common.security.InternalAssertionCodec;
+
+/**
+ * When enabled, the gateway attaches a signed {@code X-Internal-Assertion} header to every
+ * authenticated request so downstream services can skip JWT parsing.
+ */
+@Configuration
+@ConditionalOnProperty(name = "internal-auth.enabled", havingValue = "true")
+public class InternalAuthConfiguration {
+
+    @Bean
+    public InternalAssertionCodec internalAssertionCodec(@Value("${internal-auth.secret}") String secret) {
+        return new InternalAssertionCodec(secret);
+    }
+}
@@ -0,0 +1,14 @@
+package com.fleetmanager.gateway.config;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+import com.fleetmanager.gateway.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+
+/**
+ * Every {@code lb://} route uses peak-EWMA power-of-two-choices instead of round robin.
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+public class LoadBalancerConfiguration {
+}
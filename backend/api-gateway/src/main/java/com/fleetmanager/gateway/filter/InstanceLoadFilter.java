@@ -0,0 +1,65 @@
+package com.fleetmanager.gateway.filter;
+
+import com.fleetmanager.gateway.loadbalancer.InstanceLoadRegistry;
+import com.fleetmanager.gateway.loadbalancer.PeakEwma;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Feeds the gateway's own request timings into {@link InstanceLoadRegistry}: an
+ * in-flight slot on the instance the load balancer chose, and the round-trip time to
+ * response headers once the upstream call ends. Failed calls count with their elapsed
+ * time, so a timing-out instance looks slow.
+ *
+ * Runs right after {@link ReactiveLoadBalancerClientFilter} rather than as a
+ * {@code LoadBalancerLifecycle}: the lifecycle is not told about cancellation, and a
+ * client disconnect would otherwise leave the slot taken for good.
+ */
+@Component
+public class InstanceLoadFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+
+    private final InstanceLoadRegistry registry;
+
+    public InstanceLoadFilter(InstanceLoadRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> lbResponse =
+                exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return chain.filter(exchange);
+        }
+
+        PeakEwma stats = registry.stats(lbResponse.getServer());
+        long start = registry.now();
+        stats.start();
+
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        stats.cancel();
+                    } else {
+                        long now = registry.now();
+                        stats.complete(now - start, now);
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -1,13 +1,18 @@
 package com.fleetmanager.gateway.filter;
 
-import com.fleetmanager.gateway.util.JwtUtil;
-import io.jsonwebtoken.Claims;
+import com.fleetmanager.common.security.InternalAssertionCodec;
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.security.VerifiedClaimsCache;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
@@ -19,18 +24,29 @@ import java.util.List;
 @Component
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
-    private final JwtUtil jwtUtil;
+    /** Exchange attribute holding the verified {@link JwtPrincipal} for later filters. */
+    public static final String PRINCIPAL_ATTR = JwtAuthenticationFilter.class.getName() + ".principal";
+
+    private final VerifiedClaimsCache claimsCache;
+    private final InternalAssertionCodec assertionCodec; // null unless internal-auth.enabled
+    private final long assertionTtlSeconds;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     // ✅ HARD-CODED excluded endpoints (Sprint-1 scope)
     private static final List<String> EXCLUDED_PATHS = List.of(
             "/api/auth/login",
             "/api/auth/register-tenant",
+            "/api/auth/password-reset/**",
             "/actuator/health"
     );
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthenticationFilter(
+            VerifiedClaimsCache claimsCache,
+            ObjectProvider<InternalAssertionCodec> assertionCodec,
+            @Value("${internal-auth.ttl-seconds:30}") long assertionTtlSeconds) {
+        this.claimsCache = claimsCache;
+        this.assertionCodec = assertionCodec.getIfAvailable();
+        this.assertionTtlSeconds = assertionTtlSeconds;
     }
 
     @Override
@@ -55,29 +71,39 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         String token = authHeader.substring(7);
 
         try {
-            // 3️⃣ Validate JWT
-            if (!jwtUtil.validateToken(token) || jwtUtil.isTokenExpired(token)) {
+            // 3️⃣ Validate JWT (single parse, cached by token digest)
+            JwtPrincipal principal;
+            try {
+                principal = claimsCache.verify(token);
+            } catch (JwtException | IllegalArgumentException ex) {
                 return unauthorized(exchange, "Invalid or expired token");
             }
 
-            Claims claims = jwtUtil.extractClaims(token);
-
-            Object userId = claims.get("user_id");
-            Object tenantId = claims.get("tenant_id");
-            Object role = claims.get("role");
+            Long userId = principal.getUserId();
+            Long tenantId = principal.getTenantId();
+            String role = principal.getRole();
 
             if (userId == null || tenantId == null) {
                 return unauthorized(exchange, "Token missing required claims");
             }
 
             // 4️⃣ Forward claims as headers
+            ServerHttpRequest.Builder request = exchange.getRequest().mutate()
+                    .header("X-User-Id", String.valueOf(userId))
+                    .header("X-Tenant-Id", String.valueOf(tenantId))
+                    .header("X-User-Role", role == null ? "" : role)
+                    .headers(h -> h.remove(InternalAssertionCodec.HEADER)); // never relay a client-supplied one
+
+            // 5️⃣ Signed identity for services running in internal-auth mode
+            if (assertionCodec != null && role != null) {
+                request.header(InternalAssertionCodec.HEADER, assertionCodec.mint(
+                        userId, tenantId, role, assertionTtlSeconds));
+            }
+
             ServerWebExchange mutatedExchange = exchange.mutate()
-                    .request(exchange.getRequest().mutate()
-                            .header("X-User-Id", String.valueOf(userId))
-                            .header("X-Tenant-Id", String.valueOf(tenantId))
-                            .header("X-User-Role", role == null ? "" : role.toString())
-                            .build())
+                    .request(request.build())
                     .build();
+            mutatedExchange.getAttributes().put(PRINCIPAL_ATTR, principal);
 
             return chain.filter(mutatedExchange);
 
@@ -109,6 +135,8 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     @Override
     public int getOrder() {
-        return -1; // Run before routing filters
+        // Run before routing filters and before response-body filters, which must
+        // sit ahead of NettyWriteResponseFilter (-1) and read the principal
+        return -10;
     }
 }
@@ -0,0 +1,43 @@
+package com.fleetmanager.gateway.filter;
+
+import java.util.List;
+
+/**
+ * Allocation-free matching for the {@code /prefix/**} patterns used in filter config.
+ */
+final class PathPrefix {
+
+    private PathPrefix() {
+    }
+
+    /** {@code /api/vehicles/**} becomes {@code /api/vehicles}. */
+    static String of(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            throw new IllegalArgumentException("Path pattern must not be empty");
+        }
+        String prefix = pattern.endsWith("/**") ? pattern.substring(0, pattern.length() - 3) : pattern;
+        if (prefix.contains("*")) {
+            throw new IllegalArgumentException("Only prefix patterns ending in /** are supported: " + pattern);
+        }
+        return prefix;
+    }
+
+    /** Matches the prefix itself and anything below it, but not {@code /api/vehiclesx}. */
+    static boolean matches(String prefix, String path) {
+        return path.startsWith(prefix)
+                && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+    }
+
+    /** An empty list means the filter applies to every path on its route. */
+    static boolean matchesAny(List<String> prefixes, String path) {
+        if (prefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (matches(prefix, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
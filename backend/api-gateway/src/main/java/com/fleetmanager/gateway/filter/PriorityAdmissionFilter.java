@@ -0,0 +1,133 @@
+package com.fleetmanager.gateway.filter;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.priority.PriorityProperties;
+import com.fleetmanager.gateway.priority.PriorityScheduler;
+import com.fleetmanager.gateway.priority.RequestClassifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classifies each routed request by path and JWT role ({@code gateway.priority.rules})
+ * and admits it through the {@link PriorityScheduler}, so that under saturation
+ * exports and analytics are queued behind, and shed before, login and CRUD traffic.
+ *
+ * Runs right before {@link RouteGuardFilter}: cache hits and coalesced followers never
+ * cost a permit, and the per-route limits only see work that was worth admitting.
+ * A permit is held until the response body has been written, which happens after this
+ * filter's chain completes; {@link PriorityPermitReleaseFilter} returns it then.
+ */
+@Component
+public class PriorityAdmissionFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = RouteGuardFilter.ORDER - 1;
+
+    /** Exchange attribute holding the name of the request's class. */
+    public static final String REQUEST_CLASS_ATTR = PriorityAdmissionFilter.class.getName() + ".requestClass";
+
+    /** Exchange attribute holding the admitted request's {@link PriorityScheduler.Permit}. */
+    public static final String PERMIT_ATTR = PriorityAdmissionFilter.class.getName() + ".permit";
+
+    private static final byte[] SHED_BODY =
+            "{\"error\":\"Service Unavailable\",\"message\":\"Gateway is saturated, try again later\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final boolean enabled;
+    private final String[] classNames;
+    private final RequestClassifier classifier;
+    private final PriorityScheduler scheduler;
+
+    public PriorityAdmissionFilter(PriorityProperties properties, MeterRegistry meterRegistry) {
+        List<String> names = new ArrayList<>(properties.getClasses().keySet());
+        if (names.isEmpty()) {
+            names.add(properties.getDefaultClass());
+            properties.getClasses().put(properties.getDefaultClass(), new PriorityProperties.RequestClass());
+        }
+
+        this.enabled = properties.isEnabled();
+        this.classNames = names.toArray(String[]::new);
+        this.classifier = new RequestClassifier(properties, names);
+
+        Counter[][] shed = new Counter[classNames.length][PriorityScheduler.ShedReason.values().length];
+        for (int i = 0; i < classNames.length; i++) {
+            for (PriorityScheduler.ShedReason reason : PriorityScheduler.ShedReason.values()) {
+                shed[i][reason.ordinal()] = Counter.builder("gateway.priority.shed")
+                        .description("Requests rejected with 503 by priority admission")
+                        .tags("class", classNames[i], "reason", reason.name().toLowerCase())
+                        .register(meterRegistry);
+            }
+        }
+        this.scheduler = new PriorityScheduler(
+                properties.getMaxConcurrent(),
+                names.stream().map(properties.getClasses()::get).toList(),
+                (requestClass, reason) -> shed[requestClass][reason.ordinal()].increment());
+
+        for (int i = 0; i < classNames.length; i++) {
+            int requestClass = i;
+            Gauge.builder("gateway.priority.in_flight", scheduler, s -> s.inFlight(requestClass))
+                    .description("Admitted requests of the class still in flight")
+                    .tag("class", classNames[i])
+                    .register(meterRegistry);
+            Gauge.builder("gateway.priority.queued", scheduler, s -> s.queued(requestClass))
+                    .description("Requests of the class waiting for admission")
+                    .tag("class", classNames[i])
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+
+        JwtPrincipal principal = exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR);
+        int requestClass = classifier.classify(
+                exchange.getRequest().getPath().value(), principal == null ? null : principal.getRole());
+        exchange.getAttributes().put(REQUEST_CLASS_ATTR, classNames[requestClass]);
+
+        return scheduler.acquire(requestClass)
+                .flatMap(permit -> {
+                    exchange.getAttributes().put(PERMIT_ATTR, permit);
+                    // on success the body is still to be written; released once it is
+                    return chain.filter(exchange)
+                            .doFinally(signal -> {
+                                if (signal != SignalType.ON_COMPLETE) {
+                                    permit.release();
+                                }
+                            })
+                            .thenReturn(Boolean.TRUE);
+                })
+                .switchIfEmpty(Mono.defer(() -> serviceUnavailable(exchange).thenReturn(Boolean.FALSE)))
+                .then();
+    }
+
+    private Mono<Void> serviceUnavailable(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+
+        return exchange.getResponse()
+                .writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(SHED_BODY)));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
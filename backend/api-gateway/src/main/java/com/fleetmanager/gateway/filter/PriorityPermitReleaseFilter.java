@@ -0,0 +1,41 @@
+package com.fleetmanager.gateway.filter;
+
+import com.fleetmanager.gateway.priority.PriorityScheduler;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Returns the permit {@link PriorityAdmissionFilter} took once the response has been
+ * written, not when the upstream headers arrive.
+ *
+ * The admission filter runs after {@link NettyWriteResponseFilter}, so its part of the
+ * chain completes as soon as the upstream responds, while the body is still streaming.
+ * This filter wraps the whole chain, write included, and releases the permit when the
+ * body is complete, fails, or the client goes away.
+ */
+@Component
+public class PriorityPermitReleaseFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    PriorityScheduler.Permit permit = exchange.getAttribute(PriorityAdmissionFilter.PERMIT_ATTR);
+                    if (permit != null) {
+                        permit.release();
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -1,39 +1,96 @@
 package com.fleetmanager.gateway.filter;
 
-import lombok.extern.slf4j.Slf4j;
+import com.fleetmanager.gateway.accesslog.AccessLogDrainer;
+import com.fleetmanager.gateway.accesslog.AccessLogEntry;
+import com.fleetmanager.gateway.accesslog.AccessLogProperties;
+import com.fleetmanager.gateway.accesslog.RouteLatencyMetrics;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-@Slf4j
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Default filter on every route: records per-route latency and hands a sampled
+ * access-log entry to {@link AccessLogDrainer}. Nothing is formatted or written on
+ * the request thread.
+ *
+ * Ordered outermost among the route filters, so rate-limited requests, cache hits and
+ * coalesced followers are logged and timed like any other response.
+ */
 @Component
 public class RequestLoggingGatewayFilterFactory
         extends AbstractGatewayFilterFactory<RequestLoggingGatewayFilterFactory.Config> {
 
-    public RequestLoggingGatewayFilterFactory() {
+    public static final int ORDER = TenantContextFilter.ORDER - 1;
+
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    private final AccessLogDrainer drainer;
+    private final AccessLogProperties properties;
+    private final RouteLatencyMetrics latencyMetrics;
+
+    public RequestLoggingGatewayFilterFactory(
+            AccessLogDrainer drainer,
+            AccessLogProperties properties,
+            RouteLatencyMetrics latencyMetrics) {
         super(Config.class);
+        this.drainer = drainer;
+        this.properties = properties;
+        this.latencyMetrics = latencyMetrics;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
-        return (exchange, chain) -> {
-            // Pre-processing: Log the request
-            log.info("Incoming Request: {} {}",
-                    exchange.getRequest().getMethod(),
-                    exchange.getRequest().getURI());
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            long start = System.nanoTime();
 
             return chain.filter(exchange)
-                    .then(Mono.fromRunnable(() -> {
-                        // Post-processing: Log the response status
-                        log.info("Response Status: {} for {}",
-                                exchange.getResponse().getStatusCode(),
-                                exchange.getRequest().getURI());
-                    }));
-        };
+                    .doFinally(signal -> {
+                        long duration = System.nanoTime() - start;
+
+                        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+                        String routeId = route != null ? route.getId() : UNMATCHED_ROUTE;
+
+                        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+                        int status = statusCode != null ? statusCode.value()
+                                : signal == SignalType.ON_ERROR ? 500 : 0;
+
+                        latencyMetrics.record(routeId, status, duration);
+
+                        if (shouldLog(routeId, status)) {
+                            ServerHttpRequest request = exchange.getRequest();
+                            drainer.submit(new AccessLogEntry(
+                                    System.currentTimeMillis(),
+                                    request.getMethod().name(),
+                                    request.getPath().value(),
+                                    routeId,
+                                    status,
+                                    duration,
+                                    request.getHeaders().getFirst("X-Tenant-Id")));
+                        }
+                    });
+        }, ORDER);
+    }
+
+    private boolean shouldLog(String routeId, int status) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        if (status >= 500 && properties.isAlwaysLogServerErrors()) {
+            return true;
+        }
+        double rate = properties.sampleRateFor(routeId);
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
     }
 
     public static class Config {
-        // Configuration properties can be added here
+        // Sampling is configured per route under gateway.access-log.routes
     }
 }
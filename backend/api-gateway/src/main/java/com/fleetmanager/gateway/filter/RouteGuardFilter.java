@@ -0,0 +1,95 @@
+package com.fleetmanager.gateway.filter;
+
+import com.fleetmanager.gateway.resilience.RouteGuard;
+import com.fleetmanager.gateway.resilience.RouteGuardRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route adaptive concurrency limit and circuit breaker (see {@link RouteGuard}).
+ *
+ * Runs after the route filters, so rate-limited requests, cache hits and coalesced
+ * followers never take a permit, and answers 503 straight away when the route is at
+ * its limit or its circuit is open instead of queueing in front of a struggling service.
+ */
+@Component
+public class RouteGuardFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER - 1;
+
+    private static final byte[] LIMITED_BODY =
+            "{\"error\":\"Service Unavailable\",\"message\":\"Route is at its concurrency limit\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CIRCUIT_OPEN_BODY =
+            "{\"error\":\"Service Unavailable\",\"message\":\"Downstream service is failing, try again later\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final RouteGuardRegistry registry;
+
+    public RouteGuardFilter(RouteGuardRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!registry.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        RouteGuard guard = registry.guard(route.getId());
+        long start = registry.now();
+
+        switch (guard.tryAcquire(start)) {
+            case LIMITED:
+                return serviceUnavailable(exchange, 1, LIMITED_BODY);
+            case CIRCUIT_OPEN:
+                return serviceUnavailable(exchange,
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(guard.openNanos())), CIRCUIT_OPEN_BODY);
+            default:
+                break;
+        }
+
+        return chain.filter(exchange)
+                .doOnSuccess(v -> guard.onComplete(
+                        registry.now() - start, outcomeOf(exchange.getResponse().getStatusCode()), registry.now()))
+                .doOnError(ex -> guard.onComplete(registry.now() - start, RouteGuard.Outcome.OVERLOAD, registry.now()))
+                .doOnCancel(guard::onCancel);
+    }
+
+    static RouteGuard.Outcome outcomeOf(HttpStatusCode status) {
+        if (status == null || !status.is5xxServerError()) {
+            return RouteGuard.Outcome.SUCCESS;
+        }
+        int code = status.value();
+        return code == 503 || code == 504 ? RouteGuard.Outcome.OVERLOAD : RouteGuard.Outcome.FAILURE;
+    }
+
+    private Mono<Void> serviceUnavailable(ServerWebExchange exchange, long retryAfterSeconds, byte[] body) {
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+
+        return exchange.getResponse()
+                .writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,178 @@
+package com.fleetmanager.gateway.filter;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.cache.BodyCaptureResponseDecorator;
+import com.fleetmanager.gateway.cache.CapturedResponse;
+import com.fleetmanager.gateway.cache.ResponseCacheKey;
+import com.fleetmanager.gateway.cache.TenantResponseCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collapses concurrent identical GETs (same tenant, role, path and normalised query)
+ * onto one upstream call and replays its response to every request that arrived
+ * while it was in flight.
+ *
+ * Nothing is kept once the upstream call completes; that is the response cache's job.
+ * A follower waits at most {@code maxWait} and otherwise, or when the leader fails or
+ * its body is too large to buffer, goes upstream on its own. Followers are only given
+ * what the response cache would store - a 200 without {@code no-store} or
+ * {@code Set-Cookie} - so errors, uncacheable bodies and another user's session cookie
+ * are never replayed; for anything else they go upstream too. The key includes the
+ * tenant's write generation, so a read issued after a write never joins a flight
+ * that started before it.
+ */
+@Component
+public class SingleFlightGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<SingleFlightGatewayFilterFactory.Config> {
+
+    /**
+     * Right after the response cache, so only cache misses are coalesced, and behind the
+     * access log and rate limiter, so followers are still logged and counted.
+     */
+    public static final int ORDER = TenantResponseCacheGatewayFilterFactory.ORDER + 1;
+    public static final String COALESCED_HEADER = "X-Coalesced";
+
+    private final TenantResponseCache responseCache;
+    private final ConcurrentMap<ResponseCacheKey, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter fallbacks;
+
+    public SingleFlightGatewayFilterFactory(TenantResponseCache responseCache, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.responseCache = responseCache;
+
+        this.leaders = requests(meterRegistry, "leader");
+        this.followers = requests(meterRegistry, "follower");
+        this.fallbacks = requests(meterRegistry, "fallback");
+
+        Gauge.builder("gateway.single_flight.in_flight", inFlight, ConcurrentMap::size)
+                .description("Upstream calls currently shared by coalesced requests")
+                .register(meterRegistry);
+        Gauge.builder("gateway.single_flight.collapse_ratio", this, SingleFlightGatewayFilterFactory::collapseRatio)
+                .description("Share of coalescable requests served from another request's upstream call")
+                .register(meterRegistry);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("gateway.single_flight.requests")
+                .description("Coalescable GETs by role: leader went upstream, follower reused its response, "
+                        + "fallback waited and then went upstream itself")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    double collapseRatio() {
+        double total = leaders.count() + followers.count() + fallbacks.count();
+        return total == 0 ? 0 : followers.count() / total;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        List<String> prefixes = new ArrayList<>();
+        for (String path : config.getPaths()) {
+            prefixes.add(PathPrefix.of(path));
+        }
+        Duration maxWait = config.getMaxWait();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            JwtPrincipal principal = exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR);
+            ServerHttpRequest request = exchange.getRequest();
+
+            if (principal == null || principal.getTenantId() == null
+                    || request.getMethod() != HttpMethod.GET
+                    || !PathPrefix.matchesAny(prefixes, request.getPath().value())) {
+                return chain.filter(exchange);
+            }
+
+            long tenantId = principal.getTenantId();
+            ResponseCacheKey key = new ResponseCacheKey(
+                    tenantId,
+                    responseCache.generation(tenantId),
+                    principal.getRole(),
+                    request.getPath().value(),
+                    ResponseCacheKey.normalizeQuery(request.getQueryParams()));
+
+            Flight flight = new Flight();
+            Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                return follow(existing, exchange, chain, maxWait);
+            }
+            return lead(key, flight, exchange, chain);
+        }, ORDER);
+    }
+
+    private Mono<Void> lead(ResponseCacheKey key, Flight flight, ServerWebExchange exchange, GatewayFilterChain chain) {
+        leaders.increment();
+
+        BodyCaptureResponseDecorator capturing = new BodyCaptureResponseDecorator(
+                exchange.getResponse(), responseCache.maxEntryBytes(), captured -> {
+                    // no new followers once the result exists
+                    inFlight.remove(key, flight);
+                    if (TenantResponseCacheGatewayFilterFactory.storable(captured)) {
+                        flight.result.tryEmitValue(captured);
+                    } else {
+                        flight.result.tryEmitEmpty();
+                    }
+                });
+
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, flight);
+                    flight.result.tryEmitEmpty(); // no-op if a response was already emitted
+                });
+    }
+
+    private Mono<Void> follow(Flight flight, ServerWebExchange exchange, GatewayFilterChain chain, Duration maxWait) {
+        return flight.result.asMono()
+                .timeout(maxWait)
+                .onErrorResume(TimeoutException.class, ex -> Mono.empty())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(result -> {
+                    if (result.isEmpty()) {
+                        fallbacks.increment();
+                        return chain.filter(exchange);
+                    }
+                    followers.increment();
+                    exchange.getResponse().getHeaders().set(COALESCED_HEADER, "true");
+                    return result.get().writeTo(exchange.getResponse());
+                });
+    }
+
+    private static final class Flight {
+        final Sinks.One<CapturedResponse> result = Sinks.one();
+    }
+
+    @Data
+    public static class Config {
+
+        /** Longest a follower waits for the leader before going upstream itself. */
+        private Duration maxWait = Duration.ofSeconds(2);
+
+        /** Prefix patterns ({@code /api/vehicles/**}) to coalesce; empty coalesces every GET on the route. */
+        private List<String> paths = new ArrayList<>();
+    }
+}
@@ -1,25 +1,134 @@
 package com.fleetmanager.gateway.filter;
 
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.ratelimit.RateLimitProperties;
+import com.fleetmanager.gateway.ratelimit.TenantRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tenant rate limiting for the route groups configured under
+ * {@code gateway.rate-limit.groups}. The tenant comes from the principal that
+ * {@link JwtAuthenticationFilter} verified, never from a client header.
+ *
+ * Ordered ahead of the response cache and single-flight filters, so cache hits and
+ * coalesced followers still spend a token from the tenant's bucket.
+ */
 @Component
 public class TenantContextFilter extends AbstractGatewayFilterFactory<TenantContextFilter.Config> {
 
-    public TenantContextFilter() {
+    public static final int ORDER = TenantResponseCacheGatewayFilterFactory.ORDER - 1;
+
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+            "{\"error\":\"Too Many Requests\",\"message\":\"Tenant rate limit exceeded\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final boolean enabled;
+    private final String[] groupPrefixes;
+    private final Counter[] rejected;
+    private final TenantRateLimiter limiter;
+
+    public TenantContextFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
         super(Config.class);
+
+        List<String> names = new ArrayList<>(properties.getGroups().keySet());
+        if (names.size() > 256) {
+            throw new IllegalArgumentException("At most 256 rate-limit groups are supported");
+        }
+
+        this.enabled = properties.isEnabled();
+        this.groupPrefixes = new String[names.size()];
+        this.rejected = new Counter[names.size()];
+        RateLimitProperties.Limit[] defaults = new RateLimitProperties.Limit[names.size()];
+
+        for (int i = 0; i < names.size(); i++) {
+            RateLimitProperties.Group group = properties.getGroups().get(names.get(i));
+            groupPrefixes[i] = PathPrefix.of(group.getPath());
+            defaults[i] = group;
+            rejected[i] = Counter.builder("gateway.rate_limit.rejected")
+                    .description("Requests rejected by the per-tenant rate limiter")
+                    .tag("group", names.get(i))
+                    .register(meterRegistry);
+        }
+
+        Map<Long, Map<String, RateLimitProperties.Limit>> overrides = properties.getTenants();
+        this.limiter = new TenantRateLimiter(properties.getStripes(), (tenantId, group) -> {
+            Map<String, RateLimitProperties.Limit> tenant = overrides.get(tenantId);
+            RateLimitProperties.Limit limit = tenant == null ? null : tenant.get(names.get(group));
+            return limit != null ? limit : defaults[group];
+        });
+
+        Gauge.builder("gateway.rate_limit.buckets", limiter, TenantRateLimiter::size)
+                .description("Token buckets held by the per-tenant rate limiter")
+                .register(meterRegistry);
     }
 
     @Override
     public GatewayFilter apply(Config config) {
-        return (exchange, chain) -> {
-            // Implementation placeholder
-            return chain.filter(exchange);
-        };
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (!enabled) {
+                return chain.filter(exchange);
+            }
+
+            JwtPrincipal principal = exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR);
+            if (principal == null || principal.getTenantId() == null) {
+                return chain.filter(exchange);
+            }
+
+            int group = groupOf(exchange.getRequest().getPath().value());
+            if (group < 0) {
+                return chain.filter(exchange);
+            }
+
+            long waitNanos = limiter.tryAcquire(principal.getTenantId(), group);
+            if (waitNanos == 0) {
+                return chain.filter(exchange);
+            }
+
+            rejected[group].increment();
+            return tooManyRequests(exchange, waitNanos);
+        }, ORDER);
+    }
+
+    private int groupOf(String path) {
+        for (int i = 0; i < groupPrefixes.length; i++) {
+            if (PathPrefix.matches(groupPrefixes[i], path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange, long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+
+        return exchange.getResponse()
+                .writeWith(Mono.just(exchange.getResponse()
+                        .bufferFactory()
+                        .wrap(TOO_MANY_REQUESTS_BODY)));
     }
 
     public static class Config {
-        // Configuration properties
+        // Limits are configured under gateway.rate-limit
     }
 }
@@ -0,0 +1,162 @@
+package com.fleetmanager.gateway.filter;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.cache.BodyCaptureResponseDecorator;
+import com.fleetmanager.gateway.cache.CapturedResponse;
+import com.fleetmanager.gateway.cache.ResponseCacheKey;
+import com.fleetmanager.gateway.cache.ResponseCacheProperties;
+import com.fleetmanager.gateway.cache.TenantResponseCache;
+import lombok.Data;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches successful GET responses per tenant, role, path and normalised query.
+ *
+ * <ul>
+ *   <li>TTL and cached paths are configured per route on the filter.</li>
+ *   <li>{@code Cache-Control: no-cache} (or {@code Pragma: no-cache}) skips the lookup but
+ *       refreshes the entry; {@code no-store} on the request or the response skips the cache.</li>
+ *   <li>POST/PUT/PATCH/DELETE on the route invalidate the tenant's entries, both when the
+ *       write starts and when it completes, so a read racing the write cannot survive it
+ *       by more than the route TTL.</li>
+ * </ul>
+ *
+ * Runs ahead of {@code NettyWriteResponseFilter} so it can capture the upstream body,
+ * and after {@link RequestLoggingGatewayFilterFactory} and {@link TenantContextFilter}:
+ * a hit is logged, timed and rate limited, and short-circuits everything behind it.
+ */
+@Component
+public class TenantResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<TenantResponseCacheGatewayFilterFactory.Config> {
+
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final TenantResponseCache cache;
+    private final boolean enabled;
+
+    public TenantResponseCacheGatewayFilterFactory(TenantResponseCache cache, ResponseCacheProperties properties) {
+        super(Config.class);
+        this.cache = cache;
+        this.enabled = properties.isEnabled();
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        List<String> prefixes = new ArrayList<>();
+        for (String path : config.getPaths()) {
+            prefixes.add(PathPrefix.of(path));
+        }
+        long ttlNanos = config.getTtl().toNanos();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            JwtPrincipal principal = exchange.getAttribute(JwtAuthenticationFilter.PRINCIPAL_ATTR);
+            if (!enabled || principal == null || principal.getTenantId() == null) {
+                return chain.filter(exchange);
+            }
+
+            ServerHttpRequest request = exchange.getRequest();
+            HttpMethod method = request.getMethod();
+            long tenantId = principal.getTenantId();
+
+            if (isWrite(method)) {
+                cache.invalidateTenant(tenantId);
+                return chain.filter(exchange)
+                        .doFinally(signal -> cache.invalidateTenant(tenantId));
+            }
+
+            if (method != HttpMethod.GET || !PathPrefix.matchesAny(prefixes, request.getPath().value())) {
+                return chain.filter(exchange);
+            }
+
+            String requestCacheControl = cacheDirectives(request.getHeaders());
+            if (requestCacheControl.contains("no-store")) {
+                return chain.filter(exchange);
+            }
+
+            ResponseCacheKey key = new ResponseCacheKey(
+                    tenantId,
+                    cache.generation(tenantId),
+                    principal.getRole(),
+                    request.getPath().value(),
+                    ResponseCacheKey.normalizeQuery(request.getQueryParams()));
+
+            if (!requestCacheControl.contains("no-cache")) {
+                TenantResponseCache.Entry hit = cache.get(key);
+                if (hit != null) {
+                    return writeHit(exchange, hit);
+                }
+            }
+
+            exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            BodyCaptureResponseDecorator capturing = new BodyCaptureResponseDecorator(
+                    exchange.getResponse(), cache.maxEntryBytes(), captured -> {
+                        if (storable(captured)) {
+                            cache.put(key, captured, ttlNanos);
+                        }
+                    });
+
+            return chain.filter(exchange.mutate().response(capturing).build());
+        }, ORDER);
+    }
+
+    private static boolean isWrite(HttpMethod method) {
+        return method == HttpMethod.POST || method == HttpMethod.PUT
+                || method == HttpMethod.PATCH || method == HttpMethod.DELETE;
+    }
+
+    private static String cacheDirectives(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        String pragma = headers.getPragma();
+        if (cacheControl == null && pragma == null) {
+            return "";
+        }
+        return ((cacheControl == null ? "" : cacheControl) + "," + (pragma == null ? "" : pragma))
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /** A 200 without {@code no-store} or {@code Set-Cookie}: safe to hand to another request. */
+    static boolean storable(CapturedResponse response) {
+        return HttpStatus.OK.equals(response.status())
+                && !cacheDirectives(response.headers()).contains("no-store")
+                && !response.headers().containsKey(HttpHeaders.SET_COOKIE);
+    }
+
+    private static Mono<Void> writeHit(ServerWebExchange exchange, TenantResponseCache.Entry hit) {
+        ServerHttpResponse response = exchange.getResponse();
+        long ageSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - hit.storedAtMillis());
+
+        Mono<Void> write = hit.response().writeTo(response);
+        // headers are committed on subscribe; override the captured X-Cache: MISS
+        response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+        response.getHeaders().set(HttpHeaders.AGE, Long.toString(ageSeconds));
+        return write;
+    }
+
+    @Data
+    public static class Config {
+
+        /** How long a cached response may be served. */
+        private Duration ttl = Duration.ofSeconds(5);
+
+        /** Prefix patterns ({@code /api/vehicles/**}) to cache; empty caches every GET on the route. */
+        private List<String> paths = new ArrayList<>();
+    }
+}
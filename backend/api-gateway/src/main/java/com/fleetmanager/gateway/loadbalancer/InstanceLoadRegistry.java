@@ -0,0 +1,77 @@
+package com.fleetmanager.gateway.loadbalancer;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import com.fleetmanager.gateway.filter.InstanceLoadFilter;
+
+/**
+ * Latency and in-flight state of every upstream instance the gateway has routed to,
+ * shared by the per-service load balancers and fed by {@link InstanceLoadFilter}.
+ *
+ * Stats of an instance are dropped once it is no longer in its service's instance
+ * list, so scaled-in or redeployed instances do not accumulate.
+ */
+@Component
+public class InstanceLoadRegistry {
+
+    private final ConcurrentMap<String, PeakEwma> stats = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<ServiceInstance>> members = new ConcurrentHashMap<>();
+    private final long decayNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InstanceLoadRegistry(@Value("${gateway.load-balancer.decay-time:10s}") Duration decayTime) {
+        this(decayTime, System::nanoTime);
+    }
+
+    public InstanceLoadRegistry(Duration decayTime, LongSupplier nanoClock) {
+        this.decayNanos = decayTime.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public PeakEwma stats(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), k -> new PeakEwma(decayNanos, nanoClock.getAsLong()));
+    }
+
+    /**
+     * Forgets the instances of {@code serviceId} that are not in {@code instances}. The
+     * discovery supplier hands out the same list until it refreshes, so this is an
+     * identity check per request and a sweep only when membership changed.
+     */
+    public void retain(String serviceId, List<ServiceInstance> instances) {
+        List<ServiceInstance> previous = members.put(serviceId, instances);
+        if (previous == instances || instances.equals(previous)) {
+            return;
+        }
+        Set<String> live = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            live.add(key(instance));
+        }
+        String prefix = serviceId + '@';
+        // requests still in flight keep their PeakEwma and release it directly
+        stats.keySet().removeIf(key -> key.startsWith(prefix) && !live.contains(key));
+    }
+
+    public int size() {
+        return stats.size();
+    }
+
+    public long now() {
+        return nanoClock.getAsLong();
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + '@' + instance.getHost() + ':' + instance.getPort();
+    }
+}
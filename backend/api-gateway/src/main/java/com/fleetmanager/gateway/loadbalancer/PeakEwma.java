@@ -0,0 +1,65 @@
+package com.fleetmanager.gateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Peak-sensitive exponentially weighted moving average of one instance's latency,
+ * plus its in-flight request count.
+ *
+ * A sample above the current average replaces it outright (so a pause is noticed
+ * immediately), lower samples are blended in with a weight that decays over
+ * {@code decayNanos}. Without fresh samples the cost decays towards zero, which
+ * lets a recovered instance be probed again.
+ */
+public class PeakEwma {
+
+    /** Cost of an instance with requests in flight but no sample yet: prefer known-good instances. */
+    private static final double UNOBSERVED_PENALTY_NANOS = 1_000_000_000d;
+
+    private final double decayNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private long stamp;
+    private double cost;
+
+    public PeakEwma(long decayNanos, long now) {
+        this.decayNanos = decayNanos;
+        this.stamp = now;
+    }
+
+    public void start() {
+        inFlight.incrementAndGet();
+    }
+
+    /** Frees the in-flight slot without a sample: the caller went away before the instance answered. */
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    public synchronized void complete(long rttNanos, long now) {
+        inFlight.decrementAndGet();
+
+        double rtt = Math.max(0, rttNanos);
+        if (rtt > cost) {
+            cost = rtt;
+        } else {
+            double weight = Math.exp(-Math.max(0, now - stamp) / decayNanos);
+            cost = cost * weight + rtt * (1 - weight);
+        }
+        stamp = now;
+    }
+
+    /** Lower is better: decayed latency scaled by the work already queued on the instance. */
+    public synchronized double score(long now) {
+        int pending = inFlight.get();
+        if (cost == 0 && pending > 0) {
+            return UNOBSERVED_PENALTY_NANOS + pending;
+        }
+        double decayed = cost * Math.exp(-Math.max(0, now - stamp) / decayNanos);
+        return decayed * (pending + 1);
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
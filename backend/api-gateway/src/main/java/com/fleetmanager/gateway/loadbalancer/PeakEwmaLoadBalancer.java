@@ -0,0 +1,80 @@
+package com.fleetmanager.gateway.loadbalancer;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Power-of-two-choices over peak-EWMA latency: pick two distinct instances at random
+ * and route to the one with the lower {@link PeakEwma#score}. Random sampling keeps
+ * a freshly recovered or newly registered instance from being stampeded, and the
+ * score steers traffic away from one that is paused or slow.
+ */
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final InstanceLoadRegistry registry;
+    private final Random random; // null: ThreadLocalRandom
+
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                InstanceLoadRegistry registry) {
+        this(supplierProvider, registry, null);
+    }
+
+    PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                         InstanceLoadRegistry registry, Random random) {
+        this.supplierProvider = supplierProvider;
+        this.registry = registry;
+        this.random = random;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            registry.retain(supplier.getServiceId(), instances);
+            return select(instances);
+        });
+    }
+
+    Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        int size = instances.size();
+        if (size == 0) {
+            return new EmptyResponse();
+        }
+        if (size == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+
+        int a = nextInt(size);
+        int b = nextInt(size - 1);
+        if (b >= a) {
+            b++; // distinct from a
+        }
+
+        ServiceInstance first = instances.get(a);
+        ServiceInstance second = instances.get(b);
+        long now = registry.now();
+
+        return new DefaultResponse(registry.stats(first).score(now) <= registry.stats(second).score(now)
+                ? first
+                : second);
+    }
+
+    private int nextInt(int bound) {
+        return random != null ? random.nextInt(bound) : ThreadLocalRandom.current().nextInt(bound);
+    }
+}
@@ -0,0 +1,26 @@
+package com.fleetmanager.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-service load balancer child-context configuration, registered as the default for
+ * every {@code lb://} client in {@code LoadBalancerConfiguration}. Deliberately not a
+ * {@code @Configuration}: it must only be loaded into the child contexts.
+ */
+public class PeakEwmaLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> peakEwmaLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory clientFactory,
+            InstanceLoadRegistry registry) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new PeakEwmaLoadBalancer(
+                clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), registry);
+    }
+}
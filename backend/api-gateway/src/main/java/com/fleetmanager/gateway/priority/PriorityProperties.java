@@ -0,0 +1,60 @@
+package com.fleetmanager.gateway.priority;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.priority")
+public class PriorityProperties {
+
+    private boolean enabled = true;
+
+    /** Requests the gateway forwards at once, across all classes. */
+    private int maxConcurrent = 256;
+
+    /** Class for requests no rule matches. */
+    private String defaultClass = "standard";
+
+    private Map<String, RequestClass> classes = new LinkedHashMap<>();
+
+    /** Evaluated in order; the first matching rule decides the class. */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class RequestClass {
+
+        /** Higher is more important: dispatched first, shed last. */
+        private int priority;
+
+        /** Budget of this class within {@code max-concurrent}. */
+        private int maxConcurrent = Integer.MAX_VALUE;
+
+        private int maxQueue = 100;
+
+        private Duration maxWait = Duration.ofSeconds(1);
+
+        /** Waiters of this class are evicted by higher-priority arrivals while the gateway is saturated. */
+        private boolean sheddable;
+    }
+
+    @Data
+    public static class Rule {
+
+        private String requestClass;
+
+        /** Ant patterns; empty matches every path. */
+        private List<String> paths = new ArrayList<>();
+
+        /** JWT roles; empty matches any caller, including unauthenticated ones. */
+        private List<String> roles = new ArrayList<>();
+    }
+}
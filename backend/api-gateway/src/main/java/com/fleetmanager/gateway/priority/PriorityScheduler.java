@@ -0,0 +1,220 @@
+package com.fleetmanager.gateway.priority;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Gateway-wide admission with per-class concurrency budgets and bounded FIFO queues.
+ *
+ * A request runs immediately when its class is under budget, the gateway is under
+ * {@code maxConcurrent} and nobody of its class is already waiting. Otherwise it waits
+ * in its class queue. Freed permits go to the highest-priority class that has waiters
+ * and budget left.
+ *
+ * Under saturation low-priority work goes first: a request that has to queue while
+ * the gateway is at {@code maxConcurrent} evicts the oldest waiter of the lowest
+ * sheddable class below it, full queues reject outright, and waiters give up after
+ * their class's {@code maxWait}.
+ * Requests already forwarded are never interrupted.
+ */
+public class PriorityScheduler {
+
+    public enum ShedReason { QUEUE_FULL, TIMEOUT, EVICTED }
+
+    /** Observer for admissions and sheds, used for metrics. */
+    public interface Listener {
+        void onShed(int requestClass, ShedReason reason);
+    }
+
+    private static final class ClassState {
+        final int priority;
+        final int maxConcurrent;
+        final int maxQueue;
+        final Duration maxWait;
+        final boolean sheddable;
+        final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+        int inFlight;
+
+        ClassState(PriorityProperties.RequestClass config) {
+            this.priority = config.getPriority();
+            this.maxConcurrent = config.getMaxConcurrent();
+            this.maxQueue = config.getMaxQueue();
+            this.maxWait = config.getMaxWait();
+            this.sheddable = config.isSheddable();
+        }
+    }
+
+    private static final class Waiter {
+        final Permit permit;
+        final MonoSink<Permit> sink;
+        boolean queued = true;
+        boolean granted;
+
+        Waiter(Permit permit, MonoSink<Permit> sink) {
+            this.permit = permit;
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * An admitted request's share of the budget. {@link #release()} is idempotent, so the
+     * request path and a racing cancellation may both call it.
+     */
+    public final class Permit {
+
+        private final int requestClass;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int requestClass) {
+            this.requestClass = requestClass;
+        }
+
+        public int requestClass() {
+            return requestClass;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                PriorityScheduler.this.release(requestClass);
+            }
+        }
+    }
+
+    private final ClassState[] classes;
+    /** Class indexes from highest to lowest priority. */
+    private final int[] byPriority;
+    private final int maxConcurrent;
+    private final Listener listener;
+
+    // guarded by this
+    private int inFlight;
+
+    public PriorityScheduler(int maxConcurrent, List<PriorityProperties.RequestClass> classes, Listener listener) {
+        this.maxConcurrent = maxConcurrent;
+        this.listener = listener;
+        this.classes = classes.stream().map(ClassState::new).toArray(ClassState[]::new);
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < this.classes.length; i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> Integer.compare(this.classes[b].priority, this.classes[a].priority));
+        this.byPriority = order.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return a permit once the request may go upstream, or empty if it was shed
+     */
+    public Mono<Permit> acquire(int requestClass) {
+        ClassState state = classes[requestClass];
+        return Mono.<Permit>create(sink -> enqueue(requestClass, sink))
+                .timeout(state.maxWait, Mono.fromRunnable(() -> listener.onShed(requestClass, ShedReason.TIMEOUT)));
+    }
+
+    private void enqueue(int requestClass, MonoSink<Permit> sink) {
+        ClassState state = classes[requestClass];
+        Waiter evicted = null;
+        Waiter waiter;
+
+        synchronized (this) {
+            if (state.queue.isEmpty() && hasCapacity(state)) {
+                state.inFlight++;
+                inFlight++;
+                sink.success(new Permit(requestClass));
+                return;
+            }
+            if (state.queue.size() >= state.maxQueue) {
+                waiter = null;
+            } else {
+                waiter = new Waiter(new Permit(requestClass), sink);
+                state.queue.addLast(waiter);
+                evicted = inFlight >= maxConcurrent ? evictBelow(state.priority) : null;
+            }
+        }
+
+        if (waiter == null) {
+            listener.onShed(requestClass, ShedReason.QUEUE_FULL);
+            sink.success();
+            return;
+        }
+        sink.onCancel(() -> abandon(requestClass, waiter));
+        if (evicted != null) {
+            listener.onShed(evicted.permit.requestClass(), ShedReason.EVICTED);
+            evicted.sink.success();
+        }
+    }
+
+    /** Removes the oldest waiter of the lowest sheddable class below {@code priority}, if any. */
+    private Waiter evictBelow(int priority) {
+        for (int i = byPriority.length - 1; i >= 0; i--) {
+            ClassState candidate = classes[byPriority[i]];
+            if (candidate.priority >= priority) {
+                return null;
+            }
+            if (!candidate.sheddable) {
+                continue;
+            }
+            Waiter victim = candidate.queue.pollFirst();
+            if (victim != null) {
+                victim.queued = false;
+                return victim;
+            }
+        }
+        return null;
+    }
+
+    private void abandon(int requestClass, Waiter waiter) {
+        boolean granted;
+        synchronized (this) {
+            granted = waiter.granted;
+            if (waiter.queued) {
+                waiter.queued = false;
+                classes[requestClass].queue.remove(waiter);
+            }
+        }
+        if (granted) {
+            // granted concurrently with the cancel; the permit may never reach the request
+            waiter.permit.release();
+        }
+    }
+
+    private void release(int requestClass) {
+        List<Waiter> granted = new ArrayList<>(1);
+        synchronized (this) {
+            classes[requestClass].inFlight--;
+            inFlight--;
+            for (int index : byPriority) {
+                ClassState state = classes[index];
+                while (!state.queue.isEmpty() && hasCapacity(state)) {
+                    Waiter next = state.queue.pollFirst();
+                    next.queued = false;
+                    next.granted = true;
+                    state.inFlight++;
+                    inFlight++;
+                    granted.add(next);
+                }
+            }
+        }
+        for (Waiter waiter : granted) {
+            waiter.sink.success(waiter.permit);
+        }
+    }
+
+    private boolean hasCapacity(ClassState state) {
+        return inFlight < maxConcurrent && state.inFlight < state.maxConcurrent;
+    }
+
+    public synchronized int inFlight(int requestClass) {
+        return classes[requestClass].inFlight;
+    }
+
+    public synchronized int queued(int requestClass) {
+        return classes[requestClass].queue.size();
+    }
+}
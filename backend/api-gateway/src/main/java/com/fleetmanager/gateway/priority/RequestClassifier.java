@@ -0,0 +1,61 @@
+package com.fleetmanager.gateway.priority;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Maps a request to a class index of {@link PriorityScheduler} using the ordered
+ * {@code gateway.priority.rules}.
+ */
+public class RequestClassifier {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final CompiledRule[] rules;
+    private final int defaultClass;
+
+    private record CompiledRule(int requestClass, List<String> paths, Set<String> roles) {
+    }
+
+    public RequestClassifier(PriorityProperties properties, List<String> classNames) {
+        this.defaultClass = indexOf(classNames, properties.getDefaultClass());
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(
+                        indexOf(classNames, rule.getRequestClass()),
+                        List.copyOf(rule.getPaths()),
+                        new HashSet<>(rule.getRoles())))
+                .toArray(CompiledRule[]::new);
+    }
+
+    /** @param role the caller's JWT role, or {@code null} for unauthenticated requests */
+    public int classify(String path, String role) {
+        for (CompiledRule rule : rules) {
+            if (!rule.roles().isEmpty() && (role == null || !rule.roles().contains(role))) {
+                continue;
+            }
+            if (rule.paths().isEmpty() || matchesAny(rule.paths(), path)) {
+                return rule.requestClass();
+            }
+        }
+        return defaultClass;
+    }
+
+    private boolean matchesAny(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(List<String> classNames, String name) {
+        int index = classNames.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown request class '" + name + "', expected one of " + classNames);
+        }
+        return index;
+    }
+}
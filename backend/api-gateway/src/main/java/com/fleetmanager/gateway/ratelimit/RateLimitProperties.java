@@ -0,0 +1,46 @@
+package com.fleetmanager.gateway.ratelimit;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Lock stripes in the bucket table, rounded up to a power of two. */
+    private int stripes = 64;
+
+    /** Route groups in match order, keyed by group name. Requests outside every group are not limited. */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /** Per-tenant overrides: tenant id -> group name -> limit. */
+    private Map<Long, Map<String, Limit>> tenants = new HashMap<>();
+
+    @Data
+    public static class Limit {
+
+        /** Burst size, i.e. bucket capacity in requests. */
+        private int capacity = 100;
+
+        /** Sustained rate in requests per second. */
+        private double refillPerSecond = 50;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Group extends Limit {
+
+        /** Ant-style prefix pattern, e.g. {@code /api/vehicles/**}. */
+        private String path;
+    }
+}
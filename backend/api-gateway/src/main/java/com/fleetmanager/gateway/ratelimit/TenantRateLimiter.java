@@ -0,0 +1,174 @@
+package com.fleetmanager.gateway.ratelimit;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory token buckets keyed by (tenant, route group).
+ *
+ * Buckets live in primitive open-addressing tables split across lock stripes, so
+ * tenants on different stripes never contend and {@link #tryAcquire} allocates
+ * nothing once a bucket exists. Limits are resolved through {@link LimitResolver}
+ * only when a bucket is first created. Tables grow when half full; buckets are
+ * never evicted, which is fine for the tenant counts this gateway serves.
+ */
+public class TenantRateLimiter {
+
+    /** Supplies the limit for a bucket the first time a tenant hits a group. */
+    @FunctionalInterface
+    public interface LimitResolver {
+        RateLimitProperties.Limit resolve(long tenantId, int group);
+    }
+
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int GROUP_BITS = 8;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final LimitResolver limits;
+    private final LongSupplier nanoClock;
+
+    public TenantRateLimiter(int stripeCount, LimitResolver limits) {
+        this(stripeCount, limits, System::nanoTime);
+    }
+
+    public TenantRateLimiter(int stripeCount, LimitResolver limits, LongSupplier nanoClock) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(INITIAL_STRIPE_CAPACITY);
+        }
+        this.stripeMask = count - 1;
+        this.limits = limits;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one token from the tenant's bucket for the group.
+     *
+     * @param group route group index, {@code 0..255}
+     * @return {@code 0} if the request is allowed, otherwise the nanoseconds
+     *         until a token will be available
+     */
+    public long tryAcquire(long tenantId, int group) {
+        long key = (tenantId << GROUP_BITS) | group;
+        long hash = mix(key);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+
+        synchronized (stripe) {
+            int slot = stripe.slotFor(key, (int) hash);
+            long now = nanoClock.getAsLong();
+
+            if (stripe.keys[slot] == EMPTY) {
+                RateLimitProperties.Limit limit = limits.resolve(tenantId, group);
+                slot = stripe.insert(slot, key, (int) hash,
+                        limit.getCapacity(), limit.getRefillPerSecond() / 1_000_000_000d, now);
+            }
+
+            double capacity = stripe.capacity[slot];
+            double refillPerNano = stripe.refillPerNano[slot];
+            double tokens = Math.min(capacity,
+                    stripe.tokens[slot] + (now - stripe.lastRefill[slot]) * refillPerNano);
+            stripe.lastRefill[slot] = now;
+
+            if (tokens >= 1d) {
+                stripe.tokens[slot] = tokens - 1d;
+                return 0L;
+            }
+            stripe.tokens[slot] = tokens;
+            return refillPerNano > 0 ? (long) Math.ceil((1d - tokens) / refillPerNano) : Long.MAX_VALUE;
+        }
+    }
+
+    /** Number of buckets currently held, for metrics. */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    private static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return key ^ (key >>> 33);
+    }
+
+    private static final class Stripe {
+
+        long[] keys;
+        int[] hashes;
+        double[] tokens;
+        double[] capacity;
+        double[] refillPerNano;
+        long[] lastRefill;
+        int size;
+
+        Stripe(int initialCapacity) {
+            allocate(initialCapacity);
+        }
+
+        private void allocate(int length) {
+            keys = new long[length];
+            Arrays.fill(keys, EMPTY);
+            hashes = new int[length];
+            tokens = new double[length];
+            capacity = new double[length];
+            refillPerNano = new double[length];
+            lastRefill = new long[length];
+        }
+
+        /** Linear probe: the slot holding {@code key}, or the empty slot where it belongs. */
+        int slotFor(long key, int hash) {
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /** New buckets start full. Returns the slot actually used (it moves if the table grew). */
+        int insert(int slot, long key, int hash, double cap, double refill, long now) {
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+                slot = slotFor(key, hash);
+            }
+            keys[slot] = key;
+            hashes[slot] = hash;
+            tokens[slot] = cap;
+            capacity[slot] = cap;
+            refillPerNano[slot] = refill;
+            lastRefill[slot] = now;
+            size++;
+            return slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldHashes = hashes;
+            double[] oldTokens = tokens;
+            double[] oldCapacity = capacity;
+            double[] oldRefill = refillPerNano;
+            long[] oldLastRefill = lastRefill;
+
+            allocate(oldKeys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY) {
+                    continue;
+                }
+                int slot = slotFor(oldKeys[i], oldHashes[i]);
+                keys[slot] = oldKeys[i];
+                hashes[slot] = oldHashes[i];
+                tokens[slot] = oldTokens[i];
+                capacity[slot] = oldCapacity[i];
+                refillPerNano[slot] = oldRefill[i];
+                lastRefill[slot] = oldLastRefill[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.fleetmanager.gateway.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows the downstream's measured round-trip time.
+ *
+ * Samples are averaged over windows of at least one RTT and {@value #MIN_WINDOW_SAMPLES}
+ * samples, and the limit moves once per window, so it never outruns the feedback it is
+ * reacting to. Gradient: each window moves the limit towards
+ * {@code limit * clamp(tolerance * minRtt / windowRtt, 0.5, 1) + sqrt(limit)}, so it grows
+ * while the downstream answers near its no-load RTT and shrinks as soon as requests
+ * start queueing there. AIMD safety net: a window containing an error, a timeout or an
+ * RTT above {@code maxLatency} cuts the limit by 10% instead.
+ *
+ * {@code minRtt} is the minimum over two rotating windows, so it can recover upwards
+ * after a deploy or failover instead of pinning to an old best case. Windows in which
+ * the route used less than half its limit do not raise it, since they say nothing about
+ * the downstream's capacity.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final double LIMIT_SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long maxLatencyNanos;
+    private final long minRttWindowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // guarded by this
+    private double estimatedLimit;
+    private long lastWindowRtt;
+    private long currentMinRtt = Long.MAX_VALUE;
+    private long previousMinRtt = Long.MAX_VALUE;
+    private long minRttWindowStart;
+    private long sampleWindowStart;
+    private long sampleRttSum;
+    private int sampleCount;
+    private int sampleMaxInFlight;
+    private boolean sampleDropped;
+
+    public AdaptiveConcurrencyLimit(ResilienceProperties.Settings settings, long now) {
+        this.minLimit = settings.getMinLimit();
+        this.maxLimit = settings.getMaxLimit();
+        this.tolerance = settings.getRttTolerance();
+        this.maxLatencyNanos = settings.getMaxLatency().toNanos();
+        this.minRttWindowNanos = settings.getMinRttWindow().toNanos();
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, settings.getInitialLimit()));
+        this.limit = (int) estimatedLimit;
+        this.minRttWindowStart = now;
+        this.sampleWindowStart = now;
+    }
+
+    /** @return {@code false} if the route is at its limit; the caller must not release a permit */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit and feeds the outcome into the limit.
+     *
+     * @param dropped the call failed or timed out
+     */
+    public void release(long rttNanos, boolean dropped, long now) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        sample(rttNanos, dropped || rttNanos > maxLatencyNanos, inFlightAtRelease, now);
+    }
+
+    /** Releases a permit without feeding the limit, e.g. for a cancelled call. */
+    public void releaseIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void sample(long rttNanos, boolean dropped, int inFlightAtRelease, long now) {
+        if (now - minRttWindowStart > minRttWindowNanos) {
+            previousMinRtt = currentMinRtt;
+            currentMinRtt = Long.MAX_VALUE;
+            minRttWindowStart = now;
+        }
+        if (!dropped) {
+            currentMinRtt = Math.min(currentMinRtt, rttNanos);
+        }
+
+        sampleRttSum += rttNanos;
+        sampleCount++;
+        sampleMaxInFlight = Math.max(sampleMaxInFlight, inFlightAtRelease);
+        sampleDropped |= dropped;
+        if (sampleCount < MIN_WINDOW_SAMPLES || now - sampleWindowStart < lastWindowRtt) {
+            return;
+        }
+
+        long windowRtt = sampleRttSum / sampleCount;
+        boolean windowDropped = sampleDropped;
+        boolean appLimited = sampleMaxInFlight < estimatedLimit / 2;
+        lastWindowRtt = windowRtt;
+        sampleWindowStart = now;
+        sampleRttSum = 0;
+        sampleCount = 0;
+        sampleMaxInFlight = 0;
+        sampleDropped = false;
+
+        if (windowDropped) {
+            setLimit(estimatedLimit * BACKOFF_RATIO);
+            return;
+        }
+
+        long minRtt = Math.min(currentMinRtt, previousMinRtt);
+        if (minRtt == Long.MAX_VALUE) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * minRtt / windowRtt));
+        if (gradient >= 1.0 && appLimited) {
+            return; // no evidence the downstream could take more
+        }
+
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        setLimit(estimatedLimit * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING);
+    }
+
+    private void setLimit(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public synchronized long minRttNanos() {
+        long min = Math.min(currentMinRtt, previousMinRtt);
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    /** Average RTT of the last completed sample window. */
+    public synchronized long windowRttNanos() {
+        return lastWindowRtt;
+    }
+}
@@ -0,0 +1,117 @@
+package com.fleetmanager.gateway.resilience;
+
+/**
+ * Count-based circuit breaker.
+ *
+ * CLOSED trips to OPEN when, with at least {@code minimumCalls} recorded, the failure
+ * rate over the last {@code windowSize} outcomes reaches the threshold. OPEN rejects
+ * everything for {@code openDuration}, then lets {@code halfOpenCalls} trial calls through:
+ * all succeeding closes the breaker, any failure re-opens it.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // guarded by this
+    private State state = State.CLOSED;
+    private int position;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(ResilienceProperties.CircuitBreaker settings) {
+        this.window = new boolean[settings.getWindowSize()];
+        this.minimumCalls = Math.min(settings.getMinimumCalls(), settings.getWindowSize());
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.openNanos = settings.getOpenDuration().toNanos();
+        this.halfOpenCalls = settings.getHalfOpenCalls();
+    }
+
+    public synchronized boolean tryAcquire(long now) {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+                // fall through to hand out the first trial permit
+            case HALF_OPEN:
+            default:
+                if (halfOpenPermits == 0) {
+                    return false;
+                }
+                halfOpenPermits--;
+                return true;
+        }
+    }
+
+    public synchronized void onResult(boolean failed, long now) {
+        if (state == State.HALF_OPEN) {
+            if (failed) {
+                open(now);
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return; // late result of a call admitted before the trip
+        }
+
+        if (recorded == window.length) {
+            if (window[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[position] = failed;
+        if (failed) {
+            failures++;
+        }
+        position = (position + 1) % window.length;
+
+        if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+            open(now);
+        }
+    }
+
+    /** A trial permit whose call was cancelled goes back to the pool. */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        failures = 0;
+        position = 0;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+}
@@ -0,0 +1,64 @@
+package com.fleetmanager.gateway.resilience;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.resilience")
+public class ResilienceProperties {
+
+    private boolean enabled = true;
+
+    /** Settings for routes without an entry in {@link #routes}. */
+    private Settings defaults = new Settings();
+
+    /** Per-route settings keyed by route id; unspecified fields take the built-in defaults. */
+    private Map<String, Settings> routes = new HashMap<>();
+
+    public Settings settingsFor(String routeId) {
+        return routes.getOrDefault(routeId, defaults);
+    }
+
+    @Data
+    public static class Settings {
+
+        private int initialLimit = 50;
+        private int minLimit = 4;
+        private int maxLimit = 500;
+
+        /** How far short-term RTT may exceed the no-load RTT before the limit shrinks. */
+        private double rttTolerance = 1.5;
+
+        /** RTT above this counts as a drop: the window it falls in cuts the limit by 10%. */
+        private Duration maxLatency = Duration.ofSeconds(2);
+
+        /** Window over which the no-load (minimum) RTT is tracked. */
+        private Duration minRttWindow = Duration.ofSeconds(30);
+
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    }
+
+    @Data
+    public static class CircuitBreaker {
+
+        /** Outcomes kept in the sliding window. */
+        private int windowSize = 50;
+
+        /** Calls needed in the window before the failure rate is evaluated. */
+        private int minimumCalls = 20;
+
+        private double failureRateThreshold = 0.5;
+
+        private Duration openDuration = Duration.ofSeconds(5);
+
+        /** Trial calls let through while half-open. */
+        private int halfOpenCalls = 5;
+    }
+}
@@ -0,0 +1,80 @@
+package com.fleetmanager.gateway.resilience;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for one route: a circuit breaker in front of an adaptive
+ * concurrency limit. Every admitted call must end in exactly one of
+ * {@link #onComplete} or {@link #onCancel}.
+ */
+public class RouteGuard {
+
+    public enum Decision { ADMITTED, LIMITED, CIRCUIT_OPEN }
+
+    public enum Outcome {
+        SUCCESS,
+        /** The downstream answered with a server error; trips the breaker but says nothing about load. */
+        FAILURE,
+        /** Timeout, connection error, 503 or 504; also backs the concurrency limit off. */
+        OVERLOAD
+    }
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final CircuitBreaker circuitBreaker;
+    private final long openNanos;
+    private final LongAdder shedLimited = new LongAdder();
+    private final LongAdder shedCircuitOpen = new LongAdder();
+
+    public RouteGuard(ResilienceProperties.Settings settings, long now) {
+        this.limit = new AdaptiveConcurrencyLimit(settings, now);
+        this.circuitBreaker = new CircuitBreaker(settings.getCircuitBreaker());
+        this.openNanos = settings.getCircuitBreaker().getOpenDuration().toNanos();
+    }
+
+    public Decision tryAcquire(long now) {
+        if (!circuitBreaker.tryAcquire(now)) {
+            shedCircuitOpen.increment();
+            return Decision.CIRCUIT_OPEN;
+        }
+        if (!limit.tryAcquire()) {
+            circuitBreaker.onIgnored();
+            shedLimited.increment();
+            return Decision.LIMITED;
+        }
+        return Decision.ADMITTED;
+    }
+
+    public void onComplete(long rttNanos, Outcome outcome, long now) {
+        limit.release(rttNanos, outcome == Outcome.OVERLOAD, now);
+        circuitBreaker.onResult(outcome != Outcome.SUCCESS, now);
+    }
+
+    public void onCancel() {
+        limit.releaseIgnored();
+        circuitBreaker.onIgnored();
+    }
+
+    public long openNanos() {
+        return openNanos;
+    }
+
+    public RouteGuardSnapshot snapshot() {
+        return new RouteGuardSnapshot(
+                limit.limit(),
+                limit.inFlight(),
+                limit.minRttNanos() / 1_000_000.0,
+                limit.windowRttNanos() / 1_000_000.0,
+                circuitBreaker.state(),
+                circuitBreaker.failureRate(),
+                shedLimited.sum(),
+                shedCircuitOpen.sum());
+    }
+
+    AdaptiveConcurrencyLimit limit() {
+        return limit;
+    }
+
+    CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,34 @@
+package com.fleetmanager.gateway.resilience;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/routeguards}: concurrency limit, in-flight count, RTT estimates and
+ * circuit state of every route that has seen traffic. Like the rest of actuator it is
+ * served on the internal management port only, never on the public gateway port.
+ */
+@Component
+@Endpoint(id = "routeguards")
+public class RouteGuardEndpoint {
+
+    private final RouteGuardRegistry registry;
+
+    public RouteGuardEndpoint(RouteGuardRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, RouteGuardSnapshot> routeGuards() {
+        return registry.snapshots();
+    }
+
+    @ReadOperation
+    public RouteGuardSnapshot routeGuard(@Selector String routeId) {
+        return registry.snapshot(routeId);
+    }
+}
@@ -0,0 +1,90 @@
+package com.fleetmanager.gateway.resilience;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * One {@link RouteGuard} per route id, created on the route's first request with the
+ * settings from {@code gateway.resilience}.
+ */
+@Component
+public class RouteGuardRegistry {
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, RouteGuard> guards = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RouteGuardRegistry(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    public RouteGuardRegistry(ResilienceProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public RouteGuard guard(String routeId) {
+        RouteGuard guard = guards.get(routeId);
+        return guard != null ? guard : guards.computeIfAbsent(routeId, this::create);
+    }
+
+    public long now() {
+        return nanoClock.getAsLong();
+    }
+
+    /** @return snapshots of every guard created so far, keyed by route id */
+    public Map<String, RouteGuardSnapshot> snapshots() {
+        Map<String, RouteGuardSnapshot> snapshots = new TreeMap<>();
+        guards.forEach((routeId, guard) -> snapshots.put(routeId, guard.snapshot()));
+        return snapshots;
+    }
+
+    public RouteGuardSnapshot snapshot(String routeId) {
+        RouteGuard guard = guards.get(routeId);
+        return guard == null ? null : guard.snapshot();
+    }
+
+    private RouteGuard create(String routeId) {
+        RouteGuard guard = new RouteGuard(properties.settingsFor(routeId), nanoClock.getAsLong());
+
+        Gauge.builder("gateway.route.concurrency.limit", guard, g -> g.limit().limit())
+                .description("Current adaptive concurrency limit of the route")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.route.concurrency.in_flight", guard, g -> g.limit().inFlight())
+                .description("Requests currently admitted to the route")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.route.circuit.open", guard,
+                        g -> g.circuitBreaker().state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("1 while the route's circuit breaker is open or half-open")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.route.shed", guard, g -> g.snapshot().shedLimited())
+                .description("Requests rejected with 503 before reaching the downstream")
+                .tags("route", routeId, "reason", "limit")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.route.shed", guard, g -> g.snapshot().shedCircuitOpen())
+                .description("Requests rejected with 503 before reaching the downstream")
+                .tags("route", routeId, "reason", "circuit_open")
+                .register(meterRegistry);
+        return guard;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fleetmanager.gateway.resilience;
+
+/**
+ * Point-in-time view of a {@link RouteGuard}, as served by {@link RouteGuardEndpoint}.
+ */
+public record RouteGuardSnapshot(
+        int limit,
+        int inFlight,
+        double minRttMillis,
+        double windowRttMillis,
+        CircuitBreaker.State circuitState,
+        double failureRate,
+        long shedLimited,
+        long shedCircuitOpen) {
+}
@@ -0,0 +1,120 @@
+package com.fleetmanager.gateway.security;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.common.security.JwtVerifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bounded cache of already verified JWT principals.
+ *
+ * Entries are keyed by the SHA-256 digest of the raw token (the token itself is never
+ * retained) and expire no later than the token's own {@code exp} claim, so a repeat
+ * request with the same bearer token skips HMAC verification entirely.
+ * Only successfully verified tokens are cached.
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    });
+
+    private final JwtVerifier jwtVerifier;
+    private final Cache<TokenDigest, JwtPrincipal> cache;
+
+    public VerifiedClaimsCache(
+            JwtVerifier jwtVerifier,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.max-ttl:5m}") Duration maxTtl
+    ) {
+        this.jwtVerifier = jwtVerifier;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.jwt.claims");
+    }
+
+    /**
+     * Returns the verified principal for the token, parsing it at most once per cache lifetime.
+     *
+     * @throws JwtException if the token is malformed, badly signed, expired or has no expiry
+     */
+    public JwtPrincipal verify(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+
+        JwtPrincipal cached = cache.getIfPresent(digest);
+        if (cached != null && !cached.isExpiredAt(Instant.now())) {
+            return cached;
+        }
+
+        JwtPrincipal principal = jwtVerifier.verify(token);
+        cache.put(digest, principal);
+        return principal;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Caps every entry at the remaining lifetime of its token.
+     */
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<TokenDigest, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, JwtPrincipal principal, long currentTime) {
+            long remainingNanos = Duration.between(Instant.now(), principal.getExpiresAt()).toNanos();
+            return Math.max(0, Math.min(maxTtlNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Full 256-bit token digest packed into four longs.
+     */
+    record TokenDigest(long a, long b, long c, long d) {
+
+        static TokenDigest of(String token) {
+            MessageDigest md = SHA_256.get();
+            md.reset();
+            ByteBuffer hash = ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.fleetmanager.gateway.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AccessLogRingBufferTest {
+
+    private static AccessLogEntry entry(long n) {
+        return new AccessLogEntry(n, "GET", "/api/vehicles", "fleet-service", 200, n, null);
+    }
+
+    @Test
+    void capacity_isRoundedUpToPowerOfTwo() {
+        assertThat(new AccessLogRingBuffer(1000).capacity()).isEqualTo(1024);
+        assertThat(new AccessLogRingBuffer(1024).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    void fullBuffer_dropsInsteadOfBlocking() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(entry(i))).isTrue();
+        }
+        assertThat(buffer.offer(entry(4))).isFalse();
+        assertThat(buffer.droppedCount()).isEqualTo(1);
+
+        List<Long> drained = new ArrayList<>();
+        buffer.drain(e -> drained.add(e.timestampMillis()), Integer.MAX_VALUE);
+        assertThat(drained).containsExactly(0L, 1L, 2L, 3L);
+
+        // slots are reusable after a drain
+        assertThat(buffer.offer(entry(5))).isTrue();
+    }
+
+    @Test
+    void concurrentProducers_everyAcceptedEntryIsDrainedOnce() throws Exception {
+        int producers = 8;
+        int perProducer = 20_000;
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1024);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(entry(base + i))) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        Set<Long> seen = new HashSet<>();
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drain(e -> assertThat(seen.add(e.timestampMillis())).isTrue(), 512);
+        }
+        pool.shutdown();
+
+        assertThat(seen).hasSize(producers * perProducer);
+    }
+}
@@ -0,0 +1,102 @@
+package com.fleetmanager.gateway.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.common.security.JwtVerifier;
+import com.fleetmanager.gateway.security.VerifiedClaimsCache;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Per-request JWT cost at the gateway.
+ *
+ * <ul>
+ *   <li>{@code legacyTripleParse} – the pre-cache filter: validateToken + isTokenExpired +
+ *       extractClaims, each building a fresh parser and verifying the HMAC.</li>
+ *   <li>{@code singleParse} – one verification with the shared parser (cache miss path).</li>
+ *   <li>{@code cachedVerify} – repeat request with the same bearer token (cache hit path).</li>
+ * </ul>
+ *
+ * Run with: {@code mvn -pl api-gateway test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.fleetmanager.gateway.benchmark.JwtVerificationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "YWHx2ms0eGJhYlN6TkJqbENBblUyTktWbEZka3NaNElvNkliZlJ3czZ1skhqbdjqw";
+
+    private Key key;
+    private String token;
+    private JwtVerifier jwtVerifier;
+    private VerifiedClaimsCache claimsCache;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtVerifier = new JwtVerifier(SECRET);
+        claimsCache = new VerifiedClaimsCache(jwtVerifier, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5));
+        token = Jwts.builder()
+                .setSubject("admin@fleetcorp.com")
+                .claim("user_id", 42L)
+                .claim("tenant_id", 101L)
+                .claim("role", "MANAGER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        claimsCache.verify(token);
+    }
+
+    @Benchmark
+    public Object legacyTripleParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Date exp = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().getExpiration();
+        if (exp == null || exp.before(new Date())) {
+            throw new IllegalStateException("expired");
+        }
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public JwtPrincipal singleParse() {
+        return jwtVerifier.verify(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedVerify() {
+        return claimsCache.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,84 @@
+package com.fleetmanager.gateway.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+
+import reactor.core.publisher.Flux;
+
+class BodyCaptureResponseDecoratorTest {
+
+    private static final int MAX_BYTES = 16;
+
+    private final MockServerHttpResponse client = new MockServerHttpResponse();
+    private final List<CapturedResponse> captures = new ArrayList<>();
+    private final BodyCaptureResponseDecorator decorator =
+            new BodyCaptureResponseDecorator(client, MAX_BYTES, captures::add);
+
+    private static Flux<DataBuffer> chunks(String... chunks) {
+        return Flux.fromArray(chunks)
+                .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void chunkedBodyWithinLimit_isCapturedAndForwarded() {
+        decorator.setStatusCode(HttpStatus.OK);
+
+        decorator.writeWith(chunks("{\"a\":", "1,", "\"b\":2}")).block();
+
+        assertThat(client.getBodyAsString().block()).isEqualTo("{\"a\":1,\"b\":2}");
+        assertThat(captures).singleElement().satisfies(captured -> {
+            assertThat(captured.status()).isEqualTo(HttpStatus.OK);
+            assertThat(new String(captured.body(), StandardCharsets.UTF_8)).isEqualTo("{\"a\":1,\"b\":2}");
+        });
+    }
+
+    @Test
+    void bodyLargerThanMaxBytes_isForwardedWhole_butNotCaptured() {
+        decorator.setStatusCode(HttpStatus.OK);
+
+        decorator.writeWith(chunks("0123456789", "abcdefghij", "KLMNOPQRST")).block();
+
+        assertThat(client.getBodyAsString().block()).isEqualTo("0123456789abcdefghijKLMNOPQRST");
+        assertThat(captures).isEmpty();
+    }
+
+    @Test
+    void declaredContentLengthOverMaxBytes_skipsCapture() {
+        decorator.setStatusCode(HttpStatus.OK);
+        decorator.getHeaders().setContentLength(30);
+
+        decorator.writeWith(chunks("0123456789", "abcdefghij", "KLMNOPQRST")).block();
+
+        assertThat(client.getBodyAsString().block()).isEqualTo("0123456789abcdefghijKLMNOPQRST");
+        assertThat(captures).isEmpty();
+    }
+
+    @Test
+    void failedUpstreamBody_isNotCaptured() {
+        decorator.setStatusCode(HttpStatus.OK);
+
+        Flux<DataBuffer> truncated = chunks("{\"a\":").concatWith(Flux.error(new IllegalStateException("reset")));
+
+        assertThatThrownBy(() -> decorator.writeWith(truncated).block()).hasMessageContaining("reset");
+        assertThat(captures).isEmpty();
+    }
+
+    @Test
+    void emptyBody_isCaptured() {
+        decorator.setStatusCode(HttpStatus.OK);
+
+        decorator.writeWith(Flux.empty()).block();
+
+        assertThat(captures).singleElement().satisfies(captured -> assertThat(captured.body()).isEmpty());
+    }
+}
@@ -0,0 +1,32 @@
+package com.fleetmanager.gateway.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+class ResponseCacheKeyTest {
+
+    private static String normalized(String uri) {
+        return ResponseCacheKey.normalizeQuery(MockServerHttpRequest.get(uri).build().getQueryParams());
+    }
+
+    @Test
+    void parameterOrder_doesNotMatter() {
+        assertThat(normalized("/api/vehicles?status=ACTIVE&page=2"))
+                .isEqualTo(normalized("/api/vehicles?page=2&status=ACTIVE"))
+                .isEqualTo("page=2&status=ACTIVE");
+    }
+
+    @Test
+    void orderOfRepeatedValues_isKept() {
+        assertThat(normalized("/api/vehicles?sort=make&page=1&sort=year")).isEqualTo("page=1&sort=make&sort=year");
+        assertThat(normalized("/api/vehicles?sort=year&sort=make")).isEqualTo("sort=year&sort=make");
+    }
+
+    @Test
+    void valuelessParameter_isNormalizedToEmpty() {
+        assertThat(normalized("/api/vehicles?active")).isEqualTo("active=");
+        assertThat(normalized("/api/vehicles")).isEmpty();
+    }
+}
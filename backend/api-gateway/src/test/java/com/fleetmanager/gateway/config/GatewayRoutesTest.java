@@ -0,0 +1,110 @@
+package com.fleetmanager.gateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.cloud.gateway.handler.predicate.PathRoutePredicateFactory;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.fleetmanager.common.security.JwtVerifier;
+import com.fleetmanager.gateway.filter.JwtAuthenticationFilter;
+import com.fleetmanager.gateway.security.VerifiedClaimsCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * The routes declared in {@code application.yml}, matched the way the gateway matches
+ * them: first route, in declaration order, whose {@code Path} predicate accepts the request.
+ */
+class GatewayRoutesTest {
+
+    private final Binder binder = binder();
+    private final List<RouteDefinition> routes =
+            binder.bind("spring.cloud.gateway.routes", Bindable.listOf(RouteDefinition.class)).get();
+
+    private static Binder binder() {
+        try {
+            List<PropertySource<?>> yaml =
+                    new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"));
+            return new Binder(ConfigurationPropertySources.from(yaml), new PropertySourcesPlaceholdersResolver(yaml));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String routeFor(String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(path));
+        PathRoutePredicateFactory pathPredicate = new PathRoutePredicateFactory();
+
+        for (RouteDefinition route : routes) {
+            boolean matches = true;
+            for (PredicateDefinition predicate : route.getPredicates()) {
+                assertThat(predicate.getName()).isEqualTo("Path");
+                PathRoutePredicateFactory.Config config = pathPredicate.newConfig();
+                config.setPatterns(new ArrayList<>(predicate.getArgs().values()));
+                matches &= pathPredicate.apply(config).test(exchange);
+            }
+            if (matches) {
+                return route.getId();
+            }
+        }
+        return null;
+    }
+
+    @Test
+    void userManagement_isRoutedToTheAuthService() {
+        assertThat(routeFor("/api/users/import")).isEqualTo("auth-service");
+        assertThat(routeFor("/api/auth/login")).isEqualTo("auth-service");
+        assertThat(routeFor("/api/vehicles")).isEqualTo("fleet-service");
+        assertThat(routeFor("/api/userscsv")).isNull();
+    }
+
+    @Test
+    void actuator_isServedOnTheManagementPortOnly() {
+        assertThat(binder.bind("management.server.port", Integer.class).get())
+                .isNotEqualTo(binder.bind("server.port", Integer.class).get());
+        assertThat(binder.bind("management.endpoints.web.exposure.include", Bindable.listOf(String.class)).get())
+                .contains("metrics", "routeguards");
+        assertThat(routeFor("/actuator/metrics")).isNull();
+        assertThat(routeFor("/actuator/routeguards")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void userManagement_requiresAToken() {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                new VerifiedClaimsCache(new JwtVerifier("testtesttesttesttesttesttesttesttesttest"),
+                        new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)),
+                mock(ObjectProvider.class), 30);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/users/import"));
+        AtomicBoolean forwarded = new AtomicBoolean();
+
+        filter.filter(exchange, e -> {
+            forwarded.set(true);
+            return Mono.empty();
+        }).block();
+
+        assertThat(forwarded).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,111 @@
+package com.fleetmanager.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.fleetmanager.gateway.loadbalancer.InstanceLoadRegistry;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class InstanceLoadFilterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InstanceLoadRegistry registry = new InstanceLoadRegistry(Duration.ofSeconds(10), clock::get);
+    private final InstanceLoadFilter filter = new InstanceLoadFilter(registry);
+
+    private static ServiceInstance instance(int i) {
+        return new DefaultServiceInstance("fleet-" + i, "fleet-service", "10.0.0." + i, 8082, false);
+    }
+
+    private static MockServerWebExchange routedTo(ServiceInstance instance) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/vehicles"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                new DefaultResponse(instance));
+        return exchange;
+    }
+
+    @Test
+    void completedCall_releasesTheSlotAndRecordsItsLatency() {
+        ServiceInstance instance = instance(0);
+        Sinks.Empty<Void> upstream = Sinks.empty();
+
+        filter.filter(routedTo(instance), e -> upstream.asMono()).subscribe();
+        assertThat(registry.stats(instance).inFlight()).isEqualTo(1);
+
+        clock.addAndGet(40 * MS);
+        upstream.tryEmitEmpty();
+
+        assertThat(registry.stats(instance).inFlight()).isZero();
+        assertThat(registry.stats(instance).score(clock.get())).isEqualTo(40 * MS);
+    }
+
+    @Test
+    void cancelledCall_releasesTheSlotWithoutASample() {
+        ServiceInstance instance = instance(0);
+
+        Disposable request = filter.filter(routedTo(instance), e -> Mono.never()).subscribe();
+        assertThat(registry.stats(instance).inFlight()).isEqualTo(1);
+
+        clock.addAndGet(5_000 * MS);
+        request.dispose(); // client went away
+
+        assertThat(registry.stats(instance).inFlight()).isZero();
+        assertThat(registry.stats(instance).score(clock.get())).isZero();
+    }
+
+    @Test
+    void failedCall_countsItsElapsedTime() {
+        ServiceInstance instance = instance(0);
+
+        filter.filter(routedTo(instance), e -> Mono.defer(() -> {
+            clock.addAndGet(2_000 * MS);
+            return Mono.error(new IllegalStateException("connection reset"));
+        })).onErrorResume(ex -> Mono.empty()).block();
+
+        assertThat(registry.stats(instance).inFlight()).isZero();
+        assertThat(registry.stats(instance).score(clock.get())).isEqualTo(2_000 * MS);
+    }
+
+    @Test
+    void statsOfDeregisteredInstances_areEvicted_whileLiveOnesAreKept() {
+        ServiceInstance kept = instance(0);
+        ServiceInstance gone = instance(1);
+        ServiceInstance auth = new DefaultServiceInstance("auth-0", "auth-service", "10.0.1.1", 8081, false);
+        registry.retain("fleet-service", List.of(kept, gone));
+        registry.stats(kept).start();
+        registry.stats(gone).start();
+        registry.stats(auth).start();
+
+        registry.retain("fleet-service", List.of(kept));
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.stats(kept).inFlight()).isEqualTo(1);
+        assertThat(registry.stats(auth).inFlight()).isEqualTo(1);
+        assertThat(registry.stats(gone).inFlight()).isZero(); // fresh entry
+    }
+
+    @Test
+    void unbalancedRoutes_areLeftAlone() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        filter.filter(exchange, e -> Mono.empty()).block();
+
+        assertThat(registry.size()).isZero();
+    }
+}
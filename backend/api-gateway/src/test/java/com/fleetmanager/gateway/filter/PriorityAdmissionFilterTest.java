@@ -0,0 +1,166 @@
+package com.fleetmanager.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.priority.PriorityProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class PriorityAdmissionFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static PriorityProperties properties() {
+        PriorityProperties properties = new PriorityProperties();
+        properties.setMaxConcurrent(1);
+        properties.setDefaultClass("standard");
+        properties.getClasses().put("critical", requestClass(100));
+        properties.getClasses().put("standard", requestClass(20));
+        properties.getClasses().put("bulk", requestClass(0));
+        properties.getRules().add(rule("critical", List.of("/api/auth/login"), List.of()));
+        properties.getRules().add(rule("bulk", List.of("/api/**/export/**"), List.of()));
+        properties.getRules().add(rule("bulk", List.of("/api/dashboard/**"), List.of("DRIVER")));
+        return properties;
+    }
+
+    private static PriorityProperties.RequestClass requestClass(int priority) {
+        PriorityProperties.RequestClass config = new PriorityProperties.RequestClass();
+        config.setPriority(priority);
+        config.setSheddable(priority == 0);
+        config.setMaxWait(Duration.ofSeconds(5));
+        return config;
+    }
+
+    private static PriorityProperties.Rule rule(String requestClass, List<String> paths, List<String> roles) {
+        PriorityProperties.Rule rule = new PriorityProperties.Rule();
+        rule.setRequestClass(requestClass);
+        rule.setPaths(paths);
+        rule.setRoles(roles);
+        return rule;
+    }
+
+    private static MockServerWebExchange exchange(String path, String role) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        if (role != null) {
+            exchange.getAttributes().put(JwtAuthenticationFilter.PRINCIPAL_ATTR,
+                    new JwtPrincipal("user@tenant", 1L, 100L, role, Instant.now().plusSeconds(60)));
+        }
+        return exchange;
+    }
+
+    /** The admission filter as the gateway runs it: inside the permit release, which also wraps the body write. */
+    private static Mono<Void> admit(PriorityAdmissionFilter filter, MockServerWebExchange exchange,
+                                    GatewayFilterChain upstream, Mono<Void> bodyWrite) {
+        return new PriorityPermitReleaseFilter().filter(exchange, e -> filter.filter(e, upstream).then(bodyWrite));
+    }
+
+    private static Mono<Void> admit(PriorityAdmissionFilter filter, MockServerWebExchange exchange,
+                                    GatewayFilterChain upstream) {
+        return admit(filter, exchange, upstream, Mono.empty());
+    }
+
+    private static String classOf(PriorityAdmissionFilter filter, MockServerWebExchange exchange) {
+        admit(filter, exchange, e -> Mono.empty()).block();
+        return exchange.getAttribute(PriorityAdmissionFilter.REQUEST_CLASS_ATTR);
+    }
+
+    @Test
+    void requestsAreClassifiedByPathAndRole() {
+        PriorityAdmissionFilter filter = new PriorityAdmissionFilter(properties(), meterRegistry);
+
+        assertThat(classOf(filter, exchange("/api/auth/login", null))).isEqualTo("critical");
+        assertThat(classOf(filter, exchange("/api/vehicles/export/csv", "MANAGER"))).isEqualTo("bulk");
+        assertThat(classOf(filter, exchange("/api/dashboard/summary", "DRIVER"))).isEqualTo("bulk");
+        assertThat(classOf(filter, exchange("/api/dashboard/summary", "MANAGER"))).isEqualTo("standard");
+        assertThat(classOf(filter, exchange("/api/vehicles/7", "MANAGER"))).isEqualTo("standard");
+    }
+
+    @Test
+    void whenSaturated_loginEvictsQueuedExportAndRunsNext() {
+        PriorityAdmissionFilter filter = new PriorityAdmissionFilter(properties(), meterRegistry);
+        Sinks.Empty<Void> upstream = Sinks.empty();
+
+        admit(filter, exchange("/api/vehicles/7", "MANAGER"), e -> upstream.asMono()).subscribe();
+
+        MockServerWebExchange export = exchange("/api/vehicles/export/csv", "MANAGER");
+        Mono<Void> exportCall = admit(filter, export, e -> Mono.empty()).cache();
+        exportCall.subscribe();
+
+        MockServerWebExchange login = exchange("/api/auth/login", null);
+        Mono<Void> loginCall = admit(filter, login, e -> {
+            e.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        }).cache();
+        loginCall.subscribe();
+
+        exportCall.block(Duration.ofSeconds(1));
+        assertThat(export.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(meterRegistry.get("gateway.priority.shed")
+                .tags("class", "bulk", "reason", "evicted").counter().count()).isEqualTo(1);
+
+        upstream.tryEmitEmpty();
+        loginCall.block(Duration.ofSeconds(1));
+        assertThat(login.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(meterRegistry.get("gateway.priority.in_flight").tag("class", "critical").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void permitIsHeldUntilASlowlyStreamedBodyIsWritten() {
+        PriorityAdmissionFilter filter = new PriorityAdmissionFilter(properties(), meterRegistry);
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+
+        // upstream headers arrive at once; the body is written afterwards, as NettyWriteResponseFilter does
+        MockServerWebExchange download = exchange("/api/vehicles/7", "MANAGER");
+        Mono<Void> downloadCall = admit(filter, download, e -> Mono.empty(),
+                Mono.defer(() -> download.getResponse().writeWith(body.asFlux()))).cache();
+        downloadCall.subscribe();
+        body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap(new byte[] { 1 }));
+
+        MockServerWebExchange next = exchange("/api/vehicles/8", "MANAGER");
+        Mono<Void> nextCall = admit(filter, next, e -> Mono.empty()).cache();
+        nextCall.subscribe();
+
+        assertThat(inFlight("standard")).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.priority.queued").tag("class", "standard").gauge().value())
+                .isEqualTo(1);
+
+        body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap(new byte[] { 2 }));
+        body.tryEmitComplete();
+        downloadCall.block(Duration.ofSeconds(1));
+        nextCall.block(Duration.ofSeconds(1));
+
+        assertThat(next.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(inFlight("standard")).isZero();
+    }
+
+    @Test
+    void failedUpstreamCall_releasesThePermit() {
+        PriorityAdmissionFilter filter = new PriorityAdmissionFilter(properties(), meterRegistry);
+
+        filter.filter(exchange("/api/vehicles/7", "MANAGER"), e -> Mono.error(new IllegalStateException("reset")))
+                .onErrorResume(IllegalStateException.class, ex -> Mono.empty())
+                .block();
+
+        assertThat(inFlight("standard")).isZero();
+    }
+
+    private double inFlight(String requestClass) {
+        return meterRegistry.get("gateway.priority.in_flight").tag("class", requestClass).gauge().value();
+    }
+}
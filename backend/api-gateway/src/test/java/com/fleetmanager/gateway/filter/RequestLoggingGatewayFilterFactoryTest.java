@@ -0,0 +1,94 @@
+package com.fleetmanager.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.fleetmanager.gateway.accesslog.AccessLogDrainer;
+import com.fleetmanager.gateway.accesslog.AccessLogProperties;
+import com.fleetmanager.gateway.accesslog.RouteLatencyMetrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class RequestLoggingGatewayFilterFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AccessLogProperties properties = new AccessLogProperties();
+
+    private GatewayFilter filter() {
+        return new RequestLoggingGatewayFilterFactory(
+                new AccessLogDrainer(properties, meterRegistry),
+                properties,
+                new RouteLatencyMetrics(meterRegistry))
+                .apply(new RequestLoggingGatewayFilterFactory.Config());
+    }
+
+    private MockServerWebExchange exchange(String routeId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/vehicles"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId)
+                .uri(URI.create("lb://fleet-service"))
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+
+    @Test
+    void latency_isRecordedPerRouteAndOutcome() {
+        GatewayFilter filter = filter();
+
+        MockServerWebExchange ok = exchange("fleet-service");
+        filter.filter(ok, e -> {
+            e.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        }).block();
+
+        MockServerWebExchange failed = exchange("fleet-service");
+        filter.filter(failed, e -> {
+            e.getResponse().setStatusCode(HttpStatus.BAD_GATEWAY);
+            return Mono.empty();
+        }).block();
+
+        Timer success = meterRegistry.get(RouteLatencyMetrics.METER_NAME)
+                .tag("route", "fleet-service").tag("outcome", "SUCCESS").timer();
+        Timer serverError = meterRegistry.get(RouteLatencyMetrics.METER_NAME)
+                .tag("route", "fleet-service").tag("outcome", "SERVER_ERROR").timer();
+
+        assertThat(success.count()).isEqualTo(1);
+        assertThat(serverError.count()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroSampleRate_skipsAccessLogButKeepsLatency() {
+        properties.getRoutes().put("auth-swagger-ui", 0.0);
+        GatewayFilter filter = filter();
+
+        filter.filter(exchange("auth-swagger-ui"), e -> {
+            e.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        }).block();
+
+        assertThat(meterRegistry.get("gateway.access_log.buffered").gauge().value()).isZero();
+        assertThat(meterRegistry.get(RouteLatencyMetrics.METER_NAME)
+                .tag("route", "auth-swagger-ui").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sampledRequest_isBufferedForTheDrainer() {
+        GatewayFilter filter = filter();
+
+        filter.filter(exchange("fleet-service"), e -> Mono.empty()).block();
+
+        assertThat(meterRegistry.get("gateway.access_log.buffered").gauge().value()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,178 @@
+package com.fleetmanager.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.accesslog.AccessLogDrainer;
+import com.fleetmanager.gateway.accesslog.AccessLogProperties;
+import com.fleetmanager.gateway.accesslog.RouteLatencyMetrics;
+import com.fleetmanager.gateway.cache.ResponseCacheProperties;
+import com.fleetmanager.gateway.cache.TenantResponseCache;
+import com.fleetmanager.gateway.ratelimit.RateLimitProperties;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * The fleet-service route's filters composed the way the route locator does it: the
+ * default filters, then the route's own, each ordered by its explicit order or else by
+ * its position, then sorted. Cache hits and coalesced followers must still pass the
+ * access log and the tenant rate limiter.
+ */
+class RouteFilterOrderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final List<GatewayFilter> filters = fleetServiceRoute();
+
+    private List<GatewayFilter> fleetServiceRoute() {
+        AccessLogProperties accessLog = new AccessLogProperties();
+        GatewayFilter requestLogging = new RequestLoggingGatewayFilterFactory(
+                new AccessLogDrainer(accessLog, meterRegistry), accessLog, new RouteLatencyMetrics(meterRegistry))
+                .apply(new RequestLoggingGatewayFilterFactory.Config());
+
+        RateLimitProperties.Group vehicles = new RateLimitProperties.Group();
+        vehicles.setPath("/api/vehicles/**");
+        vehicles.setCapacity(2);
+        vehicles.setRefillPerSecond(0.001);
+        RateLimitProperties rateLimit = new RateLimitProperties();
+        rateLimit.getGroups().put("vehicles", vehicles);
+        GatewayFilter tenantContext = new TenantContextFilter(rateLimit, meterRegistry)
+                .apply(new TenantContextFilter.Config());
+
+        ResponseCacheProperties cacheProperties = new ResponseCacheProperties();
+        TenantResponseCache cache = new TenantResponseCache(cacheProperties, meterRegistry);
+        TenantResponseCacheGatewayFilterFactory.Config cacheConfig = new TenantResponseCacheGatewayFilterFactory.Config();
+        cacheConfig.setTtl(Duration.ofMinutes(1));
+        GatewayFilter responseCache = new TenantResponseCacheGatewayFilterFactory(cache, cacheProperties)
+                .apply(cacheConfig);
+
+        SingleFlightGatewayFilterFactory.Config singleFlightConfig = new SingleFlightGatewayFilterFactory.Config();
+        singleFlightConfig.setMaxWait(Duration.ofSeconds(5));
+        GatewayFilter singleFlight = new SingleFlightGatewayFilterFactory(cache, meterRegistry)
+                .apply(singleFlightConfig);
+
+        List<GatewayFilter> route = new ArrayList<>(positioned(List.of(requestLogging)));
+        route.addAll(positioned(List.of(tenantContext, responseCache, singleFlight)));
+        AnnotationAwareOrderComparator.sort(route);
+        return route;
+    }
+
+    /** As {@code RouteDefinitionRouteLocator}: filters without an order get their 1-based position. */
+    private static List<GatewayFilter> positioned(List<GatewayFilter> filters) {
+        List<GatewayFilter> ordered = new ArrayList<>();
+        for (int i = 0; i < filters.size(); i++) {
+            GatewayFilter filter = filters.get(i);
+            ordered.add(filter instanceof Ordered ? filter : new OrderedGatewayFilter(filter, i + 1));
+        }
+        return ordered;
+    }
+
+    private Mono<Void> route(ServerWebExchange exchange, GatewayFilterChain upstream) {
+        return proceed(0, exchange, upstream);
+    }
+
+    private Mono<Void> proceed(int index, ServerWebExchange exchange, GatewayFilterChain upstream) {
+        if (index == filters.size()) {
+            return upstream.filter(exchange);
+        }
+        return filters.get(index).filter(exchange, e -> proceed(index + 1, e, upstream));
+    }
+
+    private Mono<Void> upstream(ServerWebExchange exchange, Mono<Void> ready) {
+        upstreamCalls.incrementAndGet();
+        return ready.then(Mono.defer(() -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        }));
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/vehicles"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("fleet-service")
+                .uri(URI.create("lb://fleet-service"))
+                .predicate(e -> true)
+                .build());
+        exchange.getAttributes().put(JwtAuthenticationFilter.PRINCIPAL_ATTR,
+                new JwtPrincipal("user@tenant", 1L, 100L, "MANAGER", Instant.now().plusSeconds(60)));
+        return exchange;
+    }
+
+    private double accessLogEntries() {
+        return meterRegistry.get("gateway.access_log.buffered").gauge().value();
+    }
+
+    private long latencySamples() {
+        return meterRegistry.get(RouteLatencyMetrics.METER_NAME).tag("route", "fleet-service").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    @Test
+    void cacheHits_areLoggedTimedAndCountedAgainstTheTenantBucket() {
+        MockServerWebExchange miss = exchange();
+        route(miss, e -> upstream(e, Mono.empty())).block();
+        MockServerWebExchange hit = exchange();
+        route(hit, e -> upstream(e, Mono.empty())).block();
+
+        assertThat(hit.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(accessLogEntries()).isEqualTo(2.0);
+        assertThat(latencySamples()).isEqualTo(2);
+
+        // both tokens spent, the miss's and the hit's
+        MockServerWebExchange limited = exchange();
+        route(limited, e -> upstream(e, Mono.empty())).block();
+
+        assertThat(limited.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(accessLogEntries()).isEqualTo(3.0);
+        assertThat(latencySamples()).isEqualTo(3);
+    }
+
+    @Test
+    void coalescedFollowers_areLoggedTimedAndCountedAgainstTheTenantBucket() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        List<Mono<Void>> calls = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MockServerWebExchange exchange = exchange();
+            exchanges.add(exchange);
+            calls.add(route(exchange, e -> upstream(e, release.asMono())).cache());
+        }
+        calls.forEach(Mono::subscribe);
+        release.tryEmitEmpty();
+        Flux.merge(calls).blockLast(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(exchanges.get(1).getResponse().getHeaders().getFirst("X-Coalesced")).isEqualTo("true");
+        assertThat(exchanges.get(2).getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(accessLogEntries()).isEqualTo(3.0);
+        assertThat(latencySamples()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,91 @@
+package com.fleetmanager.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.fleetmanager.gateway.resilience.CircuitBreaker;
+import com.fleetmanager.gateway.resilience.ResilienceProperties;
+import com.fleetmanager.gateway.resilience.RouteGuard;
+import com.fleetmanager.gateway.resilience.RouteGuardRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class RouteGuardFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResilienceProperties properties = new ResilienceProperties();
+    private final RouteGuardRegistry registry = new RouteGuardRegistry(properties, meterRegistry, clock::get);
+    private final RouteGuardFilter filter = new RouteGuardFilter(registry);
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/vehicles"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("fleet-service")
+                .uri(URI.create("lb://fleet-service"))
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+
+    @Test
+    void requestsBeyondTheLimit_areShedWith503() {
+        properties.getDefaults().setInitialLimit(2);
+        properties.getDefaults().setMinLimit(1);
+        Sinks.Empty<Void> upstream = Sinks.empty();
+
+        filter.filter(exchange(), e -> upstream.asMono()).subscribe();
+        filter.filter(exchange(), e -> upstream.asMono()).subscribe();
+
+        MockServerWebExchange third = exchange();
+        filter.filter(third, e -> Mono.error(new AssertionError("must not reach upstream"))).block();
+
+        assertThat(third.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(third.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(registry.snapshot("fleet-service").inFlight()).isEqualTo(2);
+        assertThat(registry.snapshot("fleet-service").shedLimited()).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.route.shed").tag("reason", "limit").functionCounter().count())
+                .isEqualTo(1);
+
+        upstream.tryEmitEmpty();
+        assertThat(registry.snapshot("fleet-service").inFlight()).isZero();
+    }
+
+    @Test
+    void repeatedUpstreamTimeouts_openTheCircuit() {
+        properties.getDefaults().getCircuitBreaker().setMinimumCalls(5);
+        properties.getDefaults().getCircuitBreaker().setOpenDuration(Duration.ofSeconds(10));
+
+        for (int i = 0; i < 5; i++) {
+            filter.filter(exchange(), e -> Mono.error(new TimeoutException())).onErrorResume(ex -> Mono.empty()).block();
+        }
+        assertThat(registry.snapshot("fleet-service").circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        MockServerWebExchange shed = exchange();
+        filter.filter(shed, e -> Mono.error(new AssertionError("must not reach upstream"))).block();
+        assertThat(shed.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(shed.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+    }
+
+    @Test
+    void serverErrors_countAgainstTheBreakerButOnly503And504AsOverload() {
+        assertThat(RouteGuardFilter.outcomeOf(HttpStatus.OK)).isEqualTo(RouteGuard.Outcome.SUCCESS);
+        assertThat(RouteGuardFilter.outcomeOf(HttpStatus.NOT_FOUND)).isEqualTo(RouteGuard.Outcome.SUCCESS);
+        assertThat(RouteGuardFilter.outcomeOf(HttpStatus.INTERNAL_SERVER_ERROR)).isEqualTo(RouteGuard.Outcome.FAILURE);
+        assertThat(RouteGuardFilter.outcomeOf(HttpStatus.GATEWAY_TIMEOUT)).isEqualTo(RouteGuard.Outcome.OVERLOAD);
+    }
+}
@@ -0,0 +1,172 @@
+package com.fleetmanager.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.cache.ResponseCacheProperties;
+import com.fleetmanager.gateway.cache.TenantResponseCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class SingleFlightGatewayFilterFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    /** Upstream calls block on this until the test releases them. */
+    private final Sinks.Empty<Void> release = Sinks.empty();
+
+    private GatewayFilter filter(Duration maxWait) {
+        TenantResponseCache cache = new TenantResponseCache(new ResponseCacheProperties(), meterRegistry);
+        SingleFlightGatewayFilterFactory.Config config = new SingleFlightGatewayFilterFactory.Config();
+        config.setMaxWait(maxWait);
+        return new SingleFlightGatewayFilterFactory(cache, meterRegistry).apply(config);
+    }
+
+    private Mono<Void> upstream(ServerWebExchange exchange) {
+        return upstream(exchange, HttpStatus.OK, new HttpHeaders());
+    }
+
+    private Mono<Void> upstream(ServerWebExchange exchange, HttpStatus status, HttpHeaders headers) {
+        int call = upstreamCalls.incrementAndGet();
+        return release.asMono().then(Mono.defer(() -> {
+            exchange.getResponse().setStatusCode(status);
+            exchange.getResponse().getHeaders().putAll(headers);
+            byte[] body = ("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        }));
+    }
+
+    private MockServerWebExchange exchange(String path, long tenantId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        exchange.getAttributes().put(JwtAuthenticationFilter.PRINCIPAL_ATTR,
+                new JwtPrincipal("user@tenant", 1L, tenantId, "MANAGER", Instant.now().plusSeconds(60)));
+        return exchange;
+    }
+
+    private static String body(MockServerWebExchange exchange) {
+        return exchange.getResponse().getBodyAsString().block();
+    }
+
+    @Test
+    void concurrentIdenticalGets_shareOneUpstreamCall() {
+        GatewayFilter filter = filter(Duration.ofSeconds(5));
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        List<Mono<Void>> calls = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            MockServerWebExchange exchange = exchange("/api/vehicles?status=ACTIVE", 100L);
+            exchanges.add(exchange);
+            calls.add(filter.filter(exchange, this::upstream).cache());
+        }
+        calls.forEach(Mono::subscribe);
+        release.tryEmitEmpty();
+        Flux.merge(calls).blockLast(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(1);
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(body(exchange)).isEqualTo("{\"call\":1}");
+        }
+        assertThat(exchanges.get(4).getResponse().getHeaders().getFirst("X-Coalesced")).isEqualTo("true");
+        assertThat(meterRegistry.get("gateway.single_flight.collapse_ratio").gauge().value()).isEqualTo(0.8);
+    }
+
+    @Test
+    void differentTenants_areNotCoalesced() {
+        GatewayFilter filter = filter(Duration.ofSeconds(5));
+
+        Mono<Void> a = filter.filter(exchange("/api/vehicles", 100L), this::upstream).cache();
+        Mono<Void> b = filter.filter(exchange("/api/vehicles", 200L), this::upstream).cache();
+        a.subscribe();
+        b.subscribe();
+        release.tryEmitEmpty();
+        Flux.merge(a, b).blockLast(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void followerPastMaxWait_goesUpstreamItself() {
+        GatewayFilter filter = filter(Duration.ofMillis(50));
+
+        Mono<Void> leader = filter.filter(exchange("/api/vehicles", 100L), this::upstream).cache();
+        leader.subscribe();
+        MockServerWebExchange follower = exchange("/api/vehicles", 100L);
+        Mono<Void> followerCall = filter.filter(follower, this::upstream).cache();
+        followerCall.subscribe();
+
+        Mono.delay(Duration.ofMillis(200)).block();
+        release.tryEmitEmpty();
+        Flux.merge(leader, followerCall).blockLast(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(follower.getResponse().getHeaders().getFirst("X-Coalesced")).isNull();
+        assertThat(meterRegistry.get("gateway.single_flight.requests").tag("role", "fallback").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void errorsAndResponsesTheCacheWouldNotStore_areNotReplayedToFollowers() {
+        HttpHeaders sessionCookie = new HttpHeaders();
+        sessionCookie.add(HttpHeaders.SET_COOKIE, "SESSION=leader");
+        HttpHeaders noStore = new HttpHeaders();
+        noStore.setCacheControl("no-store");
+
+        assertFollowerGoesUpstream(HttpStatus.SERVICE_UNAVAILABLE, new HttpHeaders());
+        assertFollowerGoesUpstream(HttpStatus.OK, sessionCookie);
+        assertFollowerGoesUpstream(HttpStatus.OK, noStore);
+    }
+
+    private void assertFollowerGoesUpstream(HttpStatus leaderStatus, HttpHeaders leaderHeaders) {
+        GatewayFilter filter = filter(Duration.ofSeconds(5));
+        Sinks.Empty<Void> leaderRelease = Sinks.empty();
+        upstreamCalls.set(0);
+        release.tryEmitEmpty();
+
+        Mono<Void> leader = filter.filter(exchange("/api/vehicles", 100L),
+                e -> leaderRelease.asMono().then(upstream(e, leaderStatus, leaderHeaders))).cache();
+        leader.subscribe();
+        MockServerWebExchange follower = exchange("/api/vehicles", 100L);
+        Mono<Void> followerCall = filter.filter(follower, this::upstream).cache();
+        followerCall.subscribe();
+
+        leaderRelease.tryEmitEmpty();
+        Flux.merge(leader, followerCall).blockLast(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(follower.getResponse().getHeaders().containsKey(HttpHeaders.SET_COOKIE)).isFalse();
+        assertThat(follower.getResponse().getHeaders().getFirst("X-Coalesced")).isNull();
+        assertThat(body(follower)).isEqualTo("{\"call\":2}");
+    }
+
+    @Test
+    void nothingIsRetained_afterTheFlightCompletes() {
+        GatewayFilter filter = filter(Duration.ofSeconds(5));
+        release.tryEmitEmpty();
+
+        filter.filter(exchange("/api/vehicles", 100L), this::upstream).block();
+        filter.filter(exchange("/api/vehicles", 100L), this::upstream).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(meterRegistry.get("gateway.single_flight.in_flight").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,95 @@
+package com.fleetmanager.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.ratelimit.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class TenantContextFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger forwarded = new AtomicInteger();
+
+    private GatewayFilter filter() {
+        RateLimitProperties.Group vehicles = new RateLimitProperties.Group();
+        vehicles.setPath("/api/vehicles/**");
+        vehicles.setCapacity(2);
+        vehicles.setRefillPerSecond(0.5);
+
+        RateLimitProperties.Limit generous = new RateLimitProperties.Limit();
+        generous.setCapacity(10);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("vehicles", vehicles);
+        properties.getTenants().put(300L, Map.of("vehicles", generous));
+
+        return new TenantContextFilter(properties, meterRegistry).apply(new TenantContextFilter.Config());
+    }
+
+    private MockServerWebExchange call(GatewayFilter filter, String path, Long tenantId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        if (tenantId != null) {
+            exchange.getAttributes().put(JwtAuthenticationFilter.PRINCIPAL_ATTR,
+                    new JwtPrincipal("user@tenant", 1L, tenantId, "ADMIN", Instant.now().plusSeconds(60)));
+        }
+        filter.filter(exchange, e -> {
+            forwarded.incrementAndGet();
+            return Mono.empty();
+        }).block();
+        return exchange;
+    }
+
+    @Test
+    void overLimit_returns429WithRetryAfter() {
+        GatewayFilter filter = filter();
+
+        call(filter, "/api/vehicles", 100L);
+        call(filter, "/api/vehicles/7", 100L);
+        MockServerWebExchange rejected = call(filter, "/api/vehicles", 100L);
+
+        assertThat(forwarded).hasValue(2);
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(meterRegistry.get("gateway.rate_limit.rejected").tag("group", "vehicles").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void otherTenantsAndUnlimitedPaths_areNotAffected() {
+        GatewayFilter filter = filter();
+
+        for (int i = 0; i < 3; i++) {
+            call(filter, "/api/vehicles", 100L);
+        }
+        call(filter, "/api/vehicles", 200L);
+        call(filter, "/api/drivers", 100L);
+        call(filter, "/api/vehiclesx", 100L);
+
+        assertThat(forwarded).hasValue(5);
+    }
+
+    @Test
+    void tenantOverride_raisesLimit() {
+        GatewayFilter filter = filter();
+
+        for (int i = 0; i < 10; i++) {
+            call(filter, "/api/vehicles", 300L);
+        }
+
+        assertThat(forwarded).hasValue(10);
+    }
+}
@@ -0,0 +1,123 @@
+package com.fleetmanager.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.gateway.cache.ResponseCacheProperties;
+import com.fleetmanager.gateway.cache.TenantResponseCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class TenantResponseCacheGatewayFilterFactoryTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private String upstreamCacheControl;
+
+    private final GatewayFilter filter = filter();
+
+    private GatewayFilter filter() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        TenantResponseCache cache = new TenantResponseCache(properties, new SimpleMeterRegistry());
+
+        TenantResponseCacheGatewayFilterFactory.Config config = new TenantResponseCacheGatewayFilterFactory.Config();
+        config.setTtl(Duration.ofMinutes(1));
+        config.setPaths(List.of("/api/vehicles/**"));
+
+        return new TenantResponseCacheGatewayFilterFactory(cache, properties).apply(config);
+    }
+
+    private Mono<Void> upstream(ServerWebExchange exchange) {
+        int call = upstreamCalls.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        if (upstreamCacheControl != null) {
+            exchange.getResponse().getHeaders().setCacheControl(upstreamCacheControl);
+        }
+        byte[] body = ("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+    }
+
+    private MockServerWebExchange call(MockServerHttpRequest.BaseBuilder<?> request, long tenantId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(JwtAuthenticationFilter.PRINCIPAL_ATTR,
+                new JwtPrincipal("user@tenant", 1L, tenantId, "MANAGER", Instant.now().plusSeconds(60)));
+        filter.filter(exchange, this::upstream).block();
+        return exchange;
+    }
+
+    private static String body(MockServerWebExchange exchange) {
+        return exchange.getResponse().getBodyAsString().block();
+    }
+
+    @Test
+    void repeatedGet_isServedFromCache() {
+        MockServerWebExchange first = call(MockServerHttpRequest.get("/api/vehicles?status=ACTIVE&page=0"), 100L);
+        MockServerWebExchange second = call(MockServerHttpRequest.get("/api/vehicles?page=0&status=ACTIVE"), 100L);
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(body(second)).isEqualTo(body(first));
+    }
+
+    @Test
+    void entries_areScopedByTenant() {
+        call(MockServerHttpRequest.get("/api/vehicles"), 100L);
+        MockServerWebExchange other = call(MockServerHttpRequest.get("/api/vehicles"), 200L);
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(body(other)).isEqualTo("{\"call\":2}");
+    }
+
+    @Test
+    void write_invalidatesTenantEntries() {
+        call(MockServerHttpRequest.get("/api/vehicles"), 100L);
+        call(MockServerHttpRequest.post("/api/vehicles"), 100L);
+        MockServerWebExchange afterWrite = call(MockServerHttpRequest.get("/api/vehicles"), 100L);
+
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(afterWrite.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+    }
+
+    @Test
+    void noCacheRequest_bypassesLookupButRefreshesEntry() {
+        call(MockServerHttpRequest.get("/api/vehicles"), 100L);
+        call(MockServerHttpRequest.get("/api/vehicles").header(HttpHeaders.CACHE_CONTROL, "no-cache"), 100L);
+        MockServerWebExchange third = call(MockServerHttpRequest.get("/api/vehicles"), 100L);
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(body(third)).isEqualTo("{\"call\":2}");
+    }
+
+    @Test
+    void noStoreResponse_isNotCached() {
+        upstreamCacheControl = "no-store";
+
+        call(MockServerHttpRequest.get("/api/vehicles"), 100L);
+        call(MockServerHttpRequest.get("/api/vehicles"), 100L);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void pathsOutsideConfig_areNotCached() {
+        call(MockServerHttpRequest.get("/api/trips"), 100L);
+        call(MockServerHttpRequest.get("/api/trips"), 100L);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+}
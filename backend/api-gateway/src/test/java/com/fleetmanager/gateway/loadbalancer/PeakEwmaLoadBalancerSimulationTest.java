@@ -0,0 +1,147 @@
+package com.fleetmanager.gateway.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+/**
+ * Discrete-event simulation on a virtual clock: five fleet-service stand-ins under a
+ * steady 500 req/s, one of them deliberately slow or pausing. Compares the latency
+ * distribution of round robin with peak-EWMA power-of-two-choices.
+ */
+class PeakEwmaLoadBalancerSimulationTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int REQUESTS = 30_000;
+    private static final long ARRIVAL_INTERVAL = 2 * MS;
+
+    private static final List<ServiceInstance> INSTANCES = List.of(
+            instance(0), instance(1), instance(2), instance(3), instance(4));
+
+    /** Service time of an instance for a request arriving at a given virtual time. */
+    @FunctionalInterface
+    private interface ServiceModel {
+        long serviceTime(int instance, long arrival, Random random);
+    }
+
+    private record Completion(long at, ServiceInstance instance, long rtt) {
+    }
+
+    private static ServiceInstance instance(int i) {
+        return new DefaultServiceInstance("fleet-" + i, "fleet-service", "10.0.0." + i, 8082, false);
+    }
+
+    private static long base(Random random) {
+        return 15 * MS + (long) (random.nextDouble() * 10 * MS);
+    }
+
+    /** Instance 3 runs on a degraded node and always adds 200 ms. */
+    private static final ServiceModel SLOW_NODE = (i, t, random) ->
+            base(random) + (i == 3 ? 200 * MS : 0);
+
+    /** Instance 4 stops the world for 300 ms every 2 s; requests arriving in a pause wait it out. */
+    private static final ServiceModel GC_PAUSES = (i, t, random) -> {
+        long phase = t % (2_000 * MS);
+        return base(random) + (i == 4 && phase < 300 * MS ? 300 * MS - phase : 0);
+    };
+
+    private static ObjectProvider<ServiceInstanceListSupplier> supplier() {
+        return ServiceInstanceListSuppliers.toProvider("fleet-service", INSTANCES.toArray(new ServiceInstance[0]));
+    }
+
+    private static Function<InstanceLoadRegistry, Function<Long, ServiceInstance>> roundRobin() {
+        return registry -> {
+            int[] next = {0};
+            return t -> INSTANCES.get(next[0]++ % INSTANCES.size());
+        };
+    }
+
+    private static Function<InstanceLoadRegistry, Function<Long, ServiceInstance>> peakEwma() {
+        return registry -> {
+            PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer(supplier(), registry, new Random(42));
+            return t -> balancer.select(INSTANCES).getServer();
+        };
+    }
+
+    /** @return sorted request latencies */
+    private static long[] simulate(ServiceModel model,
+                                   Function<InstanceLoadRegistry, Function<Long, ServiceInstance>> strategy) {
+        long[] clock = {0};
+        InstanceLoadRegistry registry = new InstanceLoadRegistry(Duration.ofSeconds(10), () -> clock[0]);
+        Function<Long, ServiceInstance> pick = strategy.apply(registry);
+        Random random = new Random(7);
+
+        PriorityQueue<Completion> pending = new PriorityQueue<>((a, b) -> Long.compare(a.at(), b.at()));
+        long[] latencies = new long[REQUESTS];
+
+        for (int r = 0; r < REQUESTS; r++) {
+            long arrival = r * ARRIVAL_INTERVAL;
+            while (!pending.isEmpty() && pending.peek().at() <= arrival) {
+                Completion done = pending.poll();
+                clock[0] = done.at();
+                registry.stats(done.instance()).complete(done.rtt(), done.at());
+            }
+            clock[0] = arrival;
+
+            ServiceInstance chosen = pick.apply(arrival);
+            registry.stats(chosen).start();
+            long rtt = model.serviceTime(INSTANCES.indexOf(chosen), arrival, random);
+            pending.add(new Completion(arrival + rtt, chosen, rtt));
+            latencies[r] = rtt;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long p(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / MS;
+    }
+
+    private static void report(String scenario, long[] rr, long[] ewma) {
+        System.out.printf("%s: round robin p50=%d p95=%d p99=%d ms | peak-ewma p50=%d p95=%d p99=%d ms%n",
+                scenario, p(rr, 0.5), p(rr, 0.95), p(rr, 0.99), p(ewma, 0.5), p(ewma, 0.95), p(ewma, 0.99));
+    }
+
+    @Test
+    void slowNode_isStarvedInsteadOfTakingAFifthOfTraffic() {
+        long[] rr = simulate(SLOW_NODE, roundRobin());
+        long[] ewma = simulate(SLOW_NODE, peakEwma());
+        report("slow node", rr, ewma);
+
+        assertThat(p(rr, 0.95)).isGreaterThan(200);
+        assertThat(p(ewma, 0.99)).isLessThan(50);
+    }
+
+    @Test
+    void gcPauses_areRoutedAround() {
+        long[] rr = simulate(GC_PAUSES, roundRobin());
+        long[] ewma = simulate(GC_PAUSES, peakEwma());
+        report("gc pauses", rr, ewma);
+
+        assertThat(p(rr, 0.99)).isGreaterThan(200);
+        assertThat(p(ewma, 0.99)).isLessThan(50);
+    }
+
+    @Test
+    void reactiveChoose_usesTheSuppliedInstances() {
+        PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer(
+                supplier(), new InstanceLoadRegistry(Duration.ofSeconds(10), System::nanoTime));
+
+        ServiceInstance chosen = balancer.choose().block().getServer();
+
+        assertThat(INSTANCES).contains(chosen);
+    }
+}
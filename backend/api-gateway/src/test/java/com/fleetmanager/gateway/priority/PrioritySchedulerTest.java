@@ -0,0 +1,132 @@
+package com.fleetmanager.gateway.priority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Disposable;
+
+class PrioritySchedulerTest {
+
+    private static final int CRITICAL = 0;
+    private static final int INTERACTIVE = 1;
+    private static final int BULK = 2;
+
+    private final List<String> sheds = new ArrayList<>();
+
+    private static PriorityProperties.RequestClass requestClass(int priority, int maxConcurrent, int maxQueue) {
+        PriorityProperties.RequestClass config = new PriorityProperties.RequestClass();
+        config.setSheddable(priority == 0);
+        config.setPriority(priority);
+        config.setMaxConcurrent(maxConcurrent);
+        config.setMaxQueue(maxQueue);
+        config.setMaxWait(Duration.ofSeconds(30));
+        return config;
+    }
+
+    private PriorityScheduler scheduler(int maxConcurrent, int bulkBudget, int bulkQueue) {
+        return new PriorityScheduler(maxConcurrent, List.of(
+                requestClass(100, Integer.MAX_VALUE, 10),
+                requestClass(50, Integer.MAX_VALUE, 10),
+                requestClass(0, bulkBudget, bulkQueue)),
+                (requestClass, reason) -> sheds.add(requestClass + ":" + reason));
+    }
+
+    /** Subscribes and returns a holder that receives the permit once granted. */
+    private static AtomicReference<PriorityScheduler.Permit> submit(PriorityScheduler scheduler, int requestClass,
+                                                                    List<Disposable> subscriptions) {
+        AtomicReference<PriorityScheduler.Permit> permit = new AtomicReference<>();
+        subscriptions.add(scheduler.acquire(requestClass).subscribe(permit::set));
+        return permit;
+    }
+
+    @Test
+    void freedPermits_goToTheHighestPriorityWaiterFirst() {
+        PriorityScheduler scheduler = scheduler(2, 16, 10);
+        List<Disposable> subscriptions = new ArrayList<>();
+
+        var first = submit(scheduler, INTERACTIVE, subscriptions);
+        var second = submit(scheduler, INTERACTIVE, subscriptions);
+        var interactiveWaiter = submit(scheduler, INTERACTIVE, subscriptions);
+        var criticalWaiter = submit(scheduler, CRITICAL, subscriptions);
+
+        assertThat(first.get()).isNotNull();
+        assertThat(second.get()).isNotNull();
+
+        first.get().release();
+        assertThat(criticalWaiter.get()).isNotNull();
+        assertThat(interactiveWaiter.get()).isNull();
+
+        second.get().release();
+        assertThat(interactiveWaiter.get()).isNotNull();
+        assertThat(sheds).isEmpty();
+    }
+
+    @Test
+    void whenSaturated_queuedRequestsEvictSheddableWaitersOnly() {
+        PriorityScheduler scheduler = scheduler(1, 16, 10);
+        List<Disposable> subscriptions = new ArrayList<>();
+
+        var running = submit(scheduler, BULK, subscriptions);
+        var bulkWaiter = submit(scheduler, BULK, subscriptions);
+        var interactiveWaiter = submit(scheduler, INTERACTIVE, subscriptions);
+        var criticalWaiter = submit(scheduler, CRITICAL, subscriptions);
+
+        // Only the bulk waiter goes; the interactive one keeps its place behind critical.
+        assertThat(sheds).containsExactly(BULK + ":EVICTED");
+        assertThat(bulkWaiter.get()).isNull();
+
+        running.get().release();
+        assertThat(criticalWaiter.get()).isNotNull();
+        assertThat(interactiveWaiter.get()).isNull();
+
+        criticalWaiter.get().release();
+        assertThat(interactiveWaiter.get()).isNotNull();
+    }
+
+    @Test
+    void classBudget_capsLowPriorityWorkWhileOthersStillGetIn() {
+        PriorityScheduler scheduler = scheduler(10, 2, 1);
+        List<Disposable> subscriptions = new ArrayList<>();
+
+        submit(scheduler, BULK, subscriptions);
+        submit(scheduler, BULK, subscriptions);
+        var queued = submit(scheduler, BULK, subscriptions);
+        var rejected = submit(scheduler, BULK, subscriptions);
+        var interactive = submit(scheduler, INTERACTIVE, subscriptions);
+
+        assertThat(queued.get()).isNull();
+        assertThat(rejected.get()).isNull();
+        assertThat(sheds).containsExactly(BULK + ":QUEUE_FULL");
+        assertThat(interactive.get()).isNotNull();
+        assertThat(scheduler.inFlight(BULK)).isEqualTo(2);
+        assertThat(scheduler.queued(BULK)).isEqualTo(1);
+    }
+
+    @Test
+    void waitersGiveUpAfterMaxWait_andCancelledWaitersLeaveTheQueue() {
+        PriorityProperties.RequestClass bulk = requestClass(0, 1, 10);
+        bulk.setMaxWait(Duration.ofMillis(50));
+        PriorityScheduler scheduler = new PriorityScheduler(10, List.of(bulk),
+                (requestClass, reason) -> sheds.add(requestClass + ":" + reason));
+
+        PriorityScheduler.Permit holder = scheduler.acquire(0).block();
+        assertThat(scheduler.acquire(0).block(Duration.ofSeconds(1))).isNull();
+        assertThat(sheds).containsExactly("0:TIMEOUT");
+        assertThat(scheduler.queued(0)).isZero();
+
+        Disposable cancelled = scheduler.acquire(0).subscribe();
+        assertThat(scheduler.queued(0)).isEqualTo(1);
+        cancelled.dispose();
+        assertThat(scheduler.queued(0)).isZero();
+
+        holder.release();
+        holder.release();
+        assertThat(scheduler.inFlight(0)).isZero();
+    }
+}
@@ -0,0 +1,84 @@
+package com.fleetmanager.gateway.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TenantRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private static RateLimitProperties.Limit limit(int capacity, double refillPerSecond) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerSecond(refillPerSecond);
+        return limit;
+    }
+
+    private TenantRateLimiter limiter(RateLimitProperties.Limit limit) {
+        return new TenantRateLimiter(4, (tenant, group) -> limit, clock::get);
+    }
+
+    @Test
+    void burstUpToCapacity_thenRejectedWithWait() {
+        TenantRateLimiter limiter = limiter(limit(3, 1));
+
+        assertThat(limiter.tryAcquire(101L, 0)).isZero();
+        assertThat(limiter.tryAcquire(101L, 0)).isZero();
+        assertThat(limiter.tryAcquire(101L, 0)).isZero();
+
+        long wait = limiter.tryAcquire(101L, 0);
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void tokensRefillOverTime() {
+        TenantRateLimiter limiter = limiter(limit(1, 2));
+
+        assertThat(limiter.tryAcquire(101L, 0)).isZero();
+        assertThat(limiter.tryAcquire(101L, 0)).isPositive();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertThat(limiter.tryAcquire(101L, 0)).isZero();
+    }
+
+    @Test
+    void tenantsAndGroups_haveIndependentBuckets() {
+        TenantRateLimiter limiter = limiter(limit(1, 1));
+
+        assertThat(limiter.tryAcquire(101L, 0)).isZero();
+        assertThat(limiter.tryAcquire(101L, 0)).isPositive();
+
+        assertThat(limiter.tryAcquire(202L, 0)).isZero();
+        assertThat(limiter.tryAcquire(101L, 1)).isZero();
+    }
+
+    @Test
+    void overridesAreResolvedPerTenantAndGroup() {
+        TenantRateLimiter limiter = new TenantRateLimiter(4,
+                (tenant, group) -> tenant == 7L ? limit(5, 1) : limit(1, 1), clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(7L, 0)).isZero();
+        }
+        assertThat(limiter.tryAcquire(8L, 0)).isZero();
+        assertThat(limiter.tryAcquire(8L, 0)).isPositive();
+    }
+
+    @Test
+    void tableGrows_withoutLosingBuckets() {
+        TenantRateLimiter limiter = limiter(limit(1, 0.001));
+
+        for (long tenant = 1; tenant <= 20_000; tenant++) {
+            assertThat(limiter.tryAcquire(tenant, 0)).isZero();
+        }
+        assertThat(limiter.size()).isEqualTo(20_000);
+        for (long tenant = 1; tenant <= 20_000; tenant++) {
+            assertThat(limiter.tryAcquire(tenant, 0)).isPositive();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.fleetmanager.gateway.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Discrete-event simulation on a virtual clock: a fleet-service stand-in with 20 workers
+ * and ~20 ms of work per request (about 1000 req/s of capacity) is offered 2000 req/s
+ * behind the gateway's 1 s response timeout. Compares goodput - responses that made
+ * it back before the timeout - with and without the route guard in front.
+ */
+class RouteGuardSimulationTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int WORKERS = 20;
+    private static final long TIMEOUT = 1_000 * MS;
+    private static final long ARRIVAL_INTERVAL = MS / 2;
+    private static final long DURATION = 20_000 * MS;
+    private static final long WARMUP = 5_000 * MS;
+
+    private record Completion(long at, long rtt, boolean timedOut) {
+    }
+
+    private record Result(double goodputPerSecond, double shedPerSecond, long p99Millis, int finalLimit) {
+    }
+
+    /** @param guard {@code null} to forward every request */
+    private static Result simulate(RouteGuard guard) {
+        Random random = new Random(7);
+        PriorityQueue<Long> workerFreeAt = new PriorityQueue<>();
+        for (int i = 0; i < WORKERS; i++) {
+            workerFreeAt.add(0L);
+        }
+        PriorityQueue<Completion> completions = new PriorityQueue<>((a, b) -> Long.compare(a.at(), b.at()));
+
+        long good = 0;
+        long shed = 0;
+        long[] latencies = new long[(int) (DURATION / ARRIVAL_INTERVAL)];
+        int latencyCount = 0;
+
+        for (long t = 0; t < DURATION; t += ARRIVAL_INTERVAL) {
+            while (!completions.isEmpty() && completions.peek().at() <= t) {
+                Completion done = completions.poll();
+                if (guard != null) {
+                    guard.onComplete(done.rtt(),
+                            done.timedOut() ? RouteGuard.Outcome.OVERLOAD : RouteGuard.Outcome.SUCCESS, done.at());
+                }
+            }
+
+            boolean measured = t >= WARMUP;
+            if (guard != null && guard.tryAcquire(t) != RouteGuard.Decision.ADMITTED) {
+                if (measured) {
+                    shed++;
+                }
+                continue;
+            }
+
+            // FIFO queue in front of the workers; the stand-in keeps working on
+            // requests the gateway has already given up on.
+            long start = Math.max(t, workerFreeAt.poll());
+            long finish = start + 15 * MS + (long) (random.nextDouble() * 10 * MS);
+            workerFreeAt.add(finish);
+
+            long rtt = finish - t;
+            boolean timedOut = rtt > TIMEOUT;
+            completions.add(new Completion(timedOut ? t + TIMEOUT : finish, Math.min(rtt, TIMEOUT), timedOut));
+            if (measured && !timedOut) {
+                good++;
+                latencies[latencyCount++] = rtt;
+            }
+        }
+
+        double seconds = (double) (DURATION - WARMUP) / TimeUnit.SECONDS.toNanos(1);
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        long p99 = sorted.length == 0 ? -1 : sorted[(int) (sorted.length * 0.99)] / MS;
+        return new Result(good / seconds, shed / seconds, p99,
+                guard == null ? -1 : guard.snapshot().limit());
+    }
+
+    @Test
+    void guardKeepsGoodputNearCapacityUnderTwiceTheLoad() {
+        Result unguarded = simulate(null);
+        Result guarded = simulate(new RouteGuard(new ResilienceProperties.Settings(), 0));
+
+        System.out.printf("overload 2x: unguarded goodput %.0f/s | guarded goodput %.0f/s, shed %.0f/s, p99 %d ms, limit %d%n",
+                unguarded.goodputPerSecond(), guarded.goodputPerSecond(), guarded.shedPerSecond(),
+                guarded.p99Millis(), guarded.finalLimit());
+
+        // Without admission control the queue grows without bound and every response
+        // arrives after the client has given up.
+        assertThat(unguarded.goodputPerSecond()).isLessThan(100);
+
+        assertThat(guarded.goodputPerSecond()).isGreaterThan(900);
+        assertThat(guarded.shedPerSecond()).isBetween(800.0, 1100.0);
+        assertThat(guarded.p99Millis()).isLessThan(100);
+    }
+
+    @Test
+    void breakerOpensOnFailuresAndClosesAfterSuccessfulTrials() {
+        ResilienceProperties.Settings settings = new ResilienceProperties.Settings();
+        settings.getCircuitBreaker().setOpenDuration(Duration.ofSeconds(5));
+        RouteGuard guard = new RouteGuard(settings, 0);
+
+        // Downstream fails every call for 10 s, then recovers.
+        long outageEnd = 10_000 * MS;
+        int forwarded = 0;
+        int shedOpen = 0;
+        for (long t = 0; t < outageEnd; t += 10 * MS) {
+            RouteGuard.Decision decision = guard.tryAcquire(t);
+            if (decision == RouteGuard.Decision.CIRCUIT_OPEN) {
+                shedOpen++;
+                continue;
+            }
+            forwarded++;
+            guard.onComplete(20 * MS, RouteGuard.Outcome.FAILURE, t);
+        }
+
+        // 20 calls to trip, then one trial per half-open period.
+        assertThat(forwarded).isLessThanOrEqualTo(settings.getCircuitBreaker().getMinimumCalls() + 2);
+        assertThat(shedOpen).isGreaterThan(900);
+        assertThat(guard.snapshot().circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        long t = outageEnd + settings.getCircuitBreaker().getOpenDuration().toNanos();
+        for (int i = 0; i < settings.getCircuitBreaker().getHalfOpenCalls(); i++) {
+            assertThat(guard.tryAcquire(t)).isEqualTo(RouteGuard.Decision.ADMITTED);
+        }
+        assertThat(guard.tryAcquire(t)).isEqualTo(RouteGuard.Decision.CIRCUIT_OPEN);
+        for (int i = 0; i < settings.getCircuitBreaker().getHalfOpenCalls(); i++) {
+            guard.onComplete(20 * MS, RouteGuard.Outcome.SUCCESS, t);
+        }
+
+        assertThat(guard.snapshot().circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(guard.tryAcquire(t)).isEqualTo(RouteGuard.Decision.ADMITTED);
+    }
+}
@@ -0,0 +1,97 @@
+package com.fleetmanager.gateway.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.common.security.JwtVerifier;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedClaimsCacheTest {
+
+    private static final String SECRET = "testtesttesttesttesttesttesttesttesttest";
+
+    private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedClaimsCache(new JwtVerifier(SECRET), meterRegistry, 100, Duration.ofMinutes(5));
+    }
+
+    private String token(long ttlMs) {
+        return Jwts.builder()
+                .claim("user_id", 1L)
+                .claim("tenant_id", 100L)
+                .claim("role", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + ttlMs))
+                .signWith(key)
+                .compact();
+    }
+
+    @Test
+    void repeatedToken_isServedFromCache() {
+        String token = token(60_000);
+
+        JwtPrincipal first = cache.verify(token);
+        JwtPrincipal second = cache.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void tamperedToken_isRejectedAndNotCached() {
+        String token = token(60_000);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThatThrownBy(() -> cache.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    void expiredToken_isRejected() {
+        assertThatThrownBy(() -> cache.verify(token(-1_000))).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void tokenWithoutExpiry_isRejected() {
+        String token = Jwts.builder()
+                .claim("user_id", 1L)
+                .claim("tenant_id", 100L)
+                .signWith(key)
+                .compact();
+
+        assertThatThrownBy(() -> cache.verify(token)).isInstanceOf(JwtException.class);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    void cachedEntry_doesNotOutliveToken() throws InterruptedException {
+        // exp is encoded in whole seconds, keep a margin on both sides
+        String token = token(1_500);
+        cache.verify(token);
+
+        Thread.sleep(2_000);
+
+        assertThatThrownBy(() -> cache.verify(token)).isInstanceOf(JwtException.class);
+    }
+}
@@ -3,8 +3,10 @@ package com.fleetmanager.auth.aspect;
 import com.fleetmanager.auth.context.TenantContext;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.CodeSignature;
 import org.hibernate.Filter;
 import org.hibernate.Session;
 import org.springframework.stereotype.Component;
@@ -14,16 +16,20 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class TenantFilterAspect {
 
+    private static final String TENANT_ID_PARAMETER = "tenantId";
+
     private final EntityManager entityManager;
 
     @Before("execution(* com.fleetmanager..repository.*.*(..))")
-    public void enableTenantFilter() {
+    public void enableTenantFilter(JoinPoint joinPoint) {
 
         Long tenantId = TenantContext.getCurrentTenantId();
         if (tenantId == null) {
             return; // public or auth endpoints
         }
 
+        checkTenantIdArgument(joinPoint, tenantId);
+
         Session session = entityManager.unwrap(Session.class);
 
         Filter filter = session.getEnabledFilter("tenantFilter");
@@ -33,4 +39,22 @@ public class TenantFilterAspect {
 
         filter.setParameter("tenantId", tenantId);
     }
+
+    /**
+     * Security check: a repository call may not name another tenant. This also keeps the
+     * query cache tenant-safe, since its keys carry the tenantId argument but not the
+     * filter parameter.
+     */
+    private void checkTenantIdArgument(JoinPoint joinPoint, Long tenantId) {
+        String[] names = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
+        if (names == null) {
+            return;
+        }
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < names.length; i++) {
+            if (TENANT_ID_PARAMETER.equals(names[i]) && args[i] != null && !tenantId.equals(args[i])) {
+                throw new IllegalStateException("Cross-tenant data access attempt blocked");
+            }
+        }
+    }
 }
@@ -1 +1,89 @@
 package com.fleetmanager.auth.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level and query cache, held in bounded Caffeine caches behind JCache.
+ *
+ * Every region is created here and Hibernate is told to fail on any other, so nothing
+ * ends up in an unbounded default cache. {@code Tenant} and {@code User} are cached as
+ * entities; queries are cached only where the repository says so, and only for queries
+ * that take the tenant id as a bound parameter (see {@code TenantFilterAspect}).
+ * Hit/miss counts per region are published as {@code hibernate.second.level.cache.*}
+ * and {@code hibernate.query.cache.*} on {@code /actuator/metrics}.
+ *
+ * Regions are local to this instance and Hibernate only evicts on the instance that
+ * wrote, so a user deactivated or re-passworded through another replica stays cached
+ * here until its entry expires: {@code auth.entity-cache.ttl} and
+ * {@code auth.entity-cache.query.ttl} (30s by default) are the revocation bound, as
+ * {@code auth.tenant-directory.ttl} is for tenants. Login credentials are never read
+ * from the query cache.
+ */
+@Configuration
+public class HibernateConfig {
+
+    public static final String TENANT_REGION = "auth.tenant";
+    public static final String USER_REGION = "auth.user";
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+     * One manager per application context: the provider hands out managers by URI, and
+     * test contexts must not see (or close) each other's regions.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${auth.entity-cache.tenant.max-size}") long tenantMaxSize,
+            @Value("${auth.entity-cache.user.max-size}") long userMaxSize,
+            @Value("${auth.entity-cache.query.max-size}") long queryMaxSize,
+            @Value("${auth.entity-cache.ttl}") Duration ttl,
+            @Value("${auth.entity-cache.query.ttl}") Duration queryTtl) {
+
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("auth-service:hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        cacheManager.createCache(TENANT_REGION, region(tenantMaxSize, ttl));
+        cacheManager.createCache(USER_REGION, region(userMaxSize, ttl));
+        cacheManager.createCache(QUERY_RESULTS_REGION, region(queryMaxSize, queryTtl));
+        // never expire or evict: a lost timestamp would let stale query results through
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>().setStoreByValue(false));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        return new CaffeineConfiguration<>()
+                .setStoreByValue(false)
+                .setMaximumSize(OptionalLong.of(maxSize))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+    }
+}
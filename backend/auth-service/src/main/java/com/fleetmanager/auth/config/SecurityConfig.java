@@ -1,9 +1,13 @@
 package com.fleetmanager.auth.config;
 
+import com.fleetmanager.auth.security.PasswordHashingExecutor;
 import com.fleetmanager.auth.security.TenantFilter;
-import com.fleetmanager.auth.util.JwtUtil;
+import com.fleetmanager.common.security.JwtVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -12,19 +16,39 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // BCrypt runs here, never on request threads; see security.password.hashing
+    @Bean
+    public PasswordHashingExecutor passwordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.hashing.max-wait:2s}") Duration maxWait) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new PasswordHashingExecutor(passwordEncoder, poolSize, queueCapacity, maxWait, meterRegistry);
+    }
+
+    @Bean
+    public JwtVerifier jwtVerifier(@Value("${jwt.secret}") String secret) {
+        return new JwtVerifier(secret);
     }
 
     // Register TenantFilter as a bean so we can wire it into the filter chain
     @Bean
-    public TenantFilter tenantFilter(JwtUtil jwtUtil) {
-        return new TenantFilter(jwtUtil);
+    public TenantFilter tenantFilter(JwtVerifier jwtVerifier) {
+        return new TenantFilter(jwtVerifier);
     }
 
     @Bean
@@ -37,7 +61,10 @@ public class SecurityConfig {
             )
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/login", "/api/auth/register-tenant","/api/auth/secured-test").permitAll()
+                .requestMatchers("/api/auth/password-reset/**").permitAll()
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                // internal port only; the gateway does not route /actuator
+                .requestMatchers("/actuator/health/**", "/actuator/metrics/**").permitAll()
                 .anyRequest().authenticated()
             );
 
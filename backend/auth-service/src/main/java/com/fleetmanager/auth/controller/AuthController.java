@@ -10,6 +10,9 @@ import org.springframework.web.bind.annotation.RestController;
 import com.fleetmanager.auth.context.TenantContext;
 import com.fleetmanager.auth.dto.request.LoginRequest;
 import com.fleetmanager.auth.dto.response.LoginResponse;
+import com.fleetmanager.auth.exception.InvalidCredentialsException;
+import com.fleetmanager.auth.security.ClientIpResolver;
+import com.fleetmanager.auth.security.LoginAttemptLimiter;
 import com.fleetmanager.auth.service.AuthService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +22,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +33,8 @@ import lombok.RequiredArgsConstructor;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final ClientIpResolver clientIpResolver;
 
     @GetMapping("/test")
     public String testRoute() {
@@ -58,13 +64,28 @@ public class AuthController {
             )
         ),
         @ApiResponse(responseCode = "401", description = "Invalid credentials"),
-        @ApiResponse(responseCode = "400", description = "Validation error")
+        @ApiResponse(responseCode = "400", description = "Validation error"),
+        @ApiResponse(responseCode = "429", description = "Too many login attempts")
     })
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(
-            @Valid @RequestBody LoginRequest request
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
     ) {
-        return ResponseEntity.ok(authService.login(request));
+        String clientIp = clientIpResolver.resolve(httpRequest);
+
+        // Brute-force check runs before any tenant/user lookup or password hash
+        loginAttemptLimiter.checkAndRecord(request.getSubdomain(), request.getEmail(), clientIp);
+
+        LoginResponse response;
+        try {
+            response = authService.login(request);
+        } catch (InvalidCredentialsException ex) {
+            loginAttemptLimiter.onFailure(clientIp);
+            throw ex;
+        }
+        loginAttemptLimiter.onSuccess(request.getSubdomain(), request.getEmail());
+        return ResponseEntity.ok(response);
     }
     
     @GetMapping("/secured-test")
@@ -0,0 +1,52 @@
+package com.fleetmanager.auth.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fleetmanager.auth.dto.request.PasswordResetConfirmRequest;
+import com.fleetmanager.auth.dto.request.PasswordResetRequest;
+import com.fleetmanager.auth.service.PasswordResetService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/auth/password-reset")
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "Password reset by mailed link")
+public class PasswordResetController {
+
+    private final PasswordResetService passwordResetService;
+
+    @Operation(
+        summary = "Request a reset link",
+        description = "Mails a single-use reset link if the account exists. The response is the same either way."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Accepted"),
+        @ApiResponse(responseCode = "400", description = "Validation error")
+    })
+    @PostMapping("/request")
+    public ResponseEntity<Void> requestReset(@Valid @RequestBody PasswordResetRequest request) {
+        passwordResetService.requestReset(request.getSubdomain(), request.getEmail());
+        return ResponseEntity.accepted().build();
+    }
+
+    @Operation(summary = "Set a new password", description = "Uses up the token from the reset link.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Password changed"),
+        @ApiResponse(responseCode = "400", description = "Invalid, expired or used token, or validation error")
+    })
+    @PostMapping("/confirm")
+    public ResponseEntity<Void> confirmReset(@Valid @RequestBody PasswordResetConfirmRequest request) {
+        passwordResetService.confirmReset(request.getToken(), request.getNewPassword());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,8 +1,68 @@
 package com.fleetmanager.auth.controller;
 
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fleetmanager.auth.context.TenantContext;
+import com.fleetmanager.auth.dto.response.UserImportReport;
+import com.fleetmanager.auth.enums.ImportFormat;
+import com.fleetmanager.auth.service.UserService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
 @RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@Tag(name = "Users", description = "User management within the caller's tenant")
 public class UserController {
-    // TODO: Implement user management endpoints
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final UserService userService;
+
+    @Operation(
+        summary = "Bulk import users",
+        description = "Streams a CSV (header: email,name,password[,role]) or NDJSON roster into the "
+                + "caller's tenant. Every row gets a result; existing emails are reported, not overwritten."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import processed; see per-row results",
+            content = @Content(schema = @Schema(implementation = UserImportReport.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Missing or malformed CSV header"),
+        @ApiResponse(responseCode = "403", description = "Caller is not a tenant admin")
+    })
+    @PostMapping(value = "/import", consumes = { "text/csv", NDJSON })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserImportReport> importUsers(
+            @RequestHeader("Content-Type") MediaType contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        ImportFormat format = contentType.isCompatibleWith(MediaType.parseMediaType(NDJSON))
+                ? ImportFormat.NDJSON
+                : ImportFormat.CSV;
+        if (request.getCharacterEncoding() == null) {
+            request.setCharacterEncoding("UTF-8");
+        }
+
+        UserImportReport report = userService.importUsers(
+                TenantContext.getCurrentTenantIdOrThrow(), request.getReader(), format);
+        return ResponseEntity.ok(report);
+    }
 }
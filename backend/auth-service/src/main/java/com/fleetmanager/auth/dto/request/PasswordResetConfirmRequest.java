@@ -0,0 +1,23 @@
+package com.fleetmanager.auth.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Sets a new password using the token from a reset link")
+public class PasswordResetConfirmRequest {
+
+    @Schema(example = "q2V8m0yZ...", description = "Token from the reset link")
+    @NotBlank(message = "Token is required")
+    private String token;
+
+    @Schema(example = "NewPassword@123", description = "New password")
+    @NotBlank(message = "Password is required")
+    @Size(min = 8, max = 72, message = "Password must be 8 to 72 characters")
+    private String newPassword;
+}
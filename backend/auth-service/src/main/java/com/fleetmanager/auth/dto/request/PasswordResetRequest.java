@@ -1 +1,23 @@
 package com.fleetmanager.auth.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Asks for a password reset link to be mailed")
+public class PasswordResetRequest {
+
+    @Schema(example = "driver@company.com", description = "User email")
+    @NotBlank(message = "Email is required")
+    @Email(message = "Invalid email format")
+    private String email;
+
+    @Schema(example = "global-logistics", description = "Tenant subdomain")
+    @NotBlank(message = "Subdomain is required")
+    private String subdomain;
+}
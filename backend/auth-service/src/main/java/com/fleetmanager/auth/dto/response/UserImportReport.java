@@ -0,0 +1,34 @@
+package com.fleetmanager.auth.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk user import, with one result per data row")
+public class UserImportReport {
+
+    @Schema(example = "1000")
+    private int total;
+
+    @Schema(example = "990")
+    private int created;
+
+    @Schema(example = "7")
+    private int duplicates;
+
+    @Schema(example = "3")
+    private int invalid;
+
+    @Schema(description = "True if rows beyond the per-import limit were not read")
+    private boolean truncated;
+
+    @Schema(example = "1840")
+    private long durationMillis;
+
+    private List<UserImportResult> results;
+}
@@ -0,0 +1,32 @@
+package com.fleetmanager.auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of importing one row")
+public class UserImportResult {
+
+    public enum Status { CREATED, DUPLICATE, INVALID }
+
+    @Schema(example = "2", description = "Line number in the upload")
+    private int line;
+
+    @Schema(example = "driver@company.com")
+    private String email;
+
+    @Schema(example = "CREATED")
+    private Status status;
+
+    @Schema(example = "42")
+    private Long userId;
+
+    @Schema(example = "Email already exists in this tenant")
+    private String message;
+}
@@ -2,8 +2,15 @@ package com.fleetmanager.auth.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.fleetmanager.auth.config.HibernateConfig;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -18,7 +25,10 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateConfig.TENANT_REGION)
 @Table(name = "tenants")
+@EntityListeners(TenantDirectoryListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -0,0 +1,33 @@
+package com.fleetmanager.auth.entity;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.fleetmanager.auth.service.TenantDirectory;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Keeps {@link TenantDirectory} in step with every tenant write that goes through JPA
+ * (creation, deactivation, deletion). Instantiated by Hibernate through Spring, hence
+ * the lazy lookup: the directory depends on the repository, which needs the
+ * EntityManagerFactory that creates this listener.
+ */
+@Component
+public class TenantDirectoryListener {
+
+    private final ObjectProvider<TenantDirectory> tenantDirectory;
+
+    public TenantDirectoryListener(ObjectProvider<TenantDirectory> tenantDirectory) {
+        this.tenantDirectory = tenantDirectory;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void tenantChanged(Tenant tenant) {
+        tenantDirectory.ifAvailable(directory -> directory.invalidate(tenant.getSubdomain()));
+    }
+}
@@ -2,9 +2,14 @@ package com.fleetmanager.auth.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.fleetmanager.auth.config.HibernateConfig;
 import com.fleetmanager.auth.enums.Role;
 import com.fleetmanager.auth.enums.UserStatus;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -23,6 +28,8 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateConfig.USER_REGION)
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"tenant_id", "email"})
 })
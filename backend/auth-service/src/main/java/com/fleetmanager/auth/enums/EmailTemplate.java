@@ -0,0 +1,25 @@
+package com.fleetmanager.auth.enums;
+
+/**
+ * Mail templates under {@code templates/email/}, with their subject lines.
+ */
+public enum EmailTemplate {
+    WELCOME("email/welcome", "Welcome to TrackStar"),
+    PASSWORD_RESET("email/password-reset", "Reset your TrackStar password");
+
+    private final String path;
+    private final String subject;
+
+    EmailTemplate(String path, String subject) {
+        this.path = path;
+        this.subject = subject;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+}
@@ -0,0 +1,6 @@
+package com.fleetmanager.auth.enums;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,8 @@
+package com.fleetmanager.auth.exception;
+
+public class BulkImportException extends RuntimeException {
+
+	public BulkImportException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,8 @@
+package com.fleetmanager.auth.exception;
+
+public class InvalidResetTokenException extends RuntimeException {
+
+	public InvalidResetTokenException() {
+		super("Reset link is invalid or has expired");
+	}
+}
@@ -0,0 +1,8 @@
+package com.fleetmanager.auth.exception;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+	public PasswordHashingUnavailableException() {
+		super("Too many sign-in attempts in progress, please retry shortly");
+	}
+}
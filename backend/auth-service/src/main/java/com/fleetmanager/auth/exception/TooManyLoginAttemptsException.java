@@ -0,0 +1,16 @@
+package com.fleetmanager.auth.exception;
+
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public TooManyLoginAttemptsException(long retryAfterSeconds) {
+		// thrown on the brute-force path, so skip the stack trace
+		super("Too many login attempts, please try again later", null, false, false);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -0,0 +1,130 @@
+package com.fleetmanager.auth.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleetmanager.auth.enums.EmailTemplate;
+import com.fleetmanager.auth.repository.projection.OutboxEmail;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code email_outbox} access. {@link #enqueue} joins the caller's transaction; the
+ * dispatcher-side statements each run on their own.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmailOutboxRepository {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+
+    private static final String CLAIM_DUE = """
+            UPDATE email_outbox o
+               SET attempts = o.attempts + 1, next_attempt_at = ?
+             WHERE o.id IN (SELECT id FROM email_outbox
+                             WHERE status = 'PENDING' AND next_attempt_at <= ?
+                             ORDER BY next_attempt_at
+                             LIMIT ?
+                             FOR UPDATE SKIP LOCKED)
+            RETURNING o.id, o.recipient, o.template, o.variables, o.attempts
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void enqueue(Long tenantId, String recipient, EmailTemplate template, Map<String, Object> variables) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("""
+                INSERT INTO email_outbox (tenant_id, recipient, template, variables, next_attempt_at, created_at)
+                VALUES (?, ?, ?, CAST(? AS JSONB), ?, ?)
+                """,
+                tenantId, recipient, template.name(), toJson(variables), Timestamp.valueOf(now), Timestamp.valueOf(now));
+    }
+
+    /**
+     * Claims up to {@code limit} due rows by pushing their next attempt out to
+     * {@code leaseUntil}. A dispatcher that dies mid-send leaves them to be picked up
+     * again once the lease expires; concurrent dispatchers skip each other's rows.
+     */
+    public List<OutboxEmail> claimDue(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        return jdbcTemplate.query(CLAIM_DUE, (rs, rowNum) -> new OutboxEmail(
+                        rs.getLong("id"),
+                        rs.getString("recipient"),
+                        EmailTemplate.valueOf(rs.getString("template")),
+                        fromJson(rs.getString("variables")),
+                        rs.getInt("attempts")),
+                Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * Finished rows drop their variables: they can hold secrets such as a reset link,
+     * and nothing reads them again.
+     */
+    public void markSent(List<Long> ids, LocalDateTime sentAt) {
+        jdbcTemplate.batchUpdate("""
+                UPDATE email_outbox SET status = 'SENT', sent_at = ?, last_error = NULL, variables = NULL
+                WHERE id = ?
+                """,
+                ids.stream().map(id -> new Object[] { Timestamp.valueOf(sentAt), id }).toList());
+    }
+
+    public void reschedule(Long id, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update("UPDATE email_outbox SET next_attempt_at = ?, last_error = ? WHERE id = ?",
+                Timestamp.valueOf(nextAttemptAt), truncate(error), id);
+    }
+
+    public void markFailed(Long id, String error) {
+        jdbcTemplate.update("UPDATE email_outbox SET status = 'FAILED', last_error = ?, variables = NULL WHERE id = ?",
+                truncate(error), id);
+    }
+
+    /**
+     * Gives up on mails of {@code template} still pending from before {@code createdBefore},
+     * scrubbing their variables like any other failed row.
+     */
+    public int expirePending(EmailTemplate template, LocalDateTime createdBefore, String reason) {
+        return jdbcTemplate.update("""
+                UPDATE email_outbox SET status = 'FAILED', last_error = ?, variables = NULL
+                WHERE status = 'PENDING' AND template = ? AND created_at < ?
+                """, truncate(reason), template.name(), Timestamp.valueOf(createdBefore));
+    }
+
+    /** Deletes up to {@code limit} sent or failed rows created before {@code cutoff}. */
+    public int purgeFinishedBatch(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("""
+                DELETE FROM email_outbox
+                WHERE id IN (SELECT id FROM email_outbox
+                              WHERE status <> 'PENDING' AND created_at < ?
+                              LIMIT ?)
+                """, Timestamp.valueOf(cutoff), limit);
+    }
+
+    private String toJson(Map<String, Object> variables) {
+        try {
+            return objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Email variables are not serialisable", ex);
+        }
+    }
+
+    private Map<String, Object> fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, VARIABLES);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Corrupt email_outbox.variables", ex);
+        }
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+}
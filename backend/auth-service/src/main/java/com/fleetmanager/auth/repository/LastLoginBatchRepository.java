@@ -0,0 +1,65 @@
+package com.fleetmanager.auth.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fleetmanager.auth.entity.User;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies many last-login timestamps with one statement:
+ * {@code UPDATE users ... FROM (VALUES (id, ts), ...)}. A row is only moved forward,
+ * so a late flush never overwrites a newer login. The statement bypasses Hibernate, so
+ * the written users are evicted from the second-level cache afterwards.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LastLoginBatchRepository {
+
+    private static final String UPDATE_PREFIX =
+            "UPDATE users AS u SET last_login = v.last_login FROM (VALUES ";
+    private static final String UPDATE_SUFFIX =
+            ") AS v(id, last_login) WHERE u.id = v.id"
+                    + " AND (u.last_login IS NULL OR u.last_login < v.last_login)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /** @return number of rows updated */
+    public int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        if (lastLogins.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(UPDATE_PREFIX.length() + UPDATE_SUFFIX.length()
+                + lastLogins.size() * 32);
+        List<Object> args = new ArrayList<>(lastLogins.size() * 2);
+        sql.append(UPDATE_PREFIX);
+        for (Map.Entry<Long, LocalDateTime> entry : lastLogins.entrySet()) {
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(? AS BIGINT), CAST(? AS TIMESTAMP))");
+            args.add(entry.getKey());
+            args.add(Timestamp.valueOf(entry.getValue()));
+        }
+        sql.append(UPDATE_SUFFIX);
+
+        int updated = jdbcTemplate.update(sql.toString(), args.toArray());
+
+        Cache cache = entityManagerFactory.getCache();
+        for (Long userId : lastLogins.keySet()) {
+            cache.evict(User.class, userId);
+        }
+        return updated;
+    }
+}
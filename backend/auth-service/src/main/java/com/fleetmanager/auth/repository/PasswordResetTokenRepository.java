@@ -1,10 +1,59 @@
 package com.fleetmanager.auth.repository;
 
 import com.fleetmanager.auth.entity.PasswordResetToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Repository
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
-    // TODO: Add custom query methods
+
+    Optional<PasswordResetToken> findByTokenHash(byte[] tokenHash);
+
+    /** Retires a user's outstanding tokens so only the newest link works. */
+    @Modifying
+    @Query("""
+            update PasswordResetToken t set t.expiresAt = :now
+            where t.userId = :userId and t.usedAt is null and t.expiresAt > :now
+            """)
+    int expireOutstanding(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Marks the token used if it still is usable; 0 means it was used, expired or
+     * consumed concurrently. Setting expiresAt as well hands it to the purge.
+     */
+    @Modifying
+    @Query("""
+            update PasswordResetToken t set t.usedAt = :now, t.expiresAt = :now
+            where t.id = :id and t.usedAt is null and t.expiresAt > :now
+            """)
+    int consume(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes at most {@code batchSize} tokens that expired (or were used) before
+     * {@code cutoff}, addressing them by ctid so each call is one short index range
+     * scan plus a TID scan, in its own transaction. The declared query space keeps
+     * Hibernate from clearing every second-level cache region after each batch.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "password_reset_tokens"))
+    @Transactional
+    @Query(value = """
+            DELETE FROM password_reset_tokens
+            WHERE ctid = ANY (ARRAY(
+                SELECT ctid FROM password_reset_tokens
+                WHERE expires_at < :cutoff
+                LIMIT :batchSize))
+              AND expires_at < :cutoff
+            """, nativeQuery = true)
+    int purgeExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
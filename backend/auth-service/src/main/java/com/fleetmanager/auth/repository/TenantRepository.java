@@ -5,12 +5,19 @@ package com.fleetmanager.auth.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fleetmanager.auth.entity.Tenant;
+import com.fleetmanager.auth.repository.projection.TenantRef;
 
 public interface TenantRepository extends JpaRepository<Tenant, Long> {
 
     Optional<Tenant> findBySubdomain(String subdomain);
 
     boolean existsBySubdomain(String subdomain);
+
+    @Query("select new com.fleetmanager.auth.repository.projection.TenantRef(t.id, t.active) "
+            + "from Tenant t where t.subdomain = :subdomain")
+    Optional<TenantRef> findRefBySubdomain(@Param("subdomain") String subdomain);
 }
@@ -0,0 +1,130 @@
+package com.fleetmanager.auth.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fleetmanager.auth.enums.Role;
+import com.fleetmanager.auth.enums.UserStatus;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-wise user writes for bulk import. Plain JDBC, so callers pass the tenant id
+ * explicitly instead of relying on the Hibernate tenant filter.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkRepository {
+
+    private static final String INSERT = """
+            INSERT INTO users (tenant_id, email, password_hash, name, role, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (tenant_id, email) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public record NewUser(String email, String passwordHash, String name, Role role) {
+    }
+
+    /** Which of {@code emails} already exist in the tenant, in one query. */
+    public Set<String> findExistingEmails(Long tenantId, Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "SELECT email FROM users WHERE tenant_id = ? AND email = ANY (?)")) {
+                ps.setLong(1, tenantId);
+                ps.setArray(2, connection.createArrayOf("varchar", emails.toArray()));
+                Set<String> existing = new HashSet<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        existing.add(rs.getString(1));
+                    }
+                }
+                return existing;
+            }
+        });
+    }
+
+    /**
+     * Inserts the users as one JDBC batch in one transaction. Rows that collide with
+     * {@code uk_users_tenant_email} (a concurrent insert since the existence check)
+     * are skipped rather than failing the batch. Hibernate does not see the insert, so
+     * cached query results (e.g. a login lookup that found no such user) are dropped once
+     * it commits.
+     *
+     * @return generated id per inserted email
+     */
+    @Transactional
+    public Map<String, Long> insertAll(Long tenantId, List<NewUser> users) {
+        Map<String, Long> ids = new HashMap<>();
+        if (users.isEmpty()) {
+            return ids;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT, new String[] { "id", "email" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NewUser user = users.get(i);
+                        ps.setLong(1, tenantId);
+                        ps.setString(2, user.email());
+                        ps.setString(3, user.passwordHash());
+                        ps.setString(4, user.name());
+                        ps.setString(5, user.role().name());
+                        ps.setString(6, UserStatus.ACTIVE.name());
+                        ps.setTimestamp(7, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return users.size();
+                    }
+                },
+                keyHolder);
+
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.put((String) keys.get("email"), ((Number) keys.get("id")).longValue());
+        }
+        if (!ids.isEmpty()) {
+            evictQueryResultsAfterCommit();
+        }
+        return ids;
+    }
+
+    private void evictQueryResultsAfterCommit() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.evictDefaultQueryRegion();
+            }
+        });
+    }
+}
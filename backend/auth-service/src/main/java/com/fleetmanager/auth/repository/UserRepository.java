@@ -2,7 +2,14 @@ package com.fleetmanager.auth.repository;
 
 import com.fleetmanager.auth.enums.Role;
 import com.fleetmanager.auth.entity.User;
+import com.fleetmanager.auth.repository.projection.LoginCredentials;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,7 +17,34 @@ import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    /*
+     * Query-cache keys hold the bound parameters but not tenant filter values, so only
+     * queries that bind the tenant id themselves may be cacheable; TenantFilterAspect
+     * rejects calls whose tenantId differs from the current tenant.
+     */
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmailAndTenantId(String email, Long tenantId);
+
     boolean existsByEmailAndTenantId(String email, Long tenantId);
     List<User> findByRole(Role role);
+
+    /**
+     * The tenant id comes from the tenant directory, so this touches only the users table.
+     * Deliberately not cacheable: the query cache is per instance, and a password change or
+     * deactivation on another instance must take effect here on the next login.
+     */
+    @Query("""
+            select new com.fleetmanager.auth.repository.projection.LoginCredentials(
+                u.id, u.tenantId, u.email, u.passwordHash, u.role, u.status)
+            from User u
+            where u.tenantId = :tenantId and u.email = :email
+            """)
+    Optional<LoginCredentials> findLoginCredentials(@Param("tenantId") Long tenantId,
+                                                    @Param("email") String email);
+
+    @Modifying
+    @Query("update User u set u.passwordHash = :passwordHash where u.id = :userId")
+    int updatePasswordHash(@Param("userId") Long userId, @Param("passwordHash") String passwordHash);
 }
@@ -0,0 +1,17 @@
+package com.fleetmanager.auth.repository.projection;
+
+import com.fleetmanager.auth.enums.Role;
+import com.fleetmanager.auth.enums.UserStatus;
+
+/**
+ * What a login needs about a user, read in one query without loading the
+ * entity into the persistence context.
+ */
+public record LoginCredentials(
+        Long userId,
+        Long tenantId,
+        String email,
+        String passwordHash,
+        Role role,
+        UserStatus status) {
+}
@@ -0,0 +1,16 @@
+package com.fleetmanager.auth.repository.projection;
+
+import java.util.Map;
+
+import com.fleetmanager.auth.enums.EmailTemplate;
+
+/**
+ * An outbox row claimed for delivery; {@code attempts} already includes this one.
+ */
+public record OutboxEmail(
+        Long id,
+        String recipient,
+        EmailTemplate template,
+        Map<String, Object> variables,
+        int attempts) {
+}
@@ -0,0 +1,7 @@
+package com.fleetmanager.auth.repository.projection;
+
+/**
+ * The part of a tenant that request handling needs: its id and whether it may be used.
+ */
+public record TenantRef(Long id, boolean active) {
+}
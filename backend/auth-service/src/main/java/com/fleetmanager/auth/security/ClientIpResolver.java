@@ -0,0 +1,76 @@
+package com.fleetmanager.auth.security;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Client address for per-IP limits. Behind the gateway the socket peer is the gateway
+ * itself, so {@code X-Forwarded-For} is used instead - but only when the peer is one of
+ * {@code security.login-attempts.ip.trusted-proxies}. Anyone else, such as a client
+ * reaching the service directly, could put any address in the header and get a fresh
+ * failure budget per request.
+ *
+ * The hops are read right to left and the first one that is not a trusted proxy is the
+ * client: every hop to its right was appended by a proxy we trust, everything to its
+ * left came from the client and is ignored.
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    private static final Pattern IP_LITERAL =
+            Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}|[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${security.login-attempts.ip.trusted-proxies:}") String[] trustedProxies) {
+        this.trustedProxies = Arrays.stream(trustedProxies)
+                .map(String::trim)
+                .filter(cidr -> !cidr.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        if (!trusted(client)) {
+            return client;
+        }
+        String forwarded = request.getHeader(X_FORWARDED_FOR);
+        if (forwarded == null) {
+            return client;
+        }
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            client = hop;
+            if (!trusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean trusted(String address) {
+        // IpAddressMatcher resolves host names; a forged hop must not cost a DNS lookup
+        if (trustedProxies.isEmpty() || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher proxy : trustedProxies) {
+            if (proxy.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
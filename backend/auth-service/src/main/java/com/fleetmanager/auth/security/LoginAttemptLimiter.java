@@ -0,0 +1,124 @@
+package com.fleetmanager.auth.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fleetmanager.auth.exception.TooManyLoginAttemptsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Rejects brute-force logins before any database lookup or password hash.
+ *
+ * Two sliding windows:
+ * <ul>
+ *   <li>per account (subdomain + email): counts every attempt, including concurrent ones
+ *       still in flight, and is cleared by a successful login;</li>
+ *   <li>per client IP: counts failed attempts only, so a depot full of drivers behind
+ *       one NAT address is not throttled for logging in successfully.</li>
+ * </ul>
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final boolean enabled;
+    private final SlidingWindowCounter accounts;
+    private final SlidingWindowCounter clients;
+    private final int accountLimit;
+    private final int ipFailureLimit;
+    private final long accountRetryAfterSeconds;
+    private final long ipRetryAfterSeconds;
+
+    private final Counter accountRejected;
+    private final Counter ipRejected;
+
+    @Autowired
+    public LoginAttemptLimiter(
+            @Value("${security.login-attempts.enabled:true}") boolean enabled,
+            @Value("${security.login-attempts.capacity:65536}") int capacity,
+            @Value("${security.login-attempts.account.limit:10}") int accountLimit,
+            @Value("${security.login-attempts.account.window:5m}") Duration accountWindow,
+            @Value("${security.login-attempts.ip.failure-limit:50}") int ipFailureLimit,
+            @Value("${security.login-attempts.ip.window:1m}") Duration ipWindow,
+            MeterRegistry meterRegistry) {
+        this(enabled, capacity, accountLimit, accountWindow, ipFailureLimit, ipWindow, meterRegistry,
+                System::currentTimeMillis);
+    }
+
+    public LoginAttemptLimiter(boolean enabled, int capacity,
+                               int accountLimit, Duration accountWindow,
+                               int ipFailureLimit, Duration ipWindow,
+                               MeterRegistry meterRegistry, LongSupplier millisClock) {
+        this.enabled = enabled;
+        this.accounts = new SlidingWindowCounter(capacity, accountWindow.toMillis(), millisClock);
+        this.clients = new SlidingWindowCounter(capacity, ipWindow.toMillis(), millisClock);
+        this.accountLimit = accountLimit;
+        this.ipFailureLimit = ipFailureLimit;
+        this.accountRetryAfterSeconds = Math.max(1, accountWindow.toSeconds());
+        this.ipRetryAfterSeconds = Math.max(1, ipWindow.toSeconds());
+
+        this.accountRejected = Counter.builder("auth.login_attempts.rejected")
+                .description("Logins rejected before credential checks")
+                .tag("key", "account")
+                .register(meterRegistry);
+        this.ipRejected = Counter.builder("auth.login_attempts.rejected")
+                .description("Logins rejected before credential checks")
+                .tag("key", "ip")
+                .register(meterRegistry);
+        Gauge.builder("auth.login_attempts.tracked", accounts, SlidingWindowCounter::size)
+                .description("Live sliding-window entries")
+                .tag("key", "account")
+                .register(meterRegistry);
+        Gauge.builder("auth.login_attempts.tracked", clients, SlidingWindowCounter::size)
+                .description("Live sliding-window entries")
+                .tag("key", "ip")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the attempt against the account.
+     *
+     * @param clientIp may be {@code null} when unknown; only the account window applies then
+     * @throws TooManyLoginAttemptsException if the account or client is over its limit
+     */
+    public void checkAndRecord(String subdomain, String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        if (clientIp != null && clients.estimate(clients.hash(clientIp)) >= ipFailureLimit) {
+            ipRejected.increment();
+            throw new TooManyLoginAttemptsException(ipRetryAfterSeconds);
+        }
+        if (!accounts.tryAcquire(accountKey(subdomain, email), accountLimit)) {
+            accountRejected.increment();
+            throw new TooManyLoginAttemptsException(accountRetryAfterSeconds);
+        }
+    }
+
+    public void onFailure(String clientIp) {
+        if (enabled && clientIp != null) {
+            clients.increment(clients.hash(clientIp));
+        }
+    }
+
+    public void onSuccess(String subdomain, String email) {
+        if (enabled) {
+            accounts.reset(accountKey(subdomain, email));
+        }
+    }
+
+    private long accountKey(String subdomain, String email) {
+        return accounts.hash(normalize(subdomain), normalize(email));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,219 @@
+package com.fleetmanager.auth.security;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fleetmanager.auth.exception.PasswordHashingUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs BCrypt on a small dedicated pool instead of the request thread.
+ *
+ * The pool has a fixed number of threads and a bounded queue. A hash that cannot be
+ * queued, or is still waiting for a thread after {@code maxWait}, fails fast with
+ * {@link PasswordHashingUnavailableException} (503). A login storm can then only
+ * occupy {@code threads} cores and {@code threads + queueCapacity} request threads,
+ * leaving the rest of Tomcat's pool for everything else.
+ */
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder, int threads, int queueCapacity,
+                                   Duration maxWait, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.prestartAllCoreThreads();
+
+        this.matchesTimer = Timer.builder("auth.password_hashing.latency")
+                .description("Time spent hashing on the password-hashing pool")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password_hashing.latency")
+                .description("Time spent hashing on the password-hashing pool")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.password_hashing.wait")
+                .description("Time a hash waited in the queue before a pool thread picked it up")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password_hashing.rejected")
+                .description("Hash requests rejected because the pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("auth.password_hashing.queue_depth", executor, e -> e.getQueue().size())
+                .description("Hash requests waiting for a pool thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password_hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Pool threads currently hashing")
+                .register(meterRegistry);
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Hashes a batch in parallel while keeping at most {@code threads} of its hashes
+     * queued at a time. A bulk import therefore uses whatever the pool has spare
+     * without filling the queue that interactive logins depend on; when logins do
+     * fill it, the batch waits instead of failing.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int window = executor.getCorePoolSize();
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        Deque<Future<String>> inFlight = new ArrayDeque<>(window);
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                while (inFlight.size() >= window) {
+                    awaitQuietly(inFlight.poll());
+                }
+                Future<String> future = null;
+                while (future == null) {
+                    try {
+                        future = executor.submit(() -> {
+                            long startedAt = System.nanoTime();
+                            try {
+                                return passwordEncoder.encode(rawPassword);
+                            } finally {
+                                encodeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                            }
+                        });
+                    } catch (RejectedExecutionException ex) {
+                        // queue full of logins: wait for our own work or back off briefly
+                        if (inFlight.isEmpty()) {
+                            Thread.sleep(5);
+                        } else {
+                            awaitQuietly(inFlight.poll());
+                        }
+                    }
+                }
+                futures.add(future);
+                inFlight.add(future);
+            }
+
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+            return hashes;
+        } catch (InterruptedException ex) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException ex) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private static void awaitQuietly(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException ex) {
+            // surfaced when the results are collected
+        }
+    }
+
+    private <T> T run(Timer timer, Callable<T> hash) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                if (startedAt - submittedAt > maxWaitNanos) {
+                    return null; // the caller has given up; don't burn CPU on it
+                }
+                try {
+                    return hash.call();
+                } finally {
+                    timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new PasswordHashingUnavailableException();
+        }
+
+        try {
+            // waiting budget plus generous room for the hash itself
+            T result = future.get(maxWaitNanos + TimeUnit.SECONDS.toNanos(5), TimeUnit.NANOSECONDS);
+            if (result == null) {
+                rejected.increment();
+                throw new PasswordHashingUnavailableException();
+            }
+            return result;
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingUnavailableException();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
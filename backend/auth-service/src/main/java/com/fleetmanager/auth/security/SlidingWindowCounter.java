@@ -0,0 +1,184 @@
+package com.fleetmanager.auth.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-size, lock-free table of approximate sliding-window counters.
+ *
+ * Each slot is a single {@code long} updated by CAS:
+ * {@code [fingerprint:24][window:16][previous:12][current:12]}. The count over the last
+ * window is estimated as {@code previous * (1 - elapsed fraction) + current}, so it
+ * slides smoothly without storing timestamps. A slot whose window is two or more
+ * windows old counts as empty and is reused, so entries expire on their own, and the
+ * table never grows: when every probed slot is live the key takes over its home slot.
+ * Keys are 64-bit hashes; two keys sharing index and fingerprint share a counter.
+ */
+public class SlidingWindowCounter {
+
+    private static final int MAX_PROBES = 8;
+    private static final long COUNT_MASK = 0xFFF;
+    private static final long WINDOW_MASK = 0xFFFF;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long windowMillis;
+    private final LongSupplier millisClock;
+    private final long seed = ThreadLocalRandom.current().nextLong();
+
+    public SlidingWindowCounter(int capacity, long windowMillis, LongSupplier millisClock) {
+        int size = Integer.highestOneBit(Math.max(MAX_PROBES, capacity - 1) << 1);
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.windowMillis = windowMillis;
+        this.millisClock = millisClock;
+    }
+
+    /** Seeded 64-bit hash of the key parts, so colliding keys cannot be precomputed. */
+    public long hash(String... parts) {
+        long h = seed;
+        for (String part : parts) {
+            for (int i = 0; i < part.length(); i++) {
+                h = (h ^ part.charAt(i)) * 0x100000001b3L;
+            }
+            h = (h ^ 0xFF) * 0x100000001b3L; // separator, so ("ab","c") != ("a","bc")
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Counts one event unless the estimated count has already reached {@code limit}.
+     *
+     * @return {@code false} if the key is over the limit; nothing is counted then
+     */
+    public boolean tryAcquire(long key, int limit) {
+        return update(key, limit, false);
+    }
+
+    /** Counts one event unconditionally (saturating). */
+    public void increment(long key) {
+        update(key, Integer.MAX_VALUE, false);
+    }
+
+    /** Forgets the key's events, e.g. after a successful login. */
+    public void reset(long key) {
+        update(key, Integer.MAX_VALUE, true);
+    }
+
+    public int estimate(long key) {
+        long now = millisClock.getAsLong();
+        long window = now / windowMillis;
+        long fingerprint = fingerprint(key);
+        int home = (int) key & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            long slot = slots.get((home + probe) & mask);
+            if (slot >>> 40 == fingerprint) {
+                return estimate(rotate(slot, window), now);
+            }
+        }
+        return 0;
+    }
+
+    /** Live (not yet expired) entries; O(capacity), meant for metrics. */
+    public int size() {
+        long window = millisClock.getAsLong() / windowMillis;
+        int live = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            if (slot != 0 && !isExpired(slot, window)) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    private boolean update(long key, int limit, boolean reset) {
+        long now = millisClock.getAsLong();
+        long window = now / windowMillis;
+        long fingerprint = fingerprint(key);
+        int home = (int) key & mask;
+
+        while (true) {
+            int index = -1;
+            long current = 0;
+            int free = -1;
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int i = (home + probe) & mask;
+                long slot = slots.get(i);
+                if (slot >>> 40 == fingerprint) {
+                    index = i;
+                    current = slot;
+                    break;
+                }
+                if (free < 0 && (slot == 0 || isExpired(slot, window))) {
+                    free = i;
+                }
+            }
+
+            long base;
+            if (index >= 0) {
+                base = rotate(current, window);
+            } else {
+                index = free >= 0 ? free : home;
+                current = slots.get(index);
+                if (free >= 0 && current != 0 && !isExpired(current, window)) {
+                    continue; // claimed by another key meanwhile
+                }
+                base = pack(fingerprint, window, 0, 0);
+            }
+
+            long next;
+            if (reset) {
+                next = pack(fingerprint, window, 0, 0);
+            } else {
+                if (estimate(base, now) >= limit) {
+                    return false;
+                }
+                long count = Math.min(COUNT_MASK, (base & COUNT_MASK) + 1);
+                next = (base & ~COUNT_MASK) | count;
+            }
+            if (slots.compareAndSet(index, current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private long fingerprint(long key) {
+        long fingerprint = key >>> 40;
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private static long pack(long fingerprint, long window, long previous, long current) {
+        return fingerprint << 40 | (window & WINDOW_MASK) << 24 | previous << 12 | current;
+    }
+
+    private static long windowsBehind(long slot, long window) {
+        return (window - (slot >>> 24)) & WINDOW_MASK;
+    }
+
+    private static boolean isExpired(long slot, long window) {
+        return windowsBehind(slot, window) >= 2;
+    }
+
+    /** Moves the slot into the current window. */
+    private static long rotate(long slot, long window) {
+        long behind = windowsBehind(slot, window);
+        if (behind == 0) {
+            return slot;
+        }
+        long previous = behind == 1 ? slot & COUNT_MASK : 0;
+        return pack(slot >>> 40, window, previous, 0);
+    }
+
+    private int estimate(long slot, long now) {
+        double elapsed = (double) (now % windowMillis) / windowMillis;
+        long previous = (slot >>> 12) & COUNT_MASK;
+        long current = slot & COUNT_MASK;
+        return (int) (previous * (1 - elapsed) + current);
+    }
+}
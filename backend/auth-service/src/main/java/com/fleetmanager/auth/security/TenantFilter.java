@@ -1,11 +1,14 @@
 package com.fleetmanager.auth.security;
 
 import com.fleetmanager.auth.context.TenantContext;
-import com.fleetmanager.auth.util.JwtUtil;
-import io.jsonwebtoken.Claims;
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.common.security.JwtVerifier;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -14,23 +17,24 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Date;
 import java.util.List;
 
 public class TenantFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtVerifier jwtVerifier;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     // Public endpoints (same as auth-service / gateway)
     private static final List<String> EXCLUDED_PATHS = List.of(
             "/api/auth/login",
             "/api/auth/register-tenant",
-            "/actuator/health"
+            "/api/auth/password-reset/**",
+            "/actuator/health/**",
+            "/actuator/metrics/**"
     );
 
-    public TenantFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public TenantFilter(JwtVerifier jwtVerifier) {
+        this.jwtVerifier = jwtVerifier;
     }
 
     @Override
@@ -61,38 +65,31 @@ public class TenantFilter extends OncePerRequestFilter {
         String token = header.substring(7).trim();
 
         try {
-            // parse claims (JwtUtil.extractClaims should throw on invalid tokens)
-            Claims claims = jwtUtil.extractClaims(token);
+            // single verification pass: signature, expiry and claim conversion
+            JwtPrincipal principal = jwtVerifier.verify(token);
 
-            // Check expiry if present
-            Date exp = claims.getExpiration();
-            if (exp != null && exp.before(new Date())) {
-                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token expired");
-                return;
-            }
-
-            // Extract tenant_id claim
-            Object tenantIdObj = claims.get("tenant_id");
-            if (tenantIdObj == null) {
+            Long tenantId = principal.getTenantId();
+            if (tenantId == null) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token missing tenant_id");
                 return;
             }
 
-            Long tenantId;
-            if (tenantIdObj instanceof Number) {
-                tenantId = ((Number) tenantIdObj).longValue();
-            } else {
-                tenantId = Long.valueOf(String.valueOf(tenantIdObj));
-            }
-
             // Set TenantContext for downstream usage
             TenantContext.setCurrentTenantId(tenantId);
 
+            // Principal is the user id, authorities the token's role (for @PreAuthorize)
+            List<SimpleGrantedAuthority> authorities = principal.getRole() == null
+                    ? List.of()
+                    : List.of(new SimpleGrantedAuthority("ROLE_" + principal.getRole()));
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(principal.getUserId(), null, authorities));
+
             try {
                 filterChain.doFilter(request, response);
             } finally {
                 // Always clear to avoid leaks
                 TenantContext.clear();
+                SecurityContextHolder.clearContext();
             }
 
         } catch (ExpiredJwtException eje) {
@@ -2,51 +2,55 @@ package com.fleetmanager.auth.service;
 
 import com.fleetmanager.auth.dto.request.LoginRequest;
 import com.fleetmanager.auth.dto.response.LoginResponse;
-import com.fleetmanager.auth.entity.User;
 import com.fleetmanager.auth.enums.UserStatus;
 import com.fleetmanager.auth.exception.InvalidCredentialsException;
-import com.fleetmanager.auth.repository.TenantRepository;
 import com.fleetmanager.auth.repository.UserRepository;
+import com.fleetmanager.auth.repository.projection.LoginCredentials;
+import com.fleetmanager.auth.repository.projection.TenantRef;
+import com.fleetmanager.auth.security.PasswordHashingExecutor;
 import com.fleetmanager.auth.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final TenantRepository tenantRepository;
+    private final TenantDirectory tenantDirectory;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
+    private final LastLoginService lastLoginService;
     private final JwtUtil jwtUtil;
 
-    @Transactional
+    // Not transactional: the one read is its own short transaction, so no
+    // connection is held while the password is being hashed. Unknown and inactive
+    // tenants are answered from the tenant directory without touching the database.
     public LoginResponse login(LoginRequest request) {
 
-        var tenant = tenantRepository.findBySubdomain(request.getSubdomain())
+        TenantRef tenant = tenantDirectory.findActive(request.getSubdomain())
                 .orElseThrow(() -> new InvalidCredentialsException());
 
-        User user = userRepository
-                .findByEmailAndTenantId(request.getEmail(), tenant.getId())
+        LoginCredentials user = userRepository
+                .findLoginCredentials(tenant.id(), request.getEmail())
                 .orElseThrow(() -> new InvalidCredentialsException());
 
-        if (user.getStatus() != UserStatus.ACTIVE ||
-            !passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (user.status() != UserStatus.ACTIVE ||
+            !passwordHashing.matches(request.getPassword(), user.passwordHash())) {
             throw new InvalidCredentialsException();
         }
 
-        user.setLastLogin(java.time.LocalDateTime.now());
+        lastLoginService.recordLogin(user.userId(), LocalDateTime.now());
 
-        String token = jwtUtil.generateToken(user);
+        String token = jwtUtil.generateToken(user.userId(), user.tenantId(), user.email(), user.role());
 
         return LoginResponse.builder()
                 .token(token)
-                .userId(user.getId())
-                .email(user.getEmail())
-                .role(user.getRole().name())
-                .tenantId(user.getTenantId())
+                .userId(user.userId())
+                .email(user.email())
+                .role(user.role().name())
+                .tenantId(user.tenantId())
                 .build();
     }
 }
@@ -0,0 +1,290 @@
+package com.fleetmanager.auth.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import com.fleetmanager.auth.repository.EmailOutboxRepository;
+import com.fleetmanager.auth.repository.projection.OutboxEmail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Delivers queued mail from the outbox.
+ *
+ * Each pass claims up to {@code batch-size} due rows, renders them (Thymeleaf keeps
+ * every template parsed after first use) and hands the whole batch to one
+ * {@link JavaMailSender#send(MimeMessage...)} call, which sends it over a single SMTP
+ * connection. {@code threads} dispatchers run side by side, each with its own
+ * connection. A message that fails is retried with exponential backoff until
+ * {@code max-attempts}, then left as {@code FAILED}.
+ */
+@Component
+public class EmailDispatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailDispatcher.class);
+
+    private final EmailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final ITemplateEngine templateEngine;
+    private final boolean enabled;
+    private final String from;
+    private final int threads;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    private final Timer sendTimer;
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private volatile ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public EmailDispatcher(
+            EmailOutboxRepository outboxRepository,
+            JavaMailSender mailSender,
+            ITemplateEngine templateEngine,
+            MeterRegistry meterRegistry,
+            @Value("${auth.email.enabled:true}") boolean enabled,
+            @Value("${auth.email.from:no-reply@trackstar.local}") String from,
+            @Value("${auth.email.dispatcher.threads:2}") int threads,
+            @Value("${auth.email.dispatcher.batch-size:50}") int batchSize,
+            @Value("${auth.email.dispatcher.poll-interval:5s}") Duration pollInterval,
+            @Value("${auth.email.dispatcher.lease:5m}") Duration lease,
+            @Value("${auth.email.retry.max-attempts:8}") int maxAttempts,
+            @Value("${auth.email.retry.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${auth.email.retry.max-backoff:1h}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
+        this.enabled = enabled;
+        this.from = from;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+
+        this.sent = Counter.builder("auth.email.sent")
+                .description("Mails accepted by the SMTP server")
+                .register(meterRegistry);
+        this.retried = Counter.builder("auth.email.failed").tag("outcome", "retry")
+                .description("Mails that failed and were rescheduled or given up on")
+                .register(meterRegistry);
+        this.failed = Counter.builder("auth.email.failed").tag("outcome", "dead")
+                .description("Mails that failed and were rescheduled or given up on")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("auth.email.batch.size")
+                .description("Mails claimed per dispatcher pass")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("auth.email.batch.send")
+                .description("Time to render and send one batch")
+                .register(meterRegistry);
+    }
+
+    /** Asks for a dispatch pass soon; calls made while one is already pending coalesce. */
+    public void wakeUp() {
+        if (!running || !wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                wakeUpPending.set(false);
+                dispatchQuietly();
+            });
+        } catch (RejectedExecutionException ex) {
+            wakeUpPending.set(false); // shutting down; the row stays queued
+        }
+    }
+
+    /**
+     * Sends due mail until a claim comes back short.
+     *
+     * @return number of mails accepted by the SMTP server
+     */
+    public int dispatch() {
+        int delivered = 0;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEmail> batch = outboxRepository.claimDue(batchSize, now, now.plus(lease));
+            if (batch.isEmpty()) {
+                return delivered;
+            }
+            batchSizes.record(batch.size());
+            delivered += sendTimer.record(() -> send(batch));
+            if (batch.size() < batchSize) {
+                return delivered;
+            }
+        }
+    }
+
+    private int send(List<OutboxEmail> batch) {
+        // MimeMessage has identity equality; insertion order keeps claim order on the wire
+        Map<MimeMessage, OutboxEmail> messages = new LinkedHashMap<>(batch.size() * 2);
+        for (OutboxEmail email : batch) {
+            try {
+                messages.put(render(email), email);
+            } catch (MessagingException | RuntimeException ex) {
+                // A template or address problem will not fix itself on retry.
+                giveUp(email, ex);
+            }
+        }
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException ex) {
+            failures = ex.getFailedMessages().isEmpty() ? failAll(messages, ex) : ex.getFailedMessages();
+        } catch (MailException ex) {
+            failures = failAll(messages, ex);
+        }
+
+        List<Long> sentIds = new ArrayList<>(messages.size());
+        for (Map.Entry<MimeMessage, OutboxEmail> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(entry.getValue().id());
+            } else {
+                retryOrGiveUp(entry.getValue(), failure);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            outboxRepository.markSent(sentIds, LocalDateTime.now());
+            sent.increment(sentIds.size());
+        }
+        return sentIds.size();
+    }
+
+    private MimeMessage render(OutboxEmail email) throws MessagingException {
+        Context context = new Context(Locale.ENGLISH, email.variables());
+        String html = templateEngine.process(email.template().getPath(), context);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(email.recipient());
+        helper.setSubject(email.template().getSubject());
+        helper.setText(html, true);
+        return message;
+    }
+
+    private void retryOrGiveUp(OutboxEmail email, Exception ex) {
+        if (email.attempts() >= maxAttempts) {
+            giveUp(email, ex);
+            return;
+        }
+        retried.increment();
+        outboxRepository.reschedule(email.id(), LocalDateTime.now().plus(backoff(email.attempts())), describe(ex));
+    }
+
+    private void giveUp(OutboxEmail email, Exception ex) {
+        failed.increment();
+        log.warn("Giving up on mail {} ({}) after {} attempt(s)", email.id(), email.template(), email.attempts(), ex);
+        outboxRepository.markFailed(email.id(), describe(ex));
+    }
+
+    /** {@code initial-backoff * 2^(attempts - 1)}, capped at {@code max-backoff}. */
+    Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static Map<Object, Exception> failAll(Map<MimeMessage, OutboxEmail> messages, Exception ex) {
+        Map<Object, Exception> failures = new IdentityHashMap<>(messages.size());
+        messages.keySet().forEach(message -> failures.put(message, ex));
+        return failures;
+    }
+
+    private static String describe(Exception ex) {
+        return ex.getClass().getSimpleName() + ": " + ex.getMessage();
+    }
+
+    private void dispatchQuietly() {
+        try {
+            dispatch();
+        } catch (RuntimeException ex) {
+            log.warn("Mail dispatch pass failed", ex);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !enabled) {
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "email-dispatcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = pollInterval.toMillis();
+        for (int i = 0; i < threads; i++) {
+            // staggered so the pollers do not claim in lockstep
+            scheduler.scheduleWithFixedDelay(this::dispatchQuietly,
+                    intervalMillis * i / threads, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        scheduler.shutdown();
+        try {
+            // claimed rows that do not finish are retried once their lease expires
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
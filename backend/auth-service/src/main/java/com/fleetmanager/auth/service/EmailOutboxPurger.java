@@ -0,0 +1,97 @@
+package com.fleetmanager.auth.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fleetmanager.auth.enums.EmailTemplate;
+import com.fleetmanager.auth.repository.EmailOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps {@code email_outbox} from holding secrets or growing without bound.
+ *
+ * Password reset mails still pending once their link has expired are given up on, so
+ * the raw token does not sit in the table past its validity while SMTP is down. Sent
+ * and failed rows (already scrubbed of their variables) are deleted after
+ * {@code retention}, in batches like {@link PasswordResetTokenPurger}.
+ */
+@Component
+public class EmailOutboxPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxPurger.class);
+
+    private final EmailOutboxRepository outboxRepository;
+    private final boolean enabled;
+    private final Duration retention;
+    private final Duration resetTokenTtl;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter purged;
+    private final Counter expired;
+
+    public EmailOutboxPurger(EmailOutboxRepository outboxRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${auth.email.outbox-purge.enabled:true}") boolean enabled,
+                             @Value("${auth.email.outbox-purge.retention:7d}") Duration retention,
+                             @Value("${auth.password-reset.token-ttl:30m}") Duration resetTokenTtl,
+                             @Value("${auth.email.outbox-purge.batch-size:1000}") int batchSize,
+                             @Value("${auth.email.outbox-purge.max-batches:100}") int maxBatches) {
+        this.outboxRepository = outboxRepository;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.resetTokenTtl = resetTokenTtl;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.purged = Counter.builder("auth.email.outbox.purged")
+                .description("Sent or failed outbox rows deleted")
+                .register(meterRegistry);
+        this.expired = Counter.builder("auth.email.outbox.expired")
+                .description("Pending reset mails given up on after their link expired")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${auth.email.outbox-purge.initial-delay:PT1M}",
+               fixedDelayString = "${auth.email.outbox-purge.interval:PT5M}")
+    public void scheduledPurge() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            log.warn("Email outbox purge failed", ex);
+        }
+    }
+
+    /** @return rows deleted in this run */
+    public int purge() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int stale = outboxRepository.expirePending(EmailTemplate.PASSWORD_RESET, now.minus(resetTokenTtl),
+                "Reset link expired before delivery");
+        expired.increment(stale);
+
+        LocalDateTime cutoff = now.minus(retention);
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = outboxRepository.purgeFinishedBatch(cutoff, batchSize);
+            total += deleted;
+            purged.increment(deleted);
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        if (stale > 0 || total > 0) {
+            log.info("Email outbox: expired {} pending reset mails, purged {} finished rows", stale, total);
+        }
+        return total;
+    }
+}
@@ -1,8 +1,66 @@
 package com.fleetmanager.auth.service;
 
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fleetmanager.auth.enums.EmailTemplate;
+import com.fleetmanager.auth.repository.EmailOutboxRepository;
 
+/**
+ * Queues outgoing mail in the {@code email_outbox} table as part of the caller's
+ * transaction, so a mail exists exactly when the change that caused it commits.
+ * Rendering and SMTP happen later on {@link EmailDispatcher}'s threads, which are
+ * nudged once the transaction commits.
+ */
 @Service
 public class EmailService {
-    // TODO: Implement email sending logic
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailDispatcher dispatcher;
+    private final String baseUrl;
+
+    public EmailService(EmailOutboxRepository outboxRepository,
+                        EmailDispatcher dispatcher,
+                        @Value("${auth.email.base-url:http://localhost:3000}") String baseUrl) {
+        this.outboxRepository = outboxRepository;
+        this.dispatcher = dispatcher;
+        this.baseUrl = baseUrl;
+    }
+
+    @Transactional
+    public void sendWelcome(Long tenantId, String to, String name, String organizationName) {
+        enqueue(tenantId, to, EmailTemplate.WELCOME, Map.of(
+                "name", name,
+                "organizationName", organizationName,
+                "loginUrl", baseUrl + "/login"));
+    }
+
+    @Transactional
+    public void sendPasswordReset(Long tenantId, String to, String name, String token, Duration validFor) {
+        enqueue(tenantId, to, EmailTemplate.PASSWORD_RESET, Map.of(
+                "name", name,
+                "resetUrl", baseUrl + "/reset-password?token=" + token,
+                "validForMinutes", validFor.toMinutes()));
+    }
+
+    private void enqueue(Long tenantId, String to, EmailTemplate template, Map<String, Object> variables) {
+        outboxRepository.enqueue(tenantId, to, template, variables);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.wakeUp();
+                }
+            });
+        } else {
+            dispatcher.wakeUp();
+        }
+    }
 }
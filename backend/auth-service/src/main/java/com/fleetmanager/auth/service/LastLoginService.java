@@ -0,0 +1,183 @@
+package com.fleetmanager.auth.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import com.fleetmanager.auth.repository.LastLoginBatchRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Write-behind buffer for {@code users.last_login}.
+ *
+ * A login only puts its timestamp into a concurrent map (repeat logins of the same
+ * user collapse to the latest). A background thread flushes the map every
+ * {@code flush-interval} as batched {@code UPDATE ... FROM (VALUES ...)} statements
+ * of at most {@code batch-size} rows, and once more on graceful shutdown. A failed
+ * batch is merged back and retried on the next flush.
+ */
+@Service
+public class LastLoginService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(LastLoginService.class);
+
+    private final LastLoginBatchRepository lastLoginBatchRepository;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private final DistributionSummary flushSize;
+    private final Timer flushLag;
+    private final Timer flushDuration;
+    private final Counter flushFailures;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public LastLoginService(
+            LastLoginBatchRepository lastLoginBatchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.last-login.flush-interval:5s}") Duration flushInterval,
+            @Value("${auth.last-login.batch-size:500}") int batchSize) {
+        this.lastLoginBatchRepository = lastLoginBatchRepository;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.batchSize = batchSize;
+
+        this.flushSize = DistributionSummary.builder("auth.last_login.flush.size")
+                .description("Rows written per flush")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("auth.last_login.flush.lag")
+                .description("Age of the oldest buffered login when it was flushed")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.flushDuration = Timer.builder("auth.last_login.flush.duration")
+                .description("Time spent writing one flush to the database")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("auth.last_login.flush.failures")
+                .description("Batches that failed and were re-queued")
+                .register(meterRegistry);
+        Gauge.builder("auth.last_login.pending", pending, Map::size)
+                .description("Users with a buffered last-login timestamp")
+                .register(meterRegistry);
+    }
+
+    public void recordLogin(Long userId, LocalDateTime at) {
+        pending.merge(userId, at, LastLoginService::latest);
+    }
+
+    /** Writes everything buffered so far; called by the scheduler and on shutdown. */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime oldest = null;
+        int written = 0;
+        long start = System.nanoTime();
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime at = pending.remove(userId);
+            if (at == null) {
+                continue;
+            }
+            batch.put(userId, at);
+            oldest = oldest == null || at.isBefore(oldest) ? at : oldest;
+            if (batch.size() >= batchSize) {
+                written += write(batch);
+                batch = new HashMap<>();
+            }
+        }
+        written += write(batch);
+
+        flushDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (written > 0) {
+            flushSize.record(written);
+            flushLag.record(Duration.between(oldest, LocalDateTime.now()));
+        }
+    }
+
+    private int write(Map<Long, LocalDateTime> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            lastLoginBatchRepository.updateLastLogins(batch);
+            return batch.size();
+        } catch (RuntimeException ex) {
+            flushFailures.increment();
+            log.warn("Could not flush {} last-login timestamps, will retry", batch.size(), ex);
+            batch.forEach(this::recordLogin);
+            return 0;
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "last-login-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly,
+                flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            scheduler.shutdown();
+        }
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        // final flush while the DataSource is still open
+        flushQuietly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Last-login flush failed", ex);
+        }
+    }
+}
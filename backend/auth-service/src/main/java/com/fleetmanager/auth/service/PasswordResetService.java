@@ -1,8 +1,128 @@
 package com.fleetmanager.auth.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fleetmanager.auth.entity.PasswordResetToken;
+import com.fleetmanager.auth.entity.User;
+import com.fleetmanager.auth.enums.UserStatus;
+import com.fleetmanager.auth.exception.InvalidResetTokenException;
+import com.fleetmanager.auth.repository.PasswordResetTokenRepository;
+import com.fleetmanager.auth.repository.UserRepository;
+import com.fleetmanager.auth.repository.projection.TenantRef;
+import com.fleetmanager.auth.security.PasswordHashingExecutor;
 
+/**
+ * Password reset by mailed single-use link.
+ *
+ * Tokens are 256 random bits; only their SHA-256 digest is stored, so a leaked table
+ * cannot be replayed, and confirming a token is one indexed lookup on the digest (no
+ * per-row hash comparison as with BCrypt-stored tokens). Requesting a new link
+ * retires the previous one. The link itself sits in {@code email_outbox} only until
+ * the mail is sent or given up on; see {@link EmailOutboxPurger}.
+ */
 @Service
 public class PasswordResetService {
-    // TODO: Implement password reset logic
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final TenantDirectory tenantDirectory;
+    private final UserRepository userRepository;
+    private final PasswordResetTokenRepository tokenRepository;
+    private final PasswordHashingExecutor passwordHashing;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration tokenTtl;
+
+    public PasswordResetService(TenantDirectory tenantDirectory,
+                                UserRepository userRepository,
+                                PasswordResetTokenRepository tokenRepository,
+                                PasswordHashingExecutor passwordHashing,
+                                EmailService emailService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${auth.password-reset.token-ttl:30m}") Duration tokenTtl) {
+        this.tenantDirectory = tenantDirectory;
+        this.userRepository = userRepository;
+        this.tokenRepository = tokenRepository;
+        this.passwordHashing = passwordHashing;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tokenTtl = tokenTtl;
+    }
+
+    /**
+     * Mails a reset link if the account exists and is active. Says nothing either way,
+     * so the endpoint cannot be used to discover accounts.
+     */
+    @Transactional
+    public void requestReset(String subdomain, String email) {
+        TenantRef tenant = tenantDirectory.findActive(subdomain).orElse(null);
+        if (tenant == null) {
+            return;
+        }
+        User user = userRepository.findByEmailAndTenantId(email, tenant.id()).orElse(null);
+        if (user == null || user.getStatus() != UserStatus.ACTIVE) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        tokenRepository.expireOutstanding(user.getId(), now);
+
+        byte[] raw = new byte[32];
+        RANDOM.nextBytes(raw);
+        String token = TOKEN_ENCODER.encodeToString(raw);
+
+        PasswordResetToken resetToken = new PasswordResetToken();
+        resetToken.setUserId(user.getId());
+        resetToken.setTenantId(tenant.id());
+        resetToken.setTokenHash(digest(token));
+        resetToken.setExpiresAt(now.plus(tokenTtl));
+        tokenRepository.save(resetToken);
+
+        emailService.sendPasswordReset(tenant.id(), user.getEmail(), user.getName(), token, tokenTtl);
+    }
+
+    /**
+     * Sets the new password and uses up the token. The new password is hashed before
+     * the transaction starts, so no connection is held during BCrypt.
+     *
+     * @throws InvalidResetTokenException if the token is unknown, expired or already used
+     */
+    public void confirmReset(String token, String newPassword) {
+        PasswordResetToken resetToken = tokenRepository.findByTokenHash(digest(token))
+                .filter(t -> t.getUsedAt() == null && t.getExpiresAt().isAfter(LocalDateTime.now()))
+                .orElseThrow(InvalidResetTokenException::new);
+
+        String passwordHash = passwordHashing.encode(newPassword);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            // guarded update: of two concurrent confirmations only one gets a row
+            if (tokenRepository.consume(resetToken.getId(), now) == 0) {
+                throw new InvalidResetTokenException();
+            }
+            userRepository.updatePasswordHash(resetToken.getUserId(), passwordHash);
+            tokenRepository.expireOutstanding(resetToken.getUserId(), now);
+        });
+    }
+
+    static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
 }
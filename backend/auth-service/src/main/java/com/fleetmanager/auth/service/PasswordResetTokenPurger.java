@@ -0,0 +1,97 @@
+package com.fleetmanager.auth.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fleetmanager.auth.repository.PasswordResetTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Periodically deletes expired and used reset tokens in batches of {@code batch-size}
+ * rows, each its own short transaction with a pause in between. Row locks are held
+ * for one batch only and autovacuum can keep up, however large the backlog; a run
+ * stops after {@code max-batches} and the next run continues.
+ */
+@Component
+public class PasswordResetTokenPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordResetTokenPurger.class);
+
+    private final PasswordResetTokenRepository tokenRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMillis;
+    private final Counter purged;
+    private final Timer duration;
+
+    public PasswordResetTokenPurger(PasswordResetTokenRepository tokenRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${auth.password-reset.purge.enabled:true}") boolean enabled,
+                                    @Value("${auth.password-reset.purge.batch-size:1000}") int batchSize,
+                                    @Value("${auth.password-reset.purge.max-batches:100}") int maxBatches,
+                                    @Value("${auth.password-reset.purge.pause:50ms}") Duration pause) {
+        this.tokenRepository = tokenRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMillis = pause.toMillis();
+        this.purged = Counter.builder("auth.password_reset.purged")
+                .description("Expired or used reset tokens deleted")
+                .register(meterRegistry);
+        this.duration = Timer.builder("auth.password_reset.purge.duration")
+                .description("Time taken by one purge run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${auth.password-reset.purge.initial-delay:PT1M}",
+               fixedDelayString = "${auth.password-reset.purge.interval:PT10M}")
+    public void scheduledPurge() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            log.warn("Reset token purge failed", ex);
+        }
+    }
+
+    /** @return rows deleted in this run */
+    public int purge() {
+        long start = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now();
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int deleted = tokenRepository.purgeExpiredBatch(cutoff, batchSize);
+                total += deleted;
+                purged.increment(deleted);
+                if (deleted < batchSize) {
+                    break;
+                }
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (total > 0) {
+            log.info("Purged {} expired password reset tokens", total);
+        }
+        return total;
+    }
+}
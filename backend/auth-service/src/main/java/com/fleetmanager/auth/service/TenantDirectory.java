@@ -0,0 +1,108 @@
+package com.fleetmanager.auth.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fleetmanager.auth.repository.TenantRepository;
+import com.fleetmanager.auth.repository.projection.TenantRef;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of subdomain to {@link TenantRef}, so logins and registrations do not
+ * query the tenants table for every request.
+ *
+ * Unknown subdomains are cached too, which keeps login attempts against made-up
+ * tenants off the database. Tenant writes evict the entry once their transaction
+ * commits; see {@link com.fleetmanager.auth.entity.TenantDirectoryListener}.
+ *
+ * That eviction is local to this instance. A tenant deactivated through another
+ * replica, or directly in the database, can still log in and request password resets
+ * here until its entry expires: {@code ttl} (30s by default) is the revocation bound,
+ * so keep it short. The cost is one indexed SELECT per subdomain per {@code ttl}.
+ */
+@Component
+public class TenantDirectory {
+
+    private final LoadingCache<String, Optional<TenantRef>> cache;
+
+    public TenantDirectory(
+            TenantRepository tenantRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.tenant-directory.max-size:10000}") long maxSize,
+            @Value("${auth.tenant-directory.ttl:30s}") Duration ttl,
+            @Value("${auth.tenant-directory.negative-ttl:30s}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PresenceExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                .recordStats()
+                .build(tenantRepository::findRefBySubdomain);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.tenant_directory");
+    }
+
+    /** Empty if no tenant has this subdomain; the tenant may still be inactive. */
+    public Optional<TenantRef> find(String subdomain) {
+        return cache.get(subdomain);
+    }
+
+    /** The tenant, if it exists and is active. */
+    public Optional<TenantRef> findActive(String subdomain) {
+        return find(subdomain).filter(TenantRef::active);
+    }
+
+    public boolean exists(String subdomain) {
+        return find(subdomain).isPresent();
+    }
+
+    /**
+     * Evicts the subdomain now and, inside a transaction, again after commit, so a
+     * concurrent lookup cannot re-cache the pre-commit row.
+     */
+    public void invalidate(String subdomain) {
+        cache.invalidate(subdomain);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(subdomain);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Separate lifetimes for known and unknown subdomains.
+     */
+    private record PresenceExpiry(long ttlNanos, long negativeTtlNanos)
+            implements Expiry<String, Optional<TenantRef>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<TenantRef> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<TenantRef> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<TenantRef> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -10,11 +10,12 @@ import com.fleetmanager.auth.enums.UserStatus;
 import com.fleetmanager.auth.exception.SubdomainAlreadyExistsException;
 import com.fleetmanager.auth.repository.TenantRepository;
 import com.fleetmanager.auth.repository.UserRepository;
+import com.fleetmanager.auth.security.PasswordHashingExecutor;
 import com.fleetmanager.auth.util.JwtUtil;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,15 +24,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class TenantService {
 
     private final TenantRepository tenantRepository;
+    private final TenantDirectory tenantDirectory;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
+    private final EmailService emailService;
     private final JwtUtil jwtUtil; // ⭐ ADD THIS
 
     @Transactional
     public TenantRegistrationResponse registerTenant(TenantRegistrationDTO request) {
 
         // 1️⃣ Check subdomain uniqueness
-        if (tenantRepository.existsBySubdomain(request.getSubdomain())) {
+        // Cached; a stale miss is caught by the unique constraint below.
+        if (tenantDirectory.exists(request.getSubdomain())) {
             throw new SubdomainAlreadyExistsException(
                     "Subdomain '" + request.getSubdomain() + "' is already taken.");
         }
@@ -42,7 +46,12 @@ public class TenantService {
         tenant.setSubdomain(request.getSubdomain());
         tenant.setActive(true);
 
-        tenant = tenantRepository.save(tenant);
+        try {
+            tenant = tenantRepository.saveAndFlush(tenant);
+        } catch (DataIntegrityViolationException ex) {
+            throw new SubdomainAlreadyExistsException(
+                    "Subdomain '" + request.getSubdomain() + "' is already taken.");
+        }
 
         
      //  Create Admin User
@@ -53,10 +62,13 @@ public class TenantService {
         adminUser.setName(request.getAdminName());
         adminUser.setRole(Role.ADMIN);
         adminUser.setStatus(UserStatus.ACTIVE);
-        adminUser.setPasswordHash(passwordEncoder.encode(request.getAdminPassword()));
+        adminUser.setPasswordHash(passwordHashing.encode(request.getAdminPassword()));
 
         adminUser = userRepository.save(adminUser);
 
+        // Queued with the tenant; sent after commit
+        emailService.sendWelcome(tenant.getId(), adminUser.getEmail(), adminUser.getName(), tenant.getName());
+
         // ⭐ 4️⃣ Generate JWT Token
         String token = jwtUtil.generateToken(adminUser);
 
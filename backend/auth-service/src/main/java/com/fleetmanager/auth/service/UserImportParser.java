@@ -0,0 +1,164 @@
+package com.fleetmanager.auth.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleetmanager.auth.enums.ImportFormat;
+import com.fleetmanager.auth.exception.BulkImportException;
+
+/**
+ * Reads a user roster one line at a time, so an import never holds the whole upload.
+ *
+ * CSV needs a header row naming the columns ({@code email}, {@code name},
+ * {@code password}, optional {@code role}); fields may be double-quoted, with
+ * {@code ""} for a literal quote. NDJSON is one object per line with the same keys.
+ * A malformed line becomes a {@link Row} carrying an error rather than failing the import.
+ */
+class UserImportParser {
+
+    record Row(int line, String email, String name, String role, String password, String error) {
+
+        static Row invalid(int line, String error) {
+            return new Row(line, null, null, null, null, error);
+        }
+    }
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("email", "name", "password");
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columns;
+    private int line;
+
+    UserImportParser(Reader reader, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /** The next data row, or {@code null} at the end of the input. */
+    Row next() {
+        String text;
+        while ((text = readLine()) != null) {
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == ImportFormat.NDJSON) {
+                return parseJson(text);
+            }
+            if (columns == null) {
+                columns = parseHeader(text);
+                continue;
+            }
+            return parseCsv(text);
+        }
+        if (format == ImportFormat.CSV && columns == null) {
+            throw new BulkImportException("CSV import is empty; expected a header row");
+        }
+        return null;
+    }
+
+    private String readLine() {
+        try {
+            String text = reader.readLine();
+            if (text != null) {
+                line++;
+            }
+            return text;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Map<String, Integer> parseHeader(String text) {
+        List<String> names = splitCsv(text);
+        if (names == null) {
+            throw new BulkImportException("CSV header on line " + line + " is malformed");
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!header.containsKey(required)) {
+                throw new BulkImportException("CSV header is missing the '" + required + "' column");
+            }
+        }
+        return header;
+    }
+
+    private Row parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return Row.invalid(line, "Unterminated quoted field");
+        }
+        return new Row(line, field(fields, "email"), field(fields, "name"), field(fields, "role"),
+                field(fields, "password"), null);
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+
+    private Row parseJson(String text) {
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            if (!node.isObject()) {
+                return Row.invalid(line, "Expected a JSON object");
+            }
+            return new Row(line, text(node, "email"), text(node, "name"), text(node, "role"),
+                    text(node, "password"), null);
+        } catch (JsonProcessingException ex) {
+            return Row.invalid(line, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /** RFC 4180 fields of one line; {@code null} if a quote is left open. */
+    static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -1,8 +1,181 @@
 package com.fleetmanager.auth.service;
 
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleetmanager.auth.dto.response.UserImportReport;
+import com.fleetmanager.auth.dto.response.UserImportResult;
+import com.fleetmanager.auth.dto.response.UserImportResult.Status;
+import com.fleetmanager.auth.enums.ImportFormat;
+import com.fleetmanager.auth.enums.Role;
+import com.fleetmanager.auth.repository.UserBulkRepository;
+import com.fleetmanager.auth.repository.UserBulkRepository.NewUser;
+import com.fleetmanager.auth.security.PasswordHashingExecutor;
+import com.fleetmanager.auth.service.UserImportParser.Row;
+
 @Service
 public class UserService {
-    // TODO: Implement user management logic
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MIN_PASSWORD_LENGTH = 8;
+
+    private final UserBulkRepository userBulkRepository;
+    private final PasswordHashingExecutor passwordHashing;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public UserService(UserBulkRepository userBulkRepository,
+                       PasswordHashingExecutor passwordHashing,
+                       ObjectMapper objectMapper,
+                       @Value("${auth.user-import.chunk-size:500}") int chunkSize,
+                       @Value("${auth.user-import.max-rows:20000}") int maxRows) {
+        this.userBulkRepository = userBulkRepository;
+        this.passwordHashing = passwordHashing;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Imports a roster into {@code tenantId}, streaming it in chunks of {@code chunk-size}
+     * rows. Per chunk: one query finds emails that already exist, the passwords are hashed
+     * in parallel on the hashing pool, and the new users go in as one JDBC batch in their
+     * own transaction, so a large import neither holds a transaction open nor the whole
+     * file in memory.
+     */
+    public UserImportReport importUsers(Long tenantId, Reader body, ImportFormat format) {
+        long start = System.currentTimeMillis();
+        UserImportParser parser = new UserImportParser(body, format, objectMapper);
+        List<UserImportResult> results = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        boolean truncated = false;
+
+        int rows = 0;
+        Row row;
+        while ((row = parser.next()) != null) {
+            if (++rows > maxRows) {
+                truncated = true;
+                break;
+            }
+            String problem = row.error() != null ? row.error() : validate(row);
+            if (problem != null) {
+                results.add(result(row, Status.INVALID, null, problem));
+            } else if (!seen.add(row.email().trim())) {
+                results.add(result(row, Status.DUPLICATE, null, "Email appears earlier in this import"));
+            } else {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(tenantId, chunk, results);
+                    chunk.clear();
+                }
+            }
+        }
+        importChunk(tenantId, chunk, results);
+
+        results.sort(Comparator.comparingInt(UserImportResult::getLine));
+        return UserImportReport.builder()
+                .total(results.size())
+                .created(count(results, Status.CREATED))
+                .duplicates(count(results, Status.DUPLICATE))
+                .invalid(count(results, Status.INVALID))
+                .truncated(truncated)
+                .durationMillis(System.currentTimeMillis() - start)
+                .results(results)
+                .build();
+    }
+
+    private void importChunk(Long tenantId, List<Row> chunk, List<UserImportResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> existing = userBulkRepository.findExistingEmails(
+                tenantId, chunk.stream().map(r -> r.email().trim()).toList());
+
+        List<Row> fresh = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existing.contains(row.email().trim())) {
+                results.add(result(row, Status.DUPLICATE, null, "Email already exists in this tenant"));
+            } else {
+                fresh.add(row);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = passwordHashing.encodeAll(fresh.stream().map(Row::password).toList());
+        List<NewUser> users = new ArrayList<>(fresh.size());
+        for (int i = 0; i < fresh.size(); i++) {
+            Row row = fresh.get(i);
+            users.add(new NewUser(row.email().trim(), hashes.get(i), row.name().trim(), role(row)));
+        }
+
+        Map<String, Long> ids = userBulkRepository.insertAll(tenantId, users);
+        for (Row row : fresh) {
+            Long id = ids.get(row.email().trim());
+            results.add(id != null
+                    ? result(row, Status.CREATED, id, null)
+                    : result(row, Status.DUPLICATE, null, "Email already exists in this tenant"));
+        }
+    }
+
+    private static String validate(Row row) {
+        if (row.email() == null || row.email().isBlank()) {
+            return "Email is required";
+        }
+        String email = row.email().trim();
+        if (email.length() > 255 || !EMAIL.matcher(email).matches()) {
+            return "Email is not valid";
+        }
+        if (row.name() == null || row.name().isBlank()) {
+            return "Name is required";
+        }
+        if (row.name().trim().length() > 100) {
+            return "Name must be at most 100 characters";
+        }
+        if (row.password() == null || row.password().length() < MIN_PASSWORD_LENGTH) {
+            return "Password must be at least " + MIN_PASSWORD_LENGTH + " characters";
+        }
+        if (row.role() != null && !row.role().isBlank()) {
+            try {
+                Role.valueOf(row.role().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                return "Unknown role '" + row.role().trim() + "'";
+            }
+        }
+        return null;
+    }
+
+    private static Role role(Row row) {
+        return row.role() == null || row.role().isBlank()
+                ? Role.DRIVER
+                : Role.valueOf(row.role().trim().toUpperCase(Locale.ROOT));
+    }
+
+    private static UserImportResult result(Row row, Status status, Long userId, String message) {
+        return UserImportResult.builder()
+                .line(row.line())
+                .email(row.email() == null ? null : row.email().trim())
+                .status(status)
+                .userId(userId)
+                .message(message)
+                .build();
+    }
+
+    private static int count(List<UserImportResult> results, Status status) {
+        return (int) results.stream().filter(r -> r.getStatus() == status).count();
+    }
 }
@@ -1,14 +1,20 @@
 package com.fleetmanager.auth.util;
 
 import com.fleetmanager.auth.entity.User;
-import io.jsonwebtoken.*;
+import com.fleetmanager.auth.enums.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 
+/**
+ * Issues tokens. Verification lives in the shared {@link com.fleetmanager.common.security.JwtVerifier}.
+ */
 @Component
 public class JwtUtil {
 
@@ -19,53 +25,23 @@ public class JwtUtil {
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration-ms:86400000}") long expirationTime
     ) {
-        this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationTime = expirationTime;
     }
 
     public String generateToken(User user) {
+        return generateToken(user.getId(), user.getTenantId(), user.getEmail(), user.getRole());
+    }
+
+    public String generateToken(Long userId, Long tenantId, String email, Role role) {
         return Jwts.builder()
-                .setSubject(user.getEmail())
-                .claim("user_id", user.getId())
-                .claim("tenant_id", user.getTenantId())
-                .claim("role", user.getRole().name())
+                .setSubject(email)
+                .claim("user_id", userId)
+                .claim("tenant_id", tenantId)
+                .claim("role", role.name())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
-
-    public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public Long extractUserId(String token) {
-        return extractClaims(token).get("user_id", Long.class);
-    }
-
-    public Long extractTenantId(String token) {
-        return extractClaims(token).get("tenant_id", Long.class);
-    }
-
-    public String extractRole(String token) {
-        return extractClaims(token).get("role", String.class);
-    }
-
-      public Date extractExpiration(String token) {
-        return extractClaims(token).getExpiration();
-    }
-    
-
-    public boolean validateToken(String token) {
-        try {
-            extractClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
-    }
 }
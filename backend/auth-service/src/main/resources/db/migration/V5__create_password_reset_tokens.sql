@@ -0,0 +1,19 @@
+-- V3 shipped empty and is already applied in existing databases, so the table is
+-- created here rather than by editing V3 (which would fail Flyway validation).
+--
+-- Only the SHA-256 digest of a token is stored. Lookups are equality on the digest,
+-- so a hash index serves them in O(1). A used token gets expires_at = used_at, so
+-- the purge needs a single range predicate on expires_at.
+CREATE TABLE password_reset_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    tenant_id BIGINT NOT NULL REFERENCES tenants(id) ON DELETE CASCADE,
+    token_hash BYTEA NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    used_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_password_reset_tokens_hash ON password_reset_tokens USING HASH (token_hash);
+CREATE INDEX idx_password_reset_tokens_expires_at ON password_reset_tokens (expires_at);
+CREATE INDEX idx_password_reset_tokens_user ON password_reset_tokens (user_id);
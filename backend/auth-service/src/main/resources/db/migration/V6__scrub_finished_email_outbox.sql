@@ -0,0 +1,8 @@
+-- Finished outbox rows no longer keep their template variables: a password reset mail
+-- carries the raw token in its link, and only the digest may stay in the database.
+-- Rows that finished before this migration are scrubbed here.
+ALTER TABLE email_outbox ALTER COLUMN variables DROP NOT NULL;
+
+UPDATE email_outbox SET variables = NULL WHERE status IN ('SENT', 'FAILED');
+
+CREATE INDEX idx_email_outbox_finished ON email_outbox (created_at) WHERE status <> 'PENDING';
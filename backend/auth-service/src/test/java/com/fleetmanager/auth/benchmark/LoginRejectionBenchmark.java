@@ -0,0 +1,91 @@
+package com.fleetmanager.auth.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fleetmanager.auth.exception.TooManyLoginAttemptsException;
+import com.fleetmanager.auth.security.LoginAttemptLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of turning away one brute-force login attempt.
+ *
+ * <ul>
+ *   <li>{@code bcryptMismatch} – today's path minus the two DB lookups: a strength-10
+ *       BCrypt comparison against a wrong password.</li>
+ *   <li>{@code limiterRejected} – the sliding-window check on an account already over
+ *       its limit, including the (stack-trace-free) 429 exception.</li>
+ *   <li>{@code limiterRejectedConcurrent} – the same from 8 threads hitting one hot key.</li>
+ * </ul>
+ *
+ * Run with: {@code mvn -pl auth-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.fleetmanager.auth.benchmark.LoginRejectionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginRejectionBenchmark {
+
+    private PasswordEncoder passwordEncoder;
+    private String hash;
+    private LoginAttemptLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(10);
+        hash = passwordEncoder.encode("correct horse battery staple");
+        limiter = new LoginAttemptLimiter(true, 65_536, 10, Duration.ofMinutes(5), 50, Duration.ofMinutes(1),
+                new SimpleMeterRegistry(), System::currentTimeMillis);
+        for (int i = 0; i < 10; i++) {
+            limiter.checkAndRecord("acme", "victim@acme.com", null);
+        }
+    }
+
+    @Benchmark
+    public boolean bcryptMismatch() {
+        return passwordEncoder.matches("password123", hash);
+    }
+
+    @Benchmark
+    public Object limiterRejected() {
+        try {
+            limiter.checkAndRecord("acme", "victim@acme.com", "203.0.113.7");
+            throw new IllegalStateException("expected rejection");
+        } catch (TooManyLoginAttemptsException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object limiterRejectedConcurrent() {
+        return limiterRejected();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoginRejectionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,156 @@
+package com.fleetmanager.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fleetmanager.auth.config.PostgresContainerConfig;
+import com.fleetmanager.auth.dto.request.TenantRegistrationDTO;
+import com.fleetmanager.auth.service.EmailOutboxPurger;
+import com.fleetmanager.auth.service.EmailService;
+import com.fleetmanager.auth.service.TenantDirectory;
+import com.fleetmanager.auth.service.TenantService;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Registration queues the welcome mail in its own transaction, and the dispatcher
+ * delivers it to an in-process SMTP server once that transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "security.password.bcrypt-strength=4",
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "auth.email.dispatcher.poll-interval=1h", // delivery must come from the commit wake-up
+        "auth.email.outbox-purge.enabled=false"
+})
+class EmailOutboxIntegrationTest extends PostgresContainerConfig {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private TenantService tenantService;
+
+    @Autowired
+    private TenantDirectory tenantDirectory;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private EmailOutboxPurger outboxPurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE TABLE tenants RESTART IDENTITY CASCADE");
+        tenantDirectory.invalidateAll();
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+
+    private static TenantRegistrationDTO registration(String subdomain, String adminEmail) {
+        TenantRegistrationDTO dto = new TenantRegistrationDTO();
+        dto.setOrganizationName("Outbox Fleet");
+        dto.setSubdomain(subdomain);
+        dto.setAdminName("Olive Admin");
+        dto.setAdminEmail(adminEmail);
+        dto.setAdminPassword("StrongPass123");
+        return dto;
+    }
+
+    @Test
+    void registration_deliversWelcomeMailAfterCommit() throws Exception {
+        tenantService.registerTenant(registration("outbox", "olive@outbox.test"));
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        MimeMessage mail = greenMail.getReceivedMessages()[0];
+        assertThat(mail.getAllRecipients()[0].toString()).isEqualTo("olive@outbox.test");
+        assertThat(GreenMailUtil.getBody(mail)).contains("Olive Admin").contains("Outbox Fleet");
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM email_outbox WHERE recipient = 'olive@outbox.test'", String.class))
+                .isEqualTo("SENT");
+    }
+
+    @Test
+    void passwordResetMail_leavesNoRawTokenInTheDatabaseAfterDispatch() throws Exception {
+        String token = "raw-reset-token-7f3a9c";
+        transactionTemplate.executeWithoutResult(status ->
+                emailService.sendPasswordReset(null, "rita@outbox.test", "Rita", token, Duration.ofMinutes(30)));
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        assertThat(GreenMailUtil.getBody(greenMail.getReceivedMessages()[0])).contains(token);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!"SENT".equals(jdbcTemplate.queryForObject(
+                "SELECT status FROM email_outbox WHERE recipient = 'rita@outbox.test'", String.class))) {
+            assertThat(System.currentTimeMillis()).as("row marked SENT").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+
+        // every column of every row, rendered as text
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM email_outbox o WHERE o::text LIKE ?", Integer.class, "%" + token + "%"))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT variables IS NULL FROM email_outbox WHERE recipient = 'rita@outbox.test'", Boolean.class))
+                .isTrue();
+    }
+
+    @Test
+    void purge_expiresStaleResetMails_andDeletesOldFinishedRows() {
+        jdbcTemplate.update("""
+                INSERT INTO email_outbox (recipient, template, variables, status, next_attempt_at, created_at, sent_at)
+                VALUES ('old@outbox.test', 'WELCOME', NULL, 'SENT', now(), now() - INTERVAL '8 days', now() - INTERVAL '8 days'),
+                       ('recent@outbox.test', 'WELCOME', NULL, 'SENT', now(), now() - INTERVAL '1 day', now() - INTERVAL '1 day'),
+                       ('stale@outbox.test', 'PASSWORD_RESET', '{"resetUrl": "https://x/reset?token=stale-token"}',
+                        'PENDING', now() + INTERVAL '1 hour', now() - INTERVAL '1 hour', NULL)
+                """);
+
+        assertThat(outboxPurger.purge()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForList("SELECT recipient FROM email_outbox ORDER BY recipient", String.class))
+                .containsExactly("recent@outbox.test", "stale@outbox.test");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status || ':' || (variables IS NULL) FROM email_outbox WHERE recipient = 'stale@outbox.test'",
+                String.class)).isEqualTo("FAILED:true");
+    }
+
+    @Test
+    void rolledBackTransaction_leavesNoMailBehind() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailService.sendWelcome(null, "ghost@outbox.test", "Ghost", "Never Committed");
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM email_outbox", Integer.class)).isZero();
+        assertThat(greenMail.waitForIncomingEmail(1_000, 1)).isFalse();
+    }
+}
@@ -0,0 +1,170 @@
+package com.fleetmanager.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fleetmanager.auth.config.PostgresContainerConfig;
+import com.fleetmanager.auth.context.TenantContext;
+import com.fleetmanager.auth.dto.request.LoginRequest;
+import com.fleetmanager.auth.entity.Tenant;
+import com.fleetmanager.auth.entity.User;
+import com.fleetmanager.auth.enums.Role;
+import com.fleetmanager.auth.enums.UserStatus;
+import com.fleetmanager.auth.exception.InvalidCredentialsException;
+import com.fleetmanager.auth.repository.TenantRepository;
+import com.fleetmanager.auth.repository.UserRepository;
+import com.fleetmanager.auth.service.AuthService;
+import com.fleetmanager.auth.util.JwtUtil;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Login latency against Postgres: the previous path (two sequential lookups and a
+ * dirty-checked last-login UPDATE in one transaction) versus the cached tenant plus
+ * a user projection, with the last-login write buffered. BCrypt strength is lowered to 4 so the
+ * numbers are dominated by database round trips.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "security.password.bcrypt-strength=4",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class LoginLatencyIntegrationTest extends PostgresContainerConfig {
+
+    private static final String SUBDOMAIN = "latency-corp";
+    private static final String EMAIL = "driver@latency-corp.com";
+    private static final String PASSWORD = "StrongPass123";
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        tenantRepository.deleteAll();
+
+        Tenant tenant = new Tenant();
+        tenant.setName("Latency Corp");
+        tenant.setSubdomain(SUBDOMAIN);
+        tenant.setActive(true);
+        tenant = tenantRepository.saveAndFlush(tenant);
+
+        TenantContext.setCurrentTenantId(tenant.getId());
+        User user = new User();
+        user.setEmail(EMAIL);
+        user.setPasswordHash(passwordEncoder.encode(PASSWORD));
+        user.setName("Latency Driver");
+        user.setRole(Role.DRIVER);
+        user.setStatus(UserStatus.ACTIVE);
+        userRepository.saveAndFlush(user);
+        TenantContext.clear();
+    }
+
+    /** The login as it was: findBySubdomain, findByEmailAndTenantId, dirty-checked lastLogin. */
+    private String previousLogin() {
+        return transactionTemplate.execute(status -> {
+            Tenant tenant = tenantRepository.findBySubdomain(SUBDOMAIN).orElseThrow();
+            User user = userRepository.findByEmailAndTenantId(EMAIL, tenant.getId()).orElseThrow();
+            if (user.getStatus() != UserStatus.ACTIVE || !passwordEncoder.matches(PASSWORD, user.getPasswordHash())) {
+                throw new IllegalStateException("bad credentials");
+            }
+            user.setLastLogin(LocalDateTime.now());
+            return jwtUtil.generateToken(user);
+        });
+    }
+
+    private String currentLogin() {
+        return authService.login(new LoginRequest(EMAIL, PASSWORD, SUBDOMAIN)).getToken();
+    }
+
+    private record Measurement(long p50Micros, long p99Micros, double statementsPerLogin) {
+    }
+
+    private Measurement measure(Supplier<String> login) {
+        for (int i = 0; i < WARMUP; i++) {
+            login.get();
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            assertThat(login.get()).isNotBlank();
+            latencies[i] = System.nanoTime() - start;
+        }
+        double statements = (double) statistics.getPrepareStatementCount() / ITERATIONS;
+
+        Arrays.sort(latencies);
+        return new Measurement(
+                TimeUnit.NANOSECONDS.toMicros(latencies[ITERATIONS / 2]),
+                TimeUnit.NANOSECONDS.toMicros(latencies[(int) (ITERATIONS * 0.99)]),
+                statements);
+    }
+
+    @Test
+    void cachedTenantLogin_isOneStatementAndFaster() {
+        Measurement previous = measure(this::previousLogin);
+        Measurement current = measure(this::currentLogin);
+
+        System.out.printf("login latency (Postgres, %d logins)%n", ITERATIONS);
+        System.out.printf("  previous: p50 %d us, p99 %d us, %.2f statements/login%n",
+                previous.p50Micros(), previous.p99Micros(), previous.statementsPerLogin());
+        System.out.printf("  current:  p50 %d us, p99 %d us, %.2f statements/login%n",
+                current.p50Micros(), current.p99Micros(), current.statementsPerLogin());
+
+        // 2 SELECTs + 1 UPDATE before; now 1 SELECT (tenant from the directory), last_login written behind.
+        assertThat(previous.statementsPerLogin()).isGreaterThanOrEqualTo(3.0);
+        assertThat(current.statementsPerLogin()).isLessThanOrEqualTo(2.0);
+        assertThat(current.p50Micros()).isLessThan(previous.p50Micros());
+    }
+
+    @Test
+    void deactivatedTenant_cannotLogIn() {
+        assertThat(currentLogin()).isNotBlank(); // tenant is now in the directory
+
+        Tenant tenant = tenantRepository.findBySubdomain(SUBDOMAIN).orElseThrow();
+        tenant.setActive(false);
+        tenantRepository.saveAndFlush(tenant);
+
+        assertThatThrownBy(this::currentLogin).isInstanceOf(InvalidCredentialsException.class);
+    }
+}
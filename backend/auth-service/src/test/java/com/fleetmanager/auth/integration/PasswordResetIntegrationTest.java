@@ -0,0 +1,169 @@
+package com.fleetmanager.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.fleetmanager.auth.config.PostgresContainerConfig;
+import com.fleetmanager.auth.context.TenantContext;
+import com.fleetmanager.auth.dto.request.LoginRequest;
+import com.fleetmanager.auth.entity.Tenant;
+import com.fleetmanager.auth.entity.User;
+import com.fleetmanager.auth.enums.Role;
+import com.fleetmanager.auth.enums.UserStatus;
+import com.fleetmanager.auth.exception.InvalidResetTokenException;
+import com.fleetmanager.auth.repository.TenantRepository;
+import com.fleetmanager.auth.repository.UserRepository;
+import com.fleetmanager.auth.service.AuthService;
+import com.fleetmanager.auth.service.PasswordResetService;
+import com.fleetmanager.auth.service.PasswordResetTokenPurger;
+import com.fleetmanager.auth.service.TenantDirectory;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "security.password.bcrypt-strength=4",
+        "auth.email.enabled=false",
+        "auth.password-reset.purge.enabled=false",
+        "auth.password-reset.purge.batch-size=3",
+        "auth.password-reset.purge.pause=0ms"
+})
+class PasswordResetIntegrationTest extends PostgresContainerConfig {
+
+    private static final String SUBDOMAIN = "reset-corp";
+    private static final String EMAIL = "driver@reset-corp.test";
+
+    @Autowired
+    private PasswordResetService passwordResetService;
+
+    @Autowired
+    private PasswordResetTokenPurger purger;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TenantDirectory tenantDirectory;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long tenantId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE TABLE tenants RESTART IDENTITY CASCADE");
+        tenantDirectory.invalidateAll();
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+
+        Tenant tenant = new Tenant();
+        tenant.setName("Reset Corp");
+        tenant.setSubdomain(SUBDOMAIN);
+        tenant.setActive(true);
+        tenantId = tenantRepository.saveAndFlush(tenant).getId();
+
+        TenantContext.setCurrentTenantId(tenantId);
+        User user = new User();
+        user.setEmail(EMAIL);
+        user.setName("Reset Driver");
+        user.setPasswordHash(passwordEncoder.encode("OldPassword1"));
+        user.setRole(Role.DRIVER);
+        user.setStatus(UserStatus.ACTIVE);
+        userId = userRepository.saveAndFlush(user).getId();
+        TenantContext.clear();
+    }
+
+    /** The raw token only exists in the queued mail. */
+    private String mailedToken() {
+        String url = jdbcTemplate.queryForObject(
+                "SELECT variables ->> 'resetUrl' FROM email_outbox ORDER BY id DESC LIMIT 1", String.class);
+        return url.substring(url.indexOf("token=") + "token=".length());
+    }
+
+    @Test
+    void mailedToken_resetsThePasswordExactlyOnce() {
+        passwordResetService.requestReset(SUBDOMAIN, EMAIL);
+        String token = mailedToken();
+
+        // stored as a 32-byte digest, never as the token itself
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM password_reset_tokens WHERE length(token_hash) = 32 AND user_id = ?",
+                Integer.class, userId)).isEqualTo(1);
+
+        passwordResetService.confirmReset(token, "NewPassword1");
+
+        assertThat(authService.login(new LoginRequest(EMAIL, "NewPassword1", SUBDOMAIN)).getToken()).isNotBlank();
+        assertThatThrownBy(() -> passwordResetService.confirmReset(token, "ThirdPassword1"))
+                .isInstanceOf(InvalidResetTokenException.class);
+    }
+
+    @Test
+    void newRequest_retiresThePreviousLink() {
+        passwordResetService.requestReset(SUBDOMAIN, EMAIL);
+        String first = mailedToken();
+        passwordResetService.requestReset(SUBDOMAIN, EMAIL);
+        String second = mailedToken();
+
+        assertThatThrownBy(() -> passwordResetService.confirmReset(first, "NewPassword1"))
+                .isInstanceOf(InvalidResetTokenException.class);
+        passwordResetService.confirmReset(second, "NewPassword1");
+    }
+
+    @Test
+    void unknownAccount_isIndistinguishableAndSendsNothing() {
+        passwordResetService.requestReset(SUBDOMAIN, "nobody@reset-corp.test");
+        passwordResetService.requestReset("no-such-tenant", EMAIL);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM email_outbox", Integer.class)).isZero();
+    }
+
+    @Test
+    void purge_deletesExpiredAndUsedTokensInBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 10; i++) {
+            insertToken(now.minusHours(1), i % 2 == 0 ? now.minusHours(1) : null);
+        }
+        insertToken(now.plusMinutes(30), null);
+        insertToken(now.plusMinutes(30), null);
+
+        int deleted = purger.purge();
+
+        assertThat(deleted).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM password_reset_tokens", Integer.class))
+                .isEqualTo(2);
+    }
+
+    private void insertToken(LocalDateTime expiresAt, LocalDateTime usedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO password_reset_tokens (user_id, tenant_id, token_hash, expires_at, used_at, created_at)
+                VALUES (?, ?, gen_random_uuid()::text::bytea, ?, ?, now())
+                """, userId, tenantId, Timestamp.valueOf(expiresAt), usedAt == null ? null : Timestamp.valueOf(usedAt));
+    }
+}
@@ -0,0 +1,239 @@
+package com.fleetmanager.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fleetmanager.auth.config.PostgresContainerConfig;
+import com.fleetmanager.auth.context.TenantContext;
+import com.fleetmanager.auth.entity.Tenant;
+import com.fleetmanager.auth.entity.User;
+import com.fleetmanager.auth.enums.Role;
+import com.fleetmanager.auth.repository.LastLoginBatchRepository;
+import com.fleetmanager.auth.repository.TenantRepository;
+import com.fleetmanager.auth.repository.UserBulkRepository;
+import com.fleetmanager.auth.repository.UserBulkRepository.NewUser;
+import com.fleetmanager.auth.repository.UserRepository;
+import com.fleetmanager.auth.repository.projection.LoginCredentials;
+import com.fleetmanager.auth.service.TenantDirectory;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tenant isolation with the second-level and query caches enabled: both tenants use
+ * the same email, so a cache key that ignored the tenant would hand one tenant's user
+ * to the other. Each read runs in its own transaction so it goes past the session.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "auth.email.enabled=false",
+        "auth.password-reset.purge.enabled=false"
+})
+class SecondLevelCacheIsolationIntegrationTest extends PostgresContainerConfig {
+
+    private static final String EMAIL = "admin@corp.test";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private LastLoginBatchRepository lastLoginBatchRepository;
+
+    @Autowired
+    private UserBulkRepository userBulkRepository;
+
+    @Autowired
+    private TenantDirectory tenantDirectory;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Long tenantA;
+    private Long tenantB;
+    private Long userA;
+    private Long userB;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE TABLE tenants RESTART IDENTITY CASCADE");
+        tenantDirectory.invalidateAll();
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+
+        tenantA = createTenant("Tenant A", "cache-a");
+        tenantB = createTenant("Tenant B", "cache-b");
+        userA = createUser(tenantA, "Admin A");
+        userB = createUser(tenantB, "Admin B");
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void cachedQueryResults_areKeyedByTenant() {
+        assertThat(inTenant(tenantA, () -> userRepository.findByEmailAndTenantId(EMAIL, tenantA)))
+                .get().extracting(User::getName).isEqualTo("Admin A");
+        assertThat(inTenant(tenantA, () -> userRepository.findByEmailAndTenantId(EMAIL, tenantA)))
+                .get().extracting(User::getName).isEqualTo("Admin A");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        // same query text and email, other tenant: a miss, never tenant A's row
+        assertThat(inTenant(tenantB, () -> userRepository.findByEmailAndTenantId(EMAIL, tenantB)))
+                .get().extracting(User::getName).isEqualTo("Admin B");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(2);
+
+        assertThat(userRepository.findLoginCredentials(tenantA, EMAIL)).get()
+                .extracting(LoginCredentials::userId).isEqualTo(userA);
+        assertThat(userRepository.findLoginCredentials(tenantB, EMAIL)).get()
+                .extracting(LoginCredentials::userId).isEqualTo(userB);
+        assertThat(userRepository.findLoginCredentials(tenantA, EMAIL)).get()
+                .extracting(LoginCredentials::userId).isEqualTo(userA);
+    }
+
+    @Test
+    void explicitTenantIdOfAnotherTenant_isRejected() {
+        // warm the cache with tenant B's result
+        inTenant(tenantB, () -> userRepository.findByEmailAndTenantId(EMAIL, tenantB));
+
+        assertThatThrownBy(() -> inTenant(tenantA, () -> userRepository.findByEmailAndTenantId(EMAIL, tenantB)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Cross-tenant");
+    }
+
+    @Test
+    void filteredQueries_stillSeeOnlyTheCurrentTenant() {
+        // cache both users as entities first
+        inTenant(tenantA, () -> userRepository.findById(userA));
+        inTenant(tenantB, () -> userRepository.findById(userB));
+
+        List<User> seenByA = inTenant(tenantA, userRepository::findAll);
+        List<User> seenByB = inTenant(tenantB, userRepository::findAll);
+
+        assertThat(seenByA).extracting(User::getId).containsExactly(userA);
+        assertThat(seenByB).extracting(User::getId).containsExactly(userB);
+    }
+
+    @Test
+    void entities_areServedFromTheCache() {
+        inTenant(tenantA, () -> userRepository.findById(userA));
+        inTenant(tenantA, () -> userRepository.findById(userA));
+        inTenant(tenantA, () -> tenantRepository.findById(tenantA));
+
+        assertThat(statistics.getDomainDataRegionStatistics("auth.user").getHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics("auth.tenant").getHitCount()).isPositive();
+    }
+
+    @Test
+    void entityUpdate_replacesTheCachedEntry() {
+        inTenant(tenantA, () -> userRepository.findById(userA));
+
+        inTenant(tenantA, () -> {
+            User user = userRepository.findById(userA).orElseThrow();
+            user.setName("Renamed A");
+            return user;
+        });
+
+        assertThat(inTenant(tenantA, () -> userRepository.findById(userA)))
+                .get().extracting(User::getName).isEqualTo("Renamed A");
+        assertThat(inTenant(tenantA, () -> userRepository.findByEmailAndTenantId(EMAIL, tenantA)))
+                .get().extracting(User::getName).isEqualTo("Renamed A");
+    }
+
+    @Test
+    void bulkPasswordUpdate_invalidatesCachedCredentials() {
+        userRepository.findLoginCredentials(tenantA, EMAIL);
+
+        inTenant(tenantA, () -> userRepository.updatePasswordHash(userA, "new-hash"));
+
+        assertThat(userRepository.findLoginCredentials(tenantA, EMAIL)).get()
+                .extracting(LoginCredentials::passwordHash).isEqualTo("new-hash");
+        assertThat(userRepository.findLoginCredentials(tenantB, EMAIL)).get()
+                .extracting(LoginCredentials::passwordHash).isEqualTo("hash");
+    }
+
+    @Test
+    void loginCredentials_areNeverServedFromTheQueryCache() {
+        userRepository.findLoginCredentials(tenantA, EMAIL);
+        userRepository.findLoginCredentials(tenantA, EMAIL);
+
+        assertThat(statistics.getQueryCachePutCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    void jdbcWrites_evictWhatTheyChange() {
+        inTenant(tenantA, () -> userRepository.findById(userA));
+        assertThat(userRepository.findLoginCredentials(tenantA, "imported@corp.test")).isEmpty();
+
+        LocalDateTime login = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        lastLoginBatchRepository.updateLastLogins(Map.of(userA, login));
+        userBulkRepository.insertAll(tenantA, List.of(
+                new NewUser("imported@corp.test", "hash", "Imported", Role.DRIVER)));
+
+        assertThat(inTenant(tenantA, () -> userRepository.findById(userA)))
+                .get().extracting(User::getLastLogin).isEqualTo(login);
+        assertThat(userRepository.findLoginCredentials(tenantA, "imported@corp.test")).isPresent();
+    }
+
+    private Long createTenant(String name, String subdomain) {
+        Tenant tenant = new Tenant();
+        tenant.setName(name);
+        tenant.setSubdomain(subdomain);
+        tenant.setActive(true);
+        return tenantRepository.saveAndFlush(tenant).getId();
+    }
+
+    private Long createUser(Long tenantId, String name) {
+        return inTenant(tenantId, () -> {
+            User user = new User();
+            user.setEmail(EMAIL);
+            user.setName(name);
+            user.setRole(Role.ADMIN);
+            user.setPasswordHash("hash");
+            return userRepository.saveAndFlush(user).getId();
+        });
+    }
+
+    private <T> T inTenant(Long tenantId, Supplier<T> work) {
+        TenantContext.setCurrentTenantId(tenantId);
+        try {
+            return transactionTemplate.execute(status -> work.get());
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
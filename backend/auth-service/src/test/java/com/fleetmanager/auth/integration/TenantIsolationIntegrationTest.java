@@ -8,7 +8,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import java.util.Date;
+import java.time.Instant;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
@@ -31,10 +31,10 @@ import com.fleetmanager.auth.repository.TenantRepository;
 import com.fleetmanager.auth.repository.TestDocumentRepository;
 import com.fleetmanager.auth.repository.UserRepository;
 import com.fleetmanager.auth.service.AuthService;
-import com.fleetmanager.auth.util.JwtUtil;
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.common.security.JwtVerifier;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ExpiredJwtException;
 
 @SpringBootTest
 @Transactional
@@ -54,7 +54,7 @@ class TenantIsolationIntegrationTest extends PostgresContainerConfig {
     private MockMvc mockMvc;
 
     @MockBean
-    private JwtUtil jwtUtil;
+    private JwtVerifier jwtVerifier;
 
     @MockBean
     private AuthService authService;
@@ -203,13 +203,8 @@ class TenantIsolationIntegrationTest extends PostgresContainerConfig {
     void validJwt_shouldSetTenantContextDuringRequest_andClearAfter() throws Exception {
 
         // ---------- GIVEN ----------
-        Claims claims = Jwts.claims();
-        claims.setExpiration(new Date(System.currentTimeMillis() + 60_000));
-        claims.put("tenant_id", 100L);
-
-        when(jwtUtil.validateToken(anyString())).thenReturn(true);
-        when(jwtUtil.extractClaims(anyString())).thenReturn(claims);
-        when(jwtUtil.extractTenantId(anyString())).thenReturn(100L);
+        when(jwtVerifier.verify(anyString())).thenReturn(new JwtPrincipal(
+                "admin@tenant-a.com", 1L, 100L, "ADMIN", Instant.now().plusSeconds(60)));
 
         // ---------- WHEN ----------
         mockMvc.perform(
@@ -252,11 +247,8 @@ class TenantIsolationIntegrationTest extends PostgresContainerConfig {
     @Test
     void invalidJwt_shouldReturn401_andNotSetTenantContext() throws Exception {
 
-        Claims claims = Jwts.claims();
-        claims.setExpiration(new Date(System.currentTimeMillis() - 60_000)); // expired
-
-        when(jwtUtil.extractClaims(anyString())).thenReturn(claims);
-        when(jwtUtil.validateToken(anyString())).thenReturn(false);
+        when(jwtVerifier.verify(anyString()))
+                .thenThrow(new ExpiredJwtException(null, null, "expired")); // expired
 
         mockMvc.perform(
                 get("/api/auth/secured-test")
@@ -278,12 +270,8 @@ class TenantIsolationIntegrationTest extends PostgresContainerConfig {
     @Test
     void jwtWithoutTenantId_shouldReturn401_andNotSetTenantContext() throws Exception {
 
-        Claims claims = Jwts.claims();
-        claims.setExpiration(new Date(System.currentTimeMillis() + 60_000));
-
-        when(jwtUtil.validateToken(anyString())).thenReturn(true);
-        when(jwtUtil.extractClaims(anyString())).thenReturn(claims);
-        when(jwtUtil.extractTenantId(anyString())).thenReturn(null);
+        when(jwtVerifier.verify(anyString())).thenReturn(new JwtPrincipal(
+                "admin@tenant-a.com", 1L, null, "ADMIN", Instant.now().plusSeconds(60)));
 
         mockMvc.perform(
                 get("/api/auth/secured-test")
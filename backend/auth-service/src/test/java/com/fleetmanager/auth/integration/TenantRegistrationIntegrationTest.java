@@ -4,6 +4,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -18,6 +20,10 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.fleetmanager.auth.service.TenantDirectory;
+
+import jakarta.persistence.EntityManagerFactory;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureMockMvc(addFilters = false)
 @Testcontainers
@@ -31,6 +37,19 @@ class TenantRegistrationIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private TenantDirectory tenantDirectory;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // TRUNCATE bypasses JPA, so the tenant directory and the second-level cache miss it.
+    @BeforeEach
+    void clearTenantDirectory() {
+        tenantDirectory.invalidateAll();
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+
     // ================= PostgreSQL Container =================
     @Container
     static PostgreSQLContainer<?> postgres =
@@ -0,0 +1,178 @@
+package com.fleetmanager.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.StringReader;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fleetmanager.auth.config.PostgresContainerConfig;
+import com.fleetmanager.auth.context.TenantContext;
+import com.fleetmanager.auth.controller.UserController;
+import com.fleetmanager.auth.dto.response.UserImportReport;
+import com.fleetmanager.auth.dto.response.UserImportResult.Status;
+import com.fleetmanager.auth.entity.Tenant;
+import com.fleetmanager.auth.entity.User;
+import com.fleetmanager.auth.enums.ImportFormat;
+import com.fleetmanager.auth.enums.Role;
+import com.fleetmanager.auth.enums.UserStatus;
+import com.fleetmanager.auth.repository.TenantRepository;
+import com.fleetmanager.auth.repository.UserRepository;
+import com.fleetmanager.auth.service.TenantDirectory;
+import com.fleetmanager.auth.service.UserService;
+import com.fleetmanager.auth.util.JwtUtil;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Bulk import against Postgres, including a 10k-driver roster compared with creating
+ * the same users one JPA save at a time (what one-request-per-user amounts to, minus
+ * HTTP). BCrypt strength is lowered to 4 so the comparison is about the database path.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "security.password.bcrypt-strength=4",
+        "spring.jpa.show-sql=false",
+        "auth.email.enabled=false"
+})
+class UserImportIntegrationTest extends PostgresContainerConfig {
+
+    private static final int ROSTER = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantDirectory tenantDirectory;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long tenantId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE TABLE tenants RESTART IDENTITY CASCADE");
+        tenantDirectory.invalidateAll();
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+
+        Tenant tenant = new Tenant();
+        tenant.setName("Roster Corp");
+        tenant.setSubdomain("roster");
+        tenant.setActive(true);
+        tenantId = tenantRepository.saveAndFlush(tenant).getId();
+    }
+
+    private static String roster(String prefix, int count) {
+        StringBuilder csv = new StringBuilder("email,name,password,role\n");
+        for (int i = 0; i < count; i++) {
+            csv.append(prefix).append(i).append("@roster.test,Driver ").append(i).append(",secret-").append(i)
+                    .append(",DRIVER\n");
+        }
+        return csv.toString();
+    }
+
+    private String token(Role role) {
+        return jwtUtil.generateToken(1L, tenantId, "someone@roster.test", role);
+    }
+
+    @Test
+    void tenThousandDrivers_importFarFasterThanOneSaveEach() {
+        long start = System.nanoTime();
+        TenantContext.setCurrentTenantId(tenantId);
+        try {
+            for (int i = 0; i < ROSTER; i++) {
+                User user = new User();
+                user.setEmail("single" + i + "@roster.test");
+                user.setName("Driver " + i);
+                user.setPasswordHash(passwordEncoder.encode("secret-" + i));
+                user.setRole(Role.DRIVER);
+                user.setStatus(UserStatus.ACTIVE);
+                userRepository.save(user);
+            }
+        } finally {
+            TenantContext.clear();
+        }
+        long oneByOneMillis = (System.nanoTime() - start) / 1_000_000;
+
+        UserImportReport report = userService.importUsers(
+                tenantId, new StringReader(roster("bulk", ROSTER)), ImportFormat.CSV);
+
+        System.out.printf("import %d users: one save each %d ms, bulk import %d ms%n",
+                ROSTER, oneByOneMillis, report.getDurationMillis());
+
+        assertThat(report.getCreated()).isEqualTo(ROSTER);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM users WHERE tenant_id = ? AND email LIKE 'bulk%'", Integer.class, tenantId))
+                .isEqualTo(ROSTER);
+        assertThat(report.getDurationMillis()).isLessThan(oneByOneMillis);
+    }
+
+    @Test
+    void duplicatesAndBadRows_areReportedPerRow() {
+        userService.importUsers(tenantId, new StringReader(roster("dup", 3)), ImportFormat.CSV);
+
+        UserImportReport report = userService.importUsers(tenantId, new StringReader("""
+                {"email":"dup1@roster.test","name":"Again","password":"secret-123"}
+                {"email":"new@roster.test","name":"New","password":"secret-123","role":"manager"}
+                {"email":"new@roster.test","name":"Twice","password":"secret-123"}
+                {"email":"short@roster.test","name":"Short","password":"x"}
+                """), ImportFormat.NDJSON);
+
+        assertThat(report.getResults()).extracting(r -> r.getStatus())
+                .containsExactly(Status.DUPLICATE, Status.CREATED, Status.DUPLICATE, Status.INVALID);
+        assertThat(report.getResults().get(1).getUserId()).isNotNull();
+        assertThat(userRepository.findByEmailAndTenantId("new@roster.test", tenantId))
+                .map(User::getRole).contains(Role.MANAGER);
+    }
+
+    @Test
+    void onlyAdminsMayImport() throws Exception {
+        mockMvc.perform(post("/api/users/import")
+                        .header("Authorization", "Bearer " + token(Role.DRIVER))
+                        .contentType("text/csv")
+                        .content(roster("http", 2)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/users/import")
+                        .header("Authorization", "Bearer " + token(Role.ADMIN))
+                        .contentType(UserController.NDJSON)
+                        .content("{\"email\":\"http@roster.test\",\"name\":\"Http\",\"password\":\"secret-123\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"));
+    }
+}
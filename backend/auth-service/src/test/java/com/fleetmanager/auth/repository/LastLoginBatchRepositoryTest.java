@@ -0,0 +1,80 @@
+package com.fleetmanager.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LastLoginBatchRepository.class)
+class LastLoginBatchRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:15-alpine")
+                    .withDatabaseName("fleet_test_db")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+    }
+
+    @Autowired
+    private LastLoginBatchRepository lastLoginBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long insertUser(String email, LocalDateTime lastLogin) {
+        Long tenantId = jdbcTemplate.queryForObject(
+                "INSERT INTO tenants (name, subdomain, active, created_at) VALUES (?, ?, true, now()) RETURNING id",
+                Long.class, email, email.replace('@', '-').replace('.', '-'));
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (tenant_id, email, password_hash, name, role, created_at, last_login)"
+                        + " VALUES (?, ?, 'x', 'User', 'DRIVER', now(), ?) RETURNING id",
+                Long.class, tenantId, email, lastLogin);
+    }
+
+    private LocalDateTime lastLogin(long userId) {
+        return jdbcTemplate.queryForObject("SELECT last_login FROM users WHERE id = ?",
+                LocalDateTime.class, userId);
+    }
+
+    @Test
+    void updatesAllRowsInOneStatement_andNeverMovesATimestampBackwards() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        long neverLoggedIn = insertUser("first@acme.com", null);
+        long stale = insertUser("stale@acme.com", now.minusDays(1));
+        long newer = insertUser("newer@acme.com", now.plusMinutes(1));
+
+        int updated = lastLoginBatchRepository.updateLastLogins(
+                Map.of(neverLoggedIn, now, stale, now, newer, now, 999_999L, now));
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(lastLogin(neverLoggedIn)).isEqualTo(now);
+        assertThat(lastLogin(stale)).isEqualTo(now);
+        assertThat(lastLogin(newer)).isEqualTo(now.plusMinutes(1));
+    }
+}
@@ -0,0 +1,50 @@
+package com.fleetmanager.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(new String[] { "10.0.0.0/8", " 192.168.1.5 " });
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    @Test
+    void directClient_cannotChooseItsAddressWithTheHeader() {
+        assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void noTrustedProxiesConfigured_ignoresTheHeader() {
+        ClientIpResolver untrusting = new ClientIpResolver(new String[] { "" });
+
+        assertThat(untrusting.resolve(request("10.0.0.2", "198.51.100.1"))).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    void behindTrustedProxies_theFirstUntrustedHopFromTheRightIsTheClient() {
+        // the client forged the first hop; the gateway appended the real one
+        assertThat(resolver.resolve(request("10.0.0.2", "1.2.3.4, 198.51.100.1"))).isEqualTo("198.51.100.1");
+        // a load balancer in front of the gateway appended its own hop too
+        assertThat(resolver.resolve(request("10.0.0.2", "198.51.100.1, 192.168.1.5"))).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    void trustedPeerWithoutTheHeader_isTheClient() {
+        assertThat(resolver.resolve(request("10.0.0.2", null))).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    void hostNameHop_isNeverTrusted() {
+        assertThat(resolver.resolve(request("10.0.0.2", "localhost"))).isEqualTo("localhost");
+    }
+}
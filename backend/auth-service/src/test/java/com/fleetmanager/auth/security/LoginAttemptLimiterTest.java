@@ -0,0 +1,128 @@
+package com.fleetmanager.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.fleetmanager.auth.exception.TooManyLoginAttemptsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginAttemptLimiterTest {
+
+    private static final long MINUTE = 60_000;
+
+    private final AtomicLong clock = new AtomicLong(1_000 * MINUTE);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoginAttemptLimiter limiter(int accountLimit, int ipFailureLimit) {
+        return new LoginAttemptLimiter(true, 1024, accountLimit, Duration.ofMinutes(5),
+                ipFailureLimit, Duration.ofMinutes(1), meterRegistry, clock::get);
+    }
+
+    @Test
+    void accountOverLimit_isRejectedUntilTheWindowSlidesPast() {
+        LoginAttemptLimiter limiter = limiter(3, 100);
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAndRecord("acme", "Driver@Acme.com", "10.0.0.1");
+        }
+
+        // Normalised key: case and whitespace do not give the attacker a fresh window.
+        assertThatThrownBy(() -> limiter.checkAndRecord("ACME", " driver@acme.com", "10.0.0.2"))
+                .isInstanceOf(TooManyLoginAttemptsException.class)
+                .extracting("retryAfterSeconds").isEqualTo(300L);
+        assertThat(meterRegistry.get("auth.login_attempts.rejected").tag("key", "account").counter().count())
+                .isEqualTo(1);
+
+        // Other accounts are unaffected.
+        limiter.checkAndRecord("acme", "manager@acme.com", "10.0.0.1");
+
+        clock.addAndGet(10 * MINUTE);
+        limiter.checkAndRecord("acme", "driver@acme.com", "10.0.0.1");
+    }
+
+    @Test
+    void successfulLogin_clearsTheAccountWindow() {
+        LoginAttemptLimiter limiter = limiter(2, 100);
+        limiter.checkAndRecord("acme", "driver@acme.com", "10.0.0.1");
+        limiter.checkAndRecord("acme", "driver@acme.com", "10.0.0.1");
+        limiter.onSuccess("acme", "driver@acme.com");
+
+        limiter.checkAndRecord("acme", "driver@acme.com", "10.0.0.1");
+    }
+
+    @Test
+    void ipWindow_countsFailuresOnly() {
+        LoginAttemptLimiter limiter = limiter(100, 3);
+        for (int i = 0; i < 20; i++) {
+            String email = "driver" + i + "@acme.com";
+            limiter.checkAndRecord("acme", email, "10.0.0.1");
+            limiter.onSuccess("acme", email);
+        }
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAndRecord("acme", "victim" + i + "@acme.com", "10.0.0.9");
+            limiter.onFailure("10.0.0.9");
+        }
+
+        assertThatThrownBy(() -> limiter.checkAndRecord("acme", "another@acme.com", "10.0.0.9"))
+                .isInstanceOf(TooManyLoginAttemptsException.class)
+                .extracting("retryAfterSeconds").isEqualTo(60L);
+        limiter.checkAndRecord("acme", "another@acme.com", "10.0.0.1");
+    }
+
+    @Test
+    void counter_slidesExpiresAndStaysBounded() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(64, MINUTE, clock::get);
+        clock.set(100 * MINUTE);
+        long key = counter.hash("acme", "driver@acme.com");
+        for (int i = 0; i < 10; i++) {
+            counter.increment(key);
+        }
+        assertThat(counter.estimate(key)).isEqualTo(10);
+
+        // Halfway through the next window half of the previous window still counts.
+        clock.set(101 * MINUTE + MINUTE / 2);
+        assertThat(counter.estimate(key)).isEqualTo(5);
+
+        clock.set(103 * MINUTE);
+        assertThat(counter.estimate(key)).isZero();
+        assertThat(counter.size()).isZero();
+
+        for (int i = 0; i < 10_000; i++) {
+            counter.increment(counter.hash("ip", Integer.toString(i)));
+        }
+        assertThat(counter.size()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    void counter_isExactUnderConcurrentAcquires() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(64, MINUTE, clock::get);
+        long key = counter.hash("acme", "driver@acme.com");
+        AtomicInteger admitted = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (counter.tryAcquire(key, 500)) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(admitted).hasValue(500);
+    }
+}
@@ -0,0 +1,134 @@
+package com.fleetmanager.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fleetmanager.auth.exception.PasswordHashingUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Login storm against a stand-in for Tomcat's request pool: a burst of logins (shift
+ * change) while a health probe hits the same pool every 10 ms. Compares hashing on the
+ * request thread with hashing on {@link PasswordHashingExecutor}.
+ */
+class PasswordHashingLoadTest {
+
+    private static final int REQUEST_THREADS = 40;
+    private static final int LOGINS = 150;
+    private static final String PASSWORD = "shift-change-42";
+
+    private final PasswordEncoder encoder = new BCryptPasswordEncoder(8);
+    private final String hash = encoder.encode(PASSWORD);
+
+    private record Result(long loginP99Millis, int loginsOk, int loginsRejected, long healthP99Millis) {
+    }
+
+    private Result storm(Predicate<String> login) throws Exception {
+        ExecutorService requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+        List<Long> loginLatencies = Collections.synchronizedList(new ArrayList<>());
+        List<Long> healthLatencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> logins = new ArrayList<>();
+        for (int i = 0; i < LOGINS; i++) {
+            long submitted = System.nanoTime();
+            logins.add(requestPool.submit(() -> {
+                try {
+                    assertThat(login.test(PASSWORD)).isTrue();
+                    loginLatencies.add(System.nanoTime() - submitted);
+                } catch (PasswordHashingUnavailableException ex) {
+                    rejected.incrementAndGet();
+                }
+            }));
+        }
+
+        List<Future<?>> probes = new ArrayList<>();
+        while (logins.stream().anyMatch(f -> !f.isDone())) {
+            long submitted = System.nanoTime();
+            probes.add(requestPool.submit(() -> healthLatencies.add(System.nanoTime() - submitted)));
+            Thread.sleep(10);
+        }
+        for (Future<?> probe : probes) {
+            probe.get();
+        }
+        requestPool.shutdown();
+        assertThat(requestPool.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        return new Result(p99(loginLatencies), loginLatencies.size(), rejected.get(), p99(healthLatencies));
+    }
+
+    private static long p99(List<Long> latencies) {
+        if (latencies.isEmpty()) {
+            return -1;
+        }
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get((int) (sorted.size() * 0.99)));
+    }
+
+    @Test
+    void loginStorm_doesNotStarveOtherEndpoints() throws Exception {
+        Result onRequestThreads = storm(raw -> encoder.matches(raw, hash));
+
+        PasswordHashingExecutor hashing = new PasswordHashingExecutor(
+                encoder, 1, 8, Duration.ofMillis(500), new SimpleMeterRegistry());
+        Result onHashingPool;
+        try {
+            onHashingPool = storm(raw -> hashing.matches(raw, hash));
+        } finally {
+            hashing.destroy();
+        }
+
+        System.out.printf("login storm (%d logins, %d request threads)%n", LOGINS, REQUEST_THREADS);
+        System.out.printf("  request threads: login p99 %d ms, ok %d, health p99 %d ms%n",
+                onRequestThreads.loginP99Millis(), onRequestThreads.loginsOk(), onRequestThreads.healthP99Millis());
+        System.out.printf("  hashing pool:    login p99 %d ms, ok %d, 503 %d, health p99 %d ms%n",
+                onHashingPool.loginP99Millis(), onHashingPool.loginsOk(), onHashingPool.loginsRejected(),
+                onHashingPool.healthP99Millis());
+
+        assertThat(onHashingPool.loginsOk() + onHashingPool.loginsRejected()).isEqualTo(LOGINS);
+        assertThat(onHashingPool.loginsOk()).isPositive();
+        // Admitted logins wait at most max-wait plus the hashes queued ahead of them.
+        assertThat(onHashingPool.loginP99Millis()).isLessThan(onRequestThreads.loginP99Millis());
+        assertThat(onHashingPool.healthP99Millis() * 4).isLessThan(onRequestThreads.healthP99Millis());
+    }
+
+    @Test
+    void bulkEncode_neverTakesMoreThanThePoolWidthOfTheQueue() {
+        // queue of 1: a naive submit-all would be rejected on the second password
+        PasswordHashingExecutor hashing = new PasswordHashingExecutor(
+                encoder, 1, 1, Duration.ofMillis(500), new SimpleMeterRegistry());
+        try {
+            List<String> passwords = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                passwords.add("driver-password-" + i);
+            }
+
+            List<String> hashes = hashing.encodeAll(passwords);
+
+            assertThat(hashes).hasSize(20);
+            for (int i = 0; i < 20; i++) {
+                assertThat(encoder.matches(passwords.get(i), hashes.get(i))).isTrue();
+            }
+            // the single queue slot is free again for a login
+            assertThat(hashing.matches(PASSWORD, hash)).isTrue();
+        } finally {
+            hashing.destroy();
+        }
+    }
+}
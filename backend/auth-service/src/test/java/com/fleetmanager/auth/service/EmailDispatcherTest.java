@@ -0,0 +1,176 @@
+package com.fleetmanager.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.fleetmanager.auth.enums.EmailTemplate;
+import com.fleetmanager.auth.repository.EmailOutboxRepository;
+import com.fleetmanager.auth.repository.projection.OutboxEmail;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EmailDispatcher dispatcher(int smtpPort, int batchSize) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        return new EmailDispatcher(outbox, mailSender, templateEngine, meterRegistry, true,
+                "no-reply@trackstar.test", 1, batchSize, Duration.ofSeconds(5), Duration.ofMinutes(5),
+                3, Duration.ofSeconds(30), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void dueMail_isRenderedAndSentInBatches() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            outbox.add(EmailTemplate.WELCOME, "admin" + i + "@acme.test", Map.of(
+                    "name", "Admin " + i, "organizationName", "Acme <Fleet>", "loginUrl", "http://app/login"));
+        }
+
+        int delivered = dispatcher(ServerSetupTest.SMTP.getPort(), 2).dispatch();
+
+        assertThat(delivered).isEqualTo(5);
+        assertThat(outbox.claims).containsExactly(2, 2, 1);
+        assertThat(outbox.sent).hasSize(5);
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(5);
+        assertThat(received[0].getSubject()).isEqualTo(EmailTemplate.WELCOME.getSubject());
+        assertThat(GreenMailUtil.getBody(received[0]))
+                .contains("Admin 0")
+                .contains("Acme &lt;Fleet&gt;")
+                .contains("http://app/login");
+    }
+
+    @Test
+    void smtpUnavailable_reschedulesWithBackoffThenGivesUp() {
+        outbox.add(EmailTemplate.PASSWORD_RESET, "driver@acme.test", Map.of(
+                "name", "Driver", "resetUrl", "http://app/reset?token=t", "validForMinutes", 30));
+        EmailDispatcher dispatcher = dispatcher(1, 10); // nothing listens on port 1
+
+        LocalDateTime before = LocalDateTime.now();
+        assertThat(dispatcher.dispatch()).isZero();
+
+        OutboxRow row = outbox.rows.values().iterator().next();
+        assertThat(row.status).isEqualTo("PENDING");
+        assertThat(row.nextAttemptAt).isAfterOrEqualTo(before.plusSeconds(30));
+        assertThat(row.lastError).contains("connect");
+
+        row.nextAttemptAt = LocalDateTime.now();
+        dispatcher.dispatch();
+        row.nextAttemptAt = LocalDateTime.now();
+        dispatcher.dispatch();
+
+        assertThat(row.attempts).isEqualTo(3);
+        assertThat(row.status).isEqualTo("FAILED");
+        assertThat(meterRegistry.get("auth.email.failed").tag("outcome", "retry").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.email.failed").tag("outcome", "dead").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void backoff_doublesUpToTheCap() {
+        EmailDispatcher dispatcher = dispatcher(1, 10);
+
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(dispatcher.backoff(5)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(dispatcher.backoff(6)).isEqualTo(Duration.ofMinutes(10));
+        assertThat(dispatcher.backoff(100)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    private static class OutboxRow {
+        final OutboxEmail email;
+        String status = "PENDING";
+        int attempts;
+        LocalDateTime nextAttemptAt = LocalDateTime.now();
+        String lastError;
+
+        OutboxRow(OutboxEmail email) {
+            this.email = email;
+        }
+    }
+
+    /** Same semantics as the SQL in {@link EmailOutboxRepository}, without a database. */
+    private static class InMemoryOutbox extends EmailOutboxRepository {
+
+        final Map<Long, OutboxRow> rows = new LinkedHashMap<>();
+        final List<Integer> claims = new ArrayList<>();
+        final List<Long> sent = new ArrayList<>();
+
+        InMemoryOutbox() {
+            super(null, null);
+        }
+
+        void add(EmailTemplate template, String recipient, Map<String, Object> variables) {
+            long id = rows.size() + 1;
+            rows.put(id, new OutboxRow(new OutboxEmail(id, recipient, template, new HashMap<>(variables), 0)));
+        }
+
+        @Override
+        public List<OutboxEmail> claimDue(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+            List<OutboxEmail> claimed = new ArrayList<>();
+            for (OutboxRow row : rows.values()) {
+                if (claimed.size() < limit && row.status.equals("PENDING") && !row.nextAttemptAt.isAfter(now)) {
+                    row.attempts++;
+                    row.nextAttemptAt = leaseUntil;
+                    OutboxEmail e = row.email;
+                    claimed.add(new OutboxEmail(e.id(), e.recipient(), e.template(), e.variables(), row.attempts));
+                }
+            }
+            if (!claimed.isEmpty()) {
+                claims.add(claimed.size());
+            }
+            return claimed;
+        }
+
+        @Override
+        public void markSent(List<Long> ids, LocalDateTime sentAt) {
+            ids.forEach(id -> rows.get(id).status = "SENT");
+            sent.addAll(ids);
+        }
+
+        @Override
+        public void reschedule(Long id, LocalDateTime nextAttemptAt, String error) {
+            rows.get(id).nextAttemptAt = nextAttemptAt;
+            rows.get(id).lastError = error;
+        }
+
+        @Override
+        public void markFailed(Long id, String error) {
+            rows.get(id).status = "FAILED";
+            rows.get(id).lastError = error;
+        }
+    }
+}
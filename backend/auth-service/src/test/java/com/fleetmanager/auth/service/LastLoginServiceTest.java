@@ -0,0 +1,107 @@
+package com.fleetmanager.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fleetmanager.auth.repository.LastLoginBatchRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LastLoginServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingRepository repository = new RecordingRepository();
+
+    private LastLoginService service(int batchSize) {
+        return new LastLoginService(repository, meterRegistry, Duration.ofHours(1), batchSize);
+    }
+
+    @Test
+    void repeatedLogins_collapseToTheLatestTimestamp() {
+        LastLoginService service = service(100);
+        service.recordLogin(1L, T0.plusMinutes(5));
+        service.recordLogin(1L, T0);
+        service.recordLogin(2L, T0);
+
+        service.flush();
+
+        assertThat(repository.batches).hasSize(1);
+        assertThat(repository.batches.get(0))
+                .containsEntry(1L, T0.plusMinutes(5))
+                .containsEntry(2L, T0);
+        assertThat(service.pendingCount()).isZero();
+        assertThat(meterRegistry.get("auth.last_login.flush.size").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void flush_splitsIntoStatementsOfAtMostBatchSizeRows() {
+        LastLoginService service = service(3);
+        for (long id = 1; id <= 7; id++) {
+            service.recordLogin(id, T0);
+        }
+
+        service.flush();
+
+        assertThat(repository.batches).extracting(Map::size).containsExactly(3, 3, 1);
+    }
+
+    @Test
+    void failedBatch_isRequeuedWithoutLosingNewerLogins() {
+        LastLoginService service = service(100);
+        service.recordLogin(1L, T0);
+        repository.failNext = true;
+
+        service.flush();
+
+        assertThat(service.pendingCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.last_login.flush.failures").counter().count()).isEqualTo(1);
+
+        service.recordLogin(1L, T0.minusMinutes(1));
+        service.flush();
+
+        assertThat(repository.batches).hasSize(1);
+        assertThat(repository.batches.get(0)).containsEntry(1L, T0);
+    }
+
+    @Test
+    void stop_flushesWhatIsStillBuffered() {
+        LastLoginService service = service(100);
+        service.start();
+        service.recordLogin(1L, T0);
+
+        service.stop();
+
+        assertThat(service.isRunning()).isFalse();
+        assertThat(repository.batches).hasSize(1);
+    }
+
+    private static class RecordingRepository extends LastLoginBatchRepository {
+
+        final List<Map<Long, LocalDateTime>> batches = new ArrayList<>();
+        boolean failNext;
+
+        RecordingRepository() {
+            super(null, null);
+        }
+
+        @Override
+        public int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("database unavailable");
+            }
+            batches.add(new HashMap<>(lastLogins));
+            return lastLogins.size();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.fleetmanager.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fleetmanager.auth.repository.TenantRepository;
+import com.fleetmanager.auth.repository.projection.TenantRef;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TenantDirectoryTest {
+
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TenantDirectory directory(long maxSize) {
+        return new TenantDirectory(tenantRepository, meterRegistry, maxSize,
+                Duration.ofMinutes(10), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void unknownSubdomain_isCachedAsAbsent() {
+        when(tenantRepository.findRefBySubdomain("ghost")).thenReturn(Optional.empty());
+        TenantDirectory directory = directory(100);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(directory.findActive("ghost")).isEmpty();
+        }
+
+        verify(tenantRepository, times(1)).findRefBySubdomain("ghost");
+    }
+
+    @Test
+    void inactiveTenant_existsButIsNotActive() {
+        when(tenantRepository.findRefBySubdomain("dormant")).thenReturn(Optional.of(new TenantRef(7L, false)));
+        TenantDirectory directory = directory(100);
+
+        assertThat(directory.exists("dormant")).isTrue();
+        assertThat(directory.findActive("dormant")).isEmpty();
+    }
+
+    @Test
+    void invalidationInsideATransaction_isRepeatedAfterCommit() {
+        when(tenantRepository.findRefBySubdomain("acme"))
+                .thenReturn(Optional.empty(), Optional.of(new TenantRef(1L, true)));
+        TenantDirectory directory = directory(100);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            directory.invalidate("acme");
+            // A concurrent login sees the row before the insert commits.
+            assertThat(directory.find("acme")).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(directory.findActive("acme")).contains(new TenantRef(1L, true));
+    }
+
+    /**
+     * 10k logins spread over 200 tenants with a Zipf-like skew, 5% of them against
+     * subdomains that do not exist. Each repository call is one SELECT on tenants.
+     */
+    @Test
+    void tenThousandLogins_queryEachSubdomainOnce() {
+        when(tenantRepository.findRefBySubdomain(anyString())).thenAnswer(invocation -> {
+            String subdomain = invocation.getArgument(0);
+            return subdomain.startsWith("tenant-")
+                    ? Optional.of(new TenantRef((long) subdomain.hashCode(), true))
+                    : Optional.empty();
+        });
+        TenantDirectory directory = directory(10_000);
+
+        int logins = 10_000;
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < logins; i++) {
+            String subdomain = random.nextInt(100) < 5
+                    ? "unknown-" + random.nextInt(50)
+                    : "tenant-" + (int) Math.pow(200, random.nextDouble());
+            directory.find(subdomain);
+        }
+
+        long queries = mockingDetails(tenantRepository).getInvocations().size();
+        double hits = meterRegistry.get("cache.gets").tag("cache", "auth.tenant_directory")
+                .tag("result", "hit").functionCounter().count();
+
+        System.out.printf("tenant lookups for %d logins: %d queries uncached, %d cached (%.1f%% hit rate)%n",
+                logins, logins, queries, 100.0 * hits / logins);
+
+        assertThat(queries).isLessThanOrEqualTo(200 + 50); // one per distinct subdomain
+        assertThat(hits + queries).isEqualTo(logins);
+    }
+}
@@ -0,0 +1,70 @@
+package com.fleetmanager.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleetmanager.auth.enums.ImportFormat;
+import com.fleetmanager.auth.exception.BulkImportException;
+import com.fleetmanager.auth.service.UserImportParser.Row;
+
+class UserImportParserTest {
+
+    private static List<Row> parse(String body, ImportFormat format) {
+        UserImportParser parser = new UserImportParser(new StringReader(body), format, new ObjectMapper());
+        List<Row> rows = new ArrayList<>();
+        Row row;
+        while ((row = parser.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    void csv_mapsColumnsByHeaderAndHonoursQuotes() {
+        List<Row> rows = parse("""
+                Name,Email,Password,Role
+                "Doe, Jane",jane@acme.test,"pa""ss word",manager
+
+                Bob,bob@acme.test,secret-123,
+                "Broken,bob@acme.test,x
+                """, ImportFormat.CSV);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).isEqualTo(new Row(2, "jane@acme.test", "Doe, Jane", "manager", "pa\"ss word", null));
+        assertThat(rows.get(1).line()).isEqualTo(4);
+        assertThat(rows.get(1).role()).isEmpty();
+        assertThat(rows.get(2).error()).isEqualTo("Unterminated quoted field");
+    }
+
+    @Test
+    void csv_withoutRequiredColumn_isRejectedAsAWhole() {
+        assertThatThrownBy(() -> parse("email,name\na@acme.test,A\n", ImportFormat.CSV))
+                .isInstanceOf(BulkImportException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> parse("", ImportFormat.CSV))
+                .isInstanceOf(BulkImportException.class);
+    }
+
+    @Test
+    void ndjson_reportsMalformedLinesAndKeepsGoing() {
+        List<Row> rows = parse("""
+                {"email":"a@acme.test","name":"A","password":"secret-123"}
+                {"email": oops}
+                ["not","an","object"]
+                {"email":"b@acme.test","name":"B","password":"secret-456","role":"DRIVER"}
+                """, ImportFormat.NDJSON);
+
+        assertThat(rows).extracting(Row::line).containsExactly(1, 2, 3, 4);
+        assertThat(rows.get(0).email()).isEqualTo("a@acme.test");
+        assertThat(rows.get(1).error()).startsWith("Malformed JSON");
+        assertThat(rows.get(2).error()).isEqualTo("Expected a JSON object");
+        assertThat(rows.get(3).role()).isEqualTo("DRIVER");
+    }
+}
@@ -0,0 +1,16 @@
+package com.fleetmanager.common.security;
+
+import lombok.Value;
+
+/**
+ * Caller identity carried from the gateway to downstream services
+ * inside an internal assertion.
+ */
+@Value
+public class InternalIdentity {
+
+    long userId;
+    long tenantId;
+    String role;
+    long expiresAtEpochSecond;
+}
@@ -0,0 +1,23 @@
+package com.fleetmanager.common.security;
+
+import java.time.Instant;
+
+import lombok.Value;
+
+/**
+ * Typed view of a verified TrackStar access token.
+ * Claim fields are {@code null} when the token does not carry them.
+ */
+@Value
+public class JwtPrincipal {
+
+    String subject;
+    Long userId;
+    Long tenantId;
+    String role;
+    Instant expiresAt;
+
+    public boolean isExpiredAt(Instant instant) {
+        return !expiresAt.isAfter(instant);
+    }
+}
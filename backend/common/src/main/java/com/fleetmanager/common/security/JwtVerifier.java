@@ -0,0 +1,74 @@
+package com.fleetmanager.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Verifies TrackStar access tokens in a single pass.
+ *
+ * The signature, expiry and claim extraction all come from one
+ * {@code parseClaimsJws} call on a parser built once at construction
+ * ({@link JwtParser} is immutable and thread-safe), so one instance can be
+ * shared by every request thread.
+ */
+public class JwtVerifier {
+
+    public static final String CLAIM_USER_ID = "user_id";
+    public static final String CLAIM_TENANT_ID = "tenant_id";
+    public static final String CLAIM_ROLE = "role";
+
+    private final JwtParser parser;
+
+    public JwtVerifier(String secret) {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalArgumentException("JWT secret must be at least 32 characters");
+        }
+        Key key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    /**
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+     * @throws JwtException if the token is malformed, badly signed or has no expiry
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public JwtPrincipal verify(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+
+        if (claims.getExpiration() == null) {
+            throw new JwtException("Token has no expiry");
+        }
+
+        return new JwtPrincipal(
+                claims.getSubject(),
+                toLong(claims.get(CLAIM_USER_ID)),
+                toLong(claims.get(CLAIM_TENANT_ID)),
+                toStringOrNull(claims.get(CLAIM_ROLE)),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    private static Long toLong(Object value) {
+        if (value instanceof Number n) return n.longValue();
+        if (value instanceof String s) {
+            try {
+                return Long.parseLong(s);
+            } catch (NumberFormatException ex) {
+                throw new JwtException("Malformed numeric claim");
+            }
+        }
+        return null;
+    }
+
+    private static String toStringOrNull(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
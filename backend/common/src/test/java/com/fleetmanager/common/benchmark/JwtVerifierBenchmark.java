@@ -0,0 +1,114 @@
+package com.fleetmanager.common.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.common.security.JwtVerifier;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Cost of token verification, old per-service style versus the shared {@link JwtVerifier}.
+ *
+ * <ul>
+ *   <li>{@code legacyPerClaim} – what the old {@code JwtUtil} classes did for a request:
+ *       validate, then one fresh parser and full parse per claim read (user, tenant, role).</li>
+ *   <li>{@code singlePass} – one parse with the shared parser.</li>
+ *   <li>{@code singlePassConcurrent} – same, from 8 threads against one instance, to show the
+ *       shared parser does not serialise callers.</li>
+ * </ul>
+ *
+ * {@code extraClaims} pads the token with additional claims to cover small and large tokens.
+ *
+ * Run with: {@code mvn -pl common test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.fleetmanager.common.benchmark.JwtVerifierBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerifierBenchmark {
+
+    private static final String SECRET = "YWHx2ms0eGJhYlN6TkJqbENBblUyTktWbEZka3NaNElvNkliZlJ3czZ1skhqbdjqw";
+
+    @Param({"0", "16", "64"})
+    public int extraClaims;
+
+    private Key key;
+    private JwtVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        verifier = new JwtVerifier(SECRET);
+
+        JwtBuilder builder = Jwts.builder()
+                .setSubject("admin@fleetcorp.com")
+                .claim("user_id", 42L)
+                .claim("tenant_id", 101L)
+                .claim("role", "MANAGER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)));
+        for (int i = 0; i < extraClaims; i++) {
+            builder.claim("perm_" + i, "vehicle:read:region-" + i);
+        }
+        token = builder.signWith(key).compact();
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public void legacyPerClaim(Blackhole bh) {
+        legacyParse();
+        bh.consume(legacyParse().get("user_id", Long.class));
+        bh.consume(legacyParse().get("tenant_id", Long.class));
+        bh.consume(legacyParse().get("role", String.class));
+    }
+
+    @Benchmark
+    public JwtPrincipal singlePass() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public JwtPrincipal singlePassConcurrent() {
+        return verifier.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerifierBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.fleetmanager.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+class InternalAssertionCodecTest {
+
+    private static final String SECRET = "internal-assertion-secret-for-tests-only";
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC);
+    private final InternalAssertionCodec codec = new InternalAssertionCodec(SECRET, clock);
+
+    @Test
+    void mintedAssertion_roundTrips() {
+        String assertion = codec.mint(7L, 101L, "MANAGER", 30);
+
+        InternalIdentity identity = codec.verify(assertion);
+
+        assertThat(identity).isNotNull();
+        assertThat(identity.getUserId()).isEqualTo(7L);
+        assertThat(identity.getTenantId()).isEqualTo(101L);
+        assertThat(identity.getRole()).isEqualTo("MANAGER");
+    }
+
+    @Test
+    void tamperedTenant_isRejected() {
+        String assertion = codec.mint(7L, 101L, "MANAGER", 30);
+        String forged = assertion.replace(".101.", ".202.");
+
+        assertThat(codec.verify(forged)).isNull();
+    }
+
+    @Test
+    void assertionSignedWithOtherSecret_isRejected() {
+        InternalAssertionCodec other = new InternalAssertionCodec("another-secret-another-secret-123456", clock);
+
+        assertThat(codec.verify(other.mint(7L, 101L, "ADMIN", 30))).isNull();
+    }
+
+    @Test
+    void expiredAssertion_isRejected() {
+        String assertion = codec.mint(7L, 101L, "ADMIN", 30);
+        InternalAssertionCodec later = new InternalAssertionCodec(SECRET, Clock.offset(clock, java.time.Duration.ofMinutes(1)));
+
+        assertThat(later.verify(assertion)).isNull();
+    }
+
+    @Test
+    void malformedInput_isRejected() {
+        assertThat(codec.verify(null)).isNull();
+        assertThat(codec.verify("")).isNull();
+        assertThat(codec.verify("v1.")).isNull();
+        assertThat(codec.verify("v1.1.2.ADMIN.99.!!!")).isNull();
+        assertThat(codec.verify("Bearer abc.def.ghi")).isNull();
+    }
+}
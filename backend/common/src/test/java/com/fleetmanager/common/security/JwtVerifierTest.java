@@ -0,0 +1,100 @@
+package com.fleetmanager.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class JwtVerifierTest {
+
+    private static final String SECRET = "testtesttesttesttesttesttesttesttesttest";
+
+    private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    private final JwtVerifier verifier = new JwtVerifier(SECRET);
+
+    private static Date inMillis(long ms) {
+        return new Date(System.currentTimeMillis() + ms);
+    }
+
+    @Test
+    void validToken_isMappedToTypedPrincipal() {
+        String token = Jwts.builder()
+                .setSubject("admin@fleetcorp.com")
+                .claim("user_id", 7L)
+                .claim("tenant_id", 101)
+                .claim("role", "MANAGER")
+                .setExpiration(inMillis(60_000))
+                .signWith(key)
+                .compact();
+
+        JwtPrincipal principal = verifier.verify(token);
+
+        assertThat(principal.getSubject()).isEqualTo("admin@fleetcorp.com");
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(principal.getTenantId()).isEqualTo(101L);
+        assertThat(principal.getRole()).isEqualTo("MANAGER");
+        assertThat(principal.getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void missingClaims_areNull() {
+        String token = Jwts.builder()
+                .claim("user_id", "7")
+                .setExpiration(inMillis(60_000))
+                .signWith(key)
+                .compact();
+
+        JwtPrincipal principal = verifier.verify(token);
+
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(principal.getTenantId()).isNull();
+        assertThat(principal.getRole()).isNull();
+    }
+
+    @Test
+    void expiredToken_isRejected() {
+        String token = Jwts.builder()
+                .claim("tenant_id", 101L)
+                .setExpiration(inMillis(-60_000))
+                .signWith(key)
+                .compact();
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void tokenWithoutExpiry_isRejected() {
+        String token = Jwts.builder()
+                .claim("tenant_id", 101L)
+                .signWith(key)
+                .compact();
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void tokenSignedWithOtherKey_isRejected() {
+        String token = Jwts.builder()
+                .claim("tenant_id", 101L)
+                .setExpiration(inMillis(60_000))
+                .signWith(Keys.hmacShaKeyFor("another-secret-another-secret-123456".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void shortSecret_isRejected() {
+        assertThatThrownBy(() -> new JwtVerifier("too-short")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,23 @@
+package com.fleetmanager.fleet.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fleetmanager.common.security.InternalAssertionCodec;
+
+/**
+ * Internal-auth mode: trust the gateway-signed {@code X-Internal-Assertion} header
+ * instead of re-parsing the bearer JWT. Requests without a valid assertion
+ * (i.e. that did not come through the gateway) stay unauthenticated.
+ */
+@Configuration
+@ConditionalOnProperty(name = "internal-auth.enabled", havingValue = "true")
+public class InternalAuthConfig {
+
+    @Bean
+    public InternalAssertionCodec internalAssertionCodec(@Value("${internal-auth.secret}") String secret) {
+        return new InternalAssertionCodec(secret);
+    }
+}
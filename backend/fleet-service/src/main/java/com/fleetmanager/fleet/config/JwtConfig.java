@@ -0,0 +1,16 @@
+package com.fleetmanager.fleet.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fleetmanager.common.security.JwtVerifier;
+
+@Configuration
+public class JwtConfig {
+
+    @Bean
+    public JwtVerifier jwtVerifier(@Value("${jwt.secret}") String secret) {
+        return new JwtVerifier(secret);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fleetmanager.fleet.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.fleetmanager.fleet.datasource.ReadYourWritesTracker;
+import com.fleetmanager.fleet.datasource.ReplicaHealthMonitor;
+import com.fleetmanager.fleet.datasource.ReplicaNode;
+import com.fleetmanager.fleet.datasource.ReplicaRoutingDataSource;
+import com.fleetmanager.fleet.datasource.ReplicaRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Replaces the auto-configured DataSource with primary/replica routing when
+ * {@code fleet.replicas.enabled} is set. The primary is still configured through
+ * {@code spring.datasource.*}; Flyway, JPA and JdbcTemplate all get the routing proxy,
+ * and only read-only transactions ever leave the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "fleet.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaRoutingProperties properties) {
+        properties.validate();
+        return new ReadYourWritesTracker(properties.getStickyWindow());
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaRoutingProperties properties,
+            ReadYourWritesTracker readYourWritesTracker) {
+
+        List<ReplicaNode> replicas = new ArrayList<>();
+        for (ReplicaRoutingProperties.Node node : properties.getNodes()) {
+            String name = "replica-" + replicas.size();
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(node.getUrl());
+            pool.setUsername(node.getUsername());
+            pool.setPassword(node.getPassword());
+            pool.setReadOnly(true);
+            pool.setMaximumPoolSize(properties.getMaximumPoolSize());
+            pool.setConnectionTimeout(properties.getHealthCheckInterval().toMillis());
+            pool.setInitializationFailTimeout(-1); // a replica that is down must not stop startup
+            replicas.add(new ReplicaNode(name, pool));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            ReplicaRoutingProperties properties) {
+        return new ReplicaHealthMonitor(replicaRoutingDataSource.getReplicas(), properties);
+    }
+}
@@ -1,9 +1,10 @@
 package com.fleetmanager.fleet.controller;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -13,10 +14,15 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.fleetmanager.fleet.dto.request.VehicleCreateDTO;
 import com.fleetmanager.fleet.dto.request.VehicleFilterDTO;
+import com.fleetmanager.fleet.dto.response.CursorPageDTO;
 import com.fleetmanager.fleet.dto.response.VehicleResponseDTO;
+import com.fleetmanager.fleet.dto.response.VehicleSuggestionDTO;
+import com.fleetmanager.fleet.enums.Permission;
 import com.fleetmanager.fleet.enums.VehicleStatus;
 import com.fleetmanager.fleet.enums.VehicleType;
+import com.fleetmanager.fleet.security.RequiresPermission;
 import com.fleetmanager.fleet.service.VehicleService;
+import com.fleetmanager.fleet.service.VehicleSuggestionService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 public class VehicleController {
 	
 	private final VehicleService vehicleService;
+	private final VehicleSuggestionService vehicleSuggestionService;
 
 
 	@GetMapping("/test")
@@ -40,7 +47,7 @@ public class VehicleController {
 	}
 
 	@PostMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @RequiresPermission(Permission.VEHICLE_WRITE)
     public ResponseEntity<VehicleResponseDTO> createVehicle(
             @Valid @RequestBody VehicleCreateDTO dto) {
 
@@ -49,23 +56,69 @@ public class VehicleController {
     }
 	
 	@GetMapping
+	@RequiresPermission(Permission.VEHICLE_READ)
 	public ResponseEntity<Page<VehicleResponseDTO>> listVehicles(
 	        @RequestParam(required = false) VehicleStatus status,
 	        @RequestParam(required = false) VehicleType type,
 	        @RequestParam(required = false) String search,
 	        @RequestParam(defaultValue = "0") int page,
-	        @RequestParam(defaultValue = "20") int size
+	        @RequestParam(defaultValue = "20") int size,
+	        @RequestParam(defaultValue = "createdAt") String sortBy,
+	        @RequestParam(defaultValue = "DESC") String sortDir
+	) {
+
+	    VehicleFilterDTO filters = filters(status, type, search, size, sortBy, sortDir);
+	    filters.setPage(page);
+
+	    Page<VehicleResponseDTO> result = vehicleService.listVehicles(filters);
+	    return ResponseEntity.ok(result);
+	}
+
+	/**
+	 * Keyset-paged listing for deep scrolling: same filters and sorts as {@link #listVehicles},
+	 * but pages are addressed by the previous page's {@code nextCursor} and no total is counted.
+	 */
+	@GetMapping("/cursor")
+	@RequiresPermission(Permission.VEHICLE_READ)
+	public ResponseEntity<CursorPageDTO<VehicleResponseDTO>> listVehiclesByCursor(
+	        @RequestParam(required = false) VehicleStatus status,
+	        @RequestParam(required = false) VehicleType type,
+	        @RequestParam(required = false) String search,
+	        @RequestParam(required = false) String cursor,
+	        @RequestParam(defaultValue = "20") int size,
+	        @RequestParam(defaultValue = "createdAt") String sortBy,
+	        @RequestParam(defaultValue = "DESC") String sortDir
 	) {
 
+	    VehicleFilterDTO filters = filters(status, type, search, size, sortBy, sortDir);
+	    filters.setCursor(cursor);
+
+	    return ResponseEntity.ok(vehicleService.listVehiclesByCursor(filters));
+	}
+
+	/**
+	 * Typeahead for plates, makes and models, answered from an in-memory per-tenant index.
+	 */
+	@GetMapping("/suggest")
+	@RequiresPermission(Permission.VEHICLE_READ)
+	public ResponseEntity<List<VehicleSuggestionDTO>> suggestVehicles(
+	        @RequestParam String q,
+	        @RequestParam(defaultValue = "10") int limit
+	) {
+
+	    return ResponseEntity.ok(vehicleSuggestionService.suggest(q, limit));
+	}
+
+	private static VehicleFilterDTO filters(VehicleStatus status, VehicleType type, String search,
+	                                        int size, String sortBy, String sortDir) {
 	    VehicleFilterDTO filters = new VehicleFilterDTO();
 	    filters.setStatus(status);
 	    filters.setType(type);
 	    filters.setSearch(search);
-	    filters.setPage(page);
 	    filters.setSize(size);
-
-	    Page<VehicleResponseDTO> result = vehicleService.listVehicles(filters);
-	    return ResponseEntity.ok(result);
+	    filters.setSortBy(sortBy);
+	    filters.setSortDir(sortDir);
+	    return filters;
 	}
 
-}
\ No newline at end of file
+}
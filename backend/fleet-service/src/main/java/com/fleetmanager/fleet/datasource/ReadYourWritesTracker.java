@@ -0,0 +1,69 @@
+package com.fleetmanager.fleet.datasource;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers which tenants committed a write in the last sticky window, so their reads
+ * stay on the primary until replicas have had time to catch up.
+ *
+ * Stickiness is per instance and is not shared: a write through one fleet-service
+ * instance does not keep another instance's reads on the primary. The gateway balances
+ * each request independently, so a tenant's read right after its write can land on an
+ * instance that reads from a replica and miss that write for up to {@code max-lag}.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWrites;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public boolean recentlyWrote(Long tenantId) {
+        return recentWrites.getIfPresent(tenantId) != null;
+    }
+
+    /**
+     * Records a write by the tenant; inside a transaction, once it commits, so the window
+     * starts when the write becomes visible.
+     */
+    public void tenantWrote(Long tenantId) {
+        if (tenantId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWrites.put(tenantId, Boolean.TRUE);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> tenants = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (tenants == null) {
+            Set<Long> pending = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.forEach(id -> recentWrites.put(id, Boolean.TRUE));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesTracker.this);
+                }
+            });
+            tenants = pending;
+        }
+        tenants.add(tenantId);
+    }
+}
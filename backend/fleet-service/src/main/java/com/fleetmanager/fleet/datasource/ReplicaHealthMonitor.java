@@ -0,0 +1,99 @@
+package com.fleetmanager.fleet.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Checks every replica on a fixed delay and admits only those that answer the lag
+ * query within {@code fleet.replicas.max-lag}. The first round runs on start, before
+ * the application takes traffic.
+ */
+public class ReplicaHealthMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final List<ReplicaNode> replicas;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final Duration interval;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaHealthMonitor(List<ReplicaNode> replicas, ReplicaRoutingProperties properties) {
+        this.replicas = replicas;
+        this.lagQuery = properties.getLagQuery();
+        this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        this.interval = properties.getHealthCheckInterval();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        checkAll();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** Before the web server, so the first round is done when requests arrive. */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    void checkAll() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(ReplicaNode replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(Math.max(1, (int) interval.toSeconds()));
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                double lag = rs.next() ? rs.getDouble(1) : Double.NaN;
+                boolean available = lag <= maxLagSeconds; // false for NaN
+                if (replica.update(available, lag)) {
+                    if (available) {
+                        log.info("Replica {} admitted, lag {}s", replica.getName(), lag);
+                    } else {
+                        log.warn("Replica {} excluded, lag {}s over {}s", replica.getName(), lag, maxLagSeconds);
+                    }
+                }
+            }
+        } catch (Exception ex) {
+            if (replica.update(false, Double.NaN)) {
+                log.warn("Replica {} excluded: {}", replica.getName(), ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.fleetmanager.fleet.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * One replica pool and what the last health check found. Replicas start out excluded
+ * and are admitted by the first passing check.
+ */
+public class ReplicaNode {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaNode(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /** Returns whether availability changed. */
+    boolean update(boolean available, double lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        boolean changed = this.available != available;
+        this.available = available;
+        return changed;
+    }
+}
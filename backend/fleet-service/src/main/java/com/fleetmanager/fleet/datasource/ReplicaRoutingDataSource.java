@@ -0,0 +1,94 @@
+package com.fleetmanager.fleet.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fleetmanager.fleet.context.TenantContext;
+
+/**
+ * Hands out replica connections for read-only transactions and primary connections for
+ * everything else. A read-only transaction still goes to the primary when no replica
+ * is available or when its tenant wrote within the sticky window, so a client sees its
+ * own writes straight away.
+ *
+ * The transaction's read-only flag is only set after the transaction manager asks for
+ * a connection, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which
+ * defers the choice to the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReplicaNode replica = replicaForCurrentTransaction();
+        if (replica != null) {
+            try {
+                return replica.getDataSource().getConnection();
+            } catch (SQLException ex) {
+                // excluded until the health check admits it again
+                if (replica.update(false, Double.NaN)) {
+                    log.warn("Replica {} excluded: {}", replica.getName(), ex.getMessage());
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /** The replica to read from, or {@code null} for the primary. */
+    ReplicaNode replicaForCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        Long tenantId = TenantContext.getCurrentTenantId();
+        if (tenantId != null && readYourWritesTracker.recentlyWrote(tenantId)) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+}
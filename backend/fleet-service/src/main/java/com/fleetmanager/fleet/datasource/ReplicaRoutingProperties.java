@@ -0,0 +1,67 @@
+package com.fleetmanager.fleet.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "fleet.replicas")
+public class ReplicaRoutingProperties {
+
+    /** Routes read-only transactions to {@link #nodes}; everything else stays on spring.datasource. */
+    private boolean enabled = false;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    /** Replicas further behind than this are skipped until they catch up. */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(2);
+
+    /**
+     * How long a tenant's reads stay on the primary after it commits a write. Must exceed
+     * {@link #maxLag} plus {@link #healthCheckInterval}: an admitted replica can be that far
+     * behind by the time its lag is next checked.
+     */
+    private Duration stickyWindow = Duration.ofSeconds(10);
+
+    /**
+     * Returns the replica's replay lag in seconds: zero when it has replayed everything it
+     * received (or is not a standby at all), otherwise the age of the last replayed commit.
+     */
+    private String lagQuery = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    /** Pool size per replica. */
+    private int maximumPoolSize = 10;
+
+    /** Fails startup when the sticky window cannot cover the lag an admitted replica may have. */
+    public void validate() {
+        Duration worstLag = maxLag.plus(healthCheckInterval);
+        if (stickyWindow.compareTo(worstLag) <= 0) {
+            throw new IllegalStateException("fleet.replicas.sticky-window (" + stickyWindow
+                    + ") must be longer than max-lag + health-check-interval (" + worstLag
+                    + "), or a tenant can read from a replica that has not replayed its write");
+        }
+    }
+
+    @Data
+    public static class Node {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
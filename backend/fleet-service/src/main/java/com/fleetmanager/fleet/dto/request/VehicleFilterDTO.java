@@ -16,4 +16,7 @@ public class VehicleFilterDTO {
 
     private String sortBy = "createdAt";
     private String sortDir = "DESC";
+
+    // keyset mode only: token from the previous page, null for the first
+    private String cursor;
 }
@@ -0,0 +1,27 @@
+package com.fleetmanager.fleet.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a keyset listing. There is no total: pass {@code nextCursor} back to get
+ * the following page; it is {@code null} on the last one.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private String nextCursor;
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fleetmanager.fleet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleSuggestionDTO {
+
+    private Long id;
+
+    private String licensePlate;
+
+    private String make;
+
+    private String model;
+}
@@ -2,6 +2,7 @@ package com.fleetmanager.fleet.entity;
 
 import com.fleetmanager.fleet.context.TenantContext;
 import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import org.hibernate.annotations.Filter;
@@ -9,6 +10,7 @@ import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.ParamDef;
 
 @MappedSuperclass
+@EntityListeners(TenantWriteListener.class)
 @FilterDef(
     name = "tenantFilter",
     parameters = @ParamDef(name = "tenantId", type = long.class)
@@ -0,0 +1,33 @@
+package com.fleetmanager.fleet.entity;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.fleetmanager.fleet.datasource.ReadYourWritesTracker;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Reports tenant writes that go through JPA to the replica routing, which keeps the
+ * tenant's reads on the primary for a short while. The tracker only exists when
+ * replicas are enabled; it is looked up lazily since Hibernate creates this listener
+ * while the EntityManagerFactory is still being built.
+ */
+@Component
+public class TenantWriteListener {
+
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+
+    public TenantWriteListener(ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void tenantWrote(TenantAwareEntity entity) {
+        readYourWritesTracker.ifAvailable(tracker -> tracker.tenantWrote(entity.getTenantId()));
+    }
+}
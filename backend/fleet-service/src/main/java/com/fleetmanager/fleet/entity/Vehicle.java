@@ -7,6 +7,7 @@ import com.fleetmanager.fleet.enums.VehicleType;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -22,6 +23,7 @@ import lombok.NoArgsConstructor;
 import jakarta.persistence.PrePersist;
 
 @Entity
+@EntityListeners(VehicleSuggestionListener.class)
 @Table(
     name = "vehicles",
     uniqueConstraints = {
@@ -0,0 +1,37 @@
+package com.fleetmanager.fleet.entity;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.fleetmanager.fleet.service.VehicleSuggestionService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Keeps the in-memory suggestion indexes in step with every vehicle write that goes
+ * through JPA. Instantiated by Hibernate through Spring, hence the lazy lookup: the
+ * service depends on the repository, which needs the EntityManagerFactory that creates
+ * this listener.
+ */
+@Component
+public class VehicleSuggestionListener {
+
+    private final ObjectProvider<VehicleSuggestionService> suggestionService;
+
+    public VehicleSuggestionListener(ObjectProvider<VehicleSuggestionService> suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void vehicleSaved(Vehicle vehicle) {
+        suggestionService.ifAvailable(service -> service.vehicleSaved(vehicle));
+    }
+
+    @PostRemove
+    void vehicleRemoved(Vehicle vehicle) {
+        suggestionService.ifAvailable(service -> service.vehicleRemoved(vehicle));
+    }
+}
@@ -0,0 +1,29 @@
+package com.fleetmanager.fleet.enums;
+
+/**
+ * Fine-grained actions checked on endpoints. Each constant owns one bit, so a set of
+ * permissions is a {@code long} and a check is a single mask test.
+ */
+public enum Permission {
+    VEHICLE_READ,
+    VEHICLE_WRITE,
+    DRIVER_READ,
+    DRIVER_WRITE,
+    TRIP_READ,
+    TRIP_WRITE,
+    REPORT_READ;
+
+    private final long bit = 1L << ordinal();
+
+    public long bit() {
+        return bit;
+    }
+
+    public static long mask(Permission... permissions) {
+        long mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.bit;
+        }
+        return mask;
+    }
+}
@@ -1,7 +1,52 @@
 package com.fleetmanager.fleet.enums;
 
-public enum Role {
-    ADMIN,
-    MANAGER,
-    DRIVER
+import static com.fleetmanager.fleet.enums.Permission.DRIVER_READ;
+import static com.fleetmanager.fleet.enums.Permission.DRIVER_WRITE;
+import static com.fleetmanager.fleet.enums.Permission.REPORT_READ;
+import static com.fleetmanager.fleet.enums.Permission.TRIP_READ;
+import static com.fleetmanager.fleet.enums.Permission.TRIP_WRITE;
+import static com.fleetmanager.fleet.enums.Permission.VEHICLE_READ;
+import static com.fleetmanager.fleet.enums.Permission.VEHICLE_WRITE;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Also the request's granted authority ({@code ROLE_<name>}), so the permission mask is
+ * at hand without a lookup.
+ */
+public enum Role implements GrantedAuthority {
+    ADMIN(Permission.values()),
+    MANAGER(VEHICLE_READ, VEHICLE_WRITE, DRIVER_READ, DRIVER_WRITE, TRIP_READ, TRIP_WRITE, REPORT_READ),
+    DRIVER(VEHICLE_READ, DRIVER_READ, TRIP_READ, TRIP_WRITE);
+
+    private final long permissions;
+    private final String authority;
+
+    Role(Permission... permissions) {
+        this.permissions = Permission.mask(permissions);
+        this.authority = "ROLE_" + name();
+    }
+
+    public long permissions() {
+        return permissions;
+    }
+
+    public boolean grants(long required) {
+        return (permissions & required) == required;
+    }
+
+    @Override
+    public String getAuthority() {
+        return authority;
+    }
+
+    /** The role named by a token claim, or {@code null} if there is none. */
+    public static Role fromClaim(String name) {
+        for (Role role : values()) {
+            if (role.name().equals(name)) {
+                return role;
+            }
+        }
+        return null;
+    }
 }
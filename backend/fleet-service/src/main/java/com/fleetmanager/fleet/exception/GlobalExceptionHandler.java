@@ -37,4 +37,17 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(InvalidPaginationException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidPagination(
+            InvalidPaginationException ex) {
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Bad Request");
+        error.put("message", ex.getMessage());
+        error.put("timestamp", LocalDateTime.now().toString());
+        error.put("status", String.valueOf(HttpStatus.BAD_REQUEST.value()));
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,8 @@
+package com.fleetmanager.fleet.exception;
+
+public class InvalidPaginationException extends RuntimeException {
+
+    public InvalidPaginationException(String message) {
+        super(message);
+    }
+}
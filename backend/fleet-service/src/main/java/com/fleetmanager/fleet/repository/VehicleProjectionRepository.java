@@ -0,0 +1,92 @@
+package com.fleetmanager.fleet.repository;
+
+import java.util.List;
+
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import com.fleetmanager.fleet.dto.response.VehicleResponseDTO;
+import com.fleetmanager.fleet.entity.Vehicle;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Vehicle listings selected straight into {@link VehicleResponseDTO}: the rows never
+ * become managed entities, so there is nothing to snapshot, dirty-check or map
+ * afterwards. The same {@link Specification}s as {@link VehicleRepository} apply, and
+ * so does the tenant filter.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VehicleProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    public Page<VehicleResponseDTO> findAll(Specification<Vehicle> spec, Pageable pageable) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VehicleResponseDTO> query = cb.createQuery(VehicleResponseDTO.class);
+        Root<Vehicle> root = query.from(Vehicle.class);
+
+        query.select(cb.construct(VehicleResponseDTO.class,
+                root.get("id"),
+                root.get("licensePlate"),
+                root.get("make"),
+                root.get("model"),
+                root.get("year"),
+                root.get("vin"),
+                root.get("type"),
+                root.get("status"),
+                root.get("imageUrl"),
+                root.get("odometerReading"),
+                root.get("createdAt")));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        // after the sort, so a specification that orders (relevance search) wins
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        TypedQuery<VehicleResponseDTO> typedQuery = withoutFlush(entityManager.createQuery(query));
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<VehicleResponseDTO> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    private long count(Specification<Vehicle> spec) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Vehicle> root = query.from(Vehicle.class);
+
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return withoutFlush(entityManager.createQuery(query)).getSingleResult();
+    }
+
+    private static <T> TypedQuery<T> withoutFlush(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+}
@@ -6,8 +6,11 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import com.fleetmanager.fleet.dto.response.VehicleSuggestionDTO;
 import com.fleetmanager.fleet.entity.Vehicle;
 import com.fleetmanager.fleet.enums.VehicleStatus;
 import com.fleetmanager.fleet.enums.VehicleType;
@@ -28,4 +31,13 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpec
             VehicleType type,
             Pageable pageable
     );
+
+    @Query("""
+            select new com.fleetmanager.fleet.dto.response.VehicleSuggestionDTO(
+                v.id, v.licensePlate, v.make, v.model)
+            from Vehicle v
+            where v.tenantId = :tenantId
+            order by v.id
+            """)
+    List<VehicleSuggestionDTO> findSuggestionsByTenantId(@Param("tenantId") Long tenantId, Pageable pageable);
 }
@@ -1,14 +1,20 @@
 package com.fleetmanager.fleet.security;
 
 
+import com.fleetmanager.common.security.InternalAssertionCodec;
+import com.fleetmanager.common.security.InternalIdentity;
+import com.fleetmanager.common.security.JwtPrincipal;
+import com.fleetmanager.common.security.JwtVerifier;
 import com.fleetmanager.fleet.context.TenantContext;
-import com.fleetmanager.fleet.util.JwtUtil;
+import com.fleetmanager.fleet.enums.Role;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -18,10 +24,15 @@ import java.io.IOException;
 import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtVerifier jwtVerifier;
+    private final InternalAssertionCodec assertionCodec; // null unless internal-auth.enabled
+
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier, ObjectProvider<InternalAssertionCodec> assertionCodec) {
+        this.jwtVerifier = jwtVerifier;
+        this.assertionCodec = assertionCodec.getIfAvailable();
+    }
 
     @Override
     protected void doFilterInternal(
@@ -31,40 +42,69 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         try {
-            String authHeader = request.getHeader("Authorization");
-
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
+            if (assertionCodec != null) {
+                authenticateFromAssertion(request);
+            } else {
+                authenticateFromBearer(request);
+            }
 
-                if (jwtUtil.validateToken(token)) {
+            filterChain.doFilter(request, response);
 
-                    Long userId = jwtUtil.extractUserId(token);
-                    Long tenantId = jwtUtil.extractTenantId(token);
-                    String role = jwtUtil.extractRole(token);
+        } finally {
+            TenantContext.clear();
+            SecurityContextHolder.clearContext();
+        }
+    }
 
-                    SimpleGrantedAuthority authority =
-                            new SimpleGrantedAuthority("ROLE_" + role);
+    /**
+     * Internal-auth mode: the gateway already verified the JWT, only the signed
+     * assertion is checked. The bearer token is ignored, so a request that bypassed
+     * the gateway stays unauthenticated even if it carries a valid JWT.
+     */
+    private void authenticateFromAssertion(HttpServletRequest request) {
+        InternalIdentity identity =
+                assertionCodec.verify(request.getHeader(InternalAssertionCodec.HEADER));
+
+        if (identity != null) {
+            authenticate(identity.getUserId(), identity.getTenantId(), identity.getRole());
+        }
+    }
 
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userId,
-                                    null,
-                                    List.of(authority)
-                            );
+    private void authenticateFromBearer(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
 
-                    SecurityContextHolder.getContext()
-                            .setAuthentication(authentication);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            String token = authHeader.substring(7);
 
-                    TenantContext.setCurrentTenantId(tenantId);
-                }
+            JwtPrincipal principal;
+            try {
+                principal = jwtVerifier.verify(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                return;
             }
 
-            filterChain.doFilter(request, response);
-
-        } finally {
-            TenantContext.clear();
-            SecurityContextHolder.clearContext();
+            authenticate(principal.getUserId(), principal.getTenantId(), principal.getRole());
         }
     }
+
+    private void authenticate(Long userId, Long tenantId, String role) {
+        // a known role is its own authority and carries its permission mask
+        Role knownRole = Role.fromClaim(role);
+        GrantedAuthority authority = knownRole != null
+                ? knownRole
+                : new SimpleGrantedAuthority("ROLE_" + role);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userId,
+                        null,
+                        List.of(authority)
+                );
+
+        SecurityContextHolder.getContext()
+                .setAuthentication(authentication);
+
+        TenantContext.setCurrentTenantId(tenantId);
+    }
 }
 
@@ -0,0 +1,111 @@
+package com.fleetmanager.fleet.security;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.fleetmanager.fleet.enums.Permission;
+import com.fleetmanager.fleet.enums.Role;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Enforces {@link RequiresPermission}. The annotations of every handler method are read
+ * once, after the context has started, into a permission mask per method; a request then
+ * costs one map lookup and one mask test against the caller's {@link Role}.
+ */
+@Component
+public class PermissionInterceptor implements HandlerInterceptor, SmartInitializingSingleton {
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+
+    private volatile Map<Method, Long> requiredPermissions = Map.of();
+
+    public PermissionInterceptor(
+            @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+        if (mapping != null) {
+            register(mapping.getHandlerMethods().values());
+        }
+    }
+
+    /** Resolves the masks of these handler methods, replacing any earlier set. */
+    public void register(Collection<HandlerMethod> handlerMethods) {
+        Map<Method, Long> resolved = new HashMap<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            long mask = requiredMask(handlerMethod);
+            if (mask != 0) {
+                resolved.put(handlerMethod.getMethod(), mask);
+            }
+        }
+        requiredPermissions = Map.copyOf(resolved);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Long required = requiredPermissions.get(handlerMethod.getMethod());
+        if (required == null) {
+            return true;
+        }
+        Role role = currentRole();
+        if (role == null || !role.grants(required)) {
+            throw new AccessDeniedException("Access Denied");
+        }
+        return true;
+    }
+
+    private static Role currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (authority instanceof Role role) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    private static long requiredMask(HandlerMethod handlerMethod) {
+        RequiresPermission onType =
+                AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RequiresPermission.class);
+        RequiresPermission onMethod = handlerMethod.getMethodAnnotation(RequiresPermission.class);
+
+        long mask = 0;
+        for (RequiresPermission annotation : new RequiresPermission[] { onType, onMethod }) {
+            if (annotation == null) {
+                continue;
+            }
+            if (annotation.value().length == 0) {
+                throw new IllegalStateException(
+                        "@RequiresPermission without permissions on " + handlerMethod.getShortLogMessage());
+            }
+            mask |= Permission.mask(annotation.value());
+        }
+        return mask;
+    }
+}
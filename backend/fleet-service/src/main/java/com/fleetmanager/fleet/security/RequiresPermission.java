@@ -0,0 +1,22 @@
+package com.fleetmanager.fleet.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.fleetmanager.fleet.enums.Permission;
+
+/**
+ * Permissions the caller's role must grant, all of them, to reach a controller method.
+ * On a controller class it applies to every handler method, on top of the method's own.
+ * Checked by {@link PermissionInterceptor}; a denial is answered with 403.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresPermission {
+
+    Permission[] value();
+}
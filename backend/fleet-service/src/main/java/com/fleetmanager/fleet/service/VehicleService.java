@@ -2,14 +2,23 @@ package com.fleetmanager.fleet.service;
 
 import com.fleetmanager.fleet.context.TenantContext;
 import com.fleetmanager.fleet.dto.request.VehicleCreateDTO;
+import com.fleetmanager.fleet.dto.response.CursorPageDTO;
 import com.fleetmanager.fleet.dto.response.VehicleResponseDTO;
+import com.fleetmanager.fleet.dto.response.VehicleSuggestionDTO;
 import com.fleetmanager.fleet.entity.Vehicle;
 import com.fleetmanager.fleet.enums.VehicleStatus;
 import com.fleetmanager.fleet.exception.DuplicateLicensePlateException;
+import com.fleetmanager.fleet.exception.InvalidPaginationException;
+import com.fleetmanager.fleet.repository.VehicleProjectionRepository;
 import com.fleetmanager.fleet.repository.VehicleRepository;
 import com.fleetmanager.fleet.dto.request.VehicleFilterDTO;
+import com.fleetmanager.fleet.specification.VehicleCursor;
+import com.fleetmanager.fleet.specification.VehicleSortField;
 import com.fleetmanager.fleet.specification.VehicleSpecification;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,7 +30,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class VehicleService {
 
+    public static final String RELEVANCE = "relevance";
+
     private final VehicleRepository vehicleRepository;
+    private final VehicleProjectionRepository vehicleProjectionRepository;
 
     public VehicleResponseDTO createVehicle(VehicleCreateDTO dto) {
 
@@ -60,14 +72,23 @@ public class VehicleService {
     }
     
     
+    /**
+     * Read-only listing: rows are projected straight into response DTOs, and the
+     * read-only transaction leaves Hibernate with nothing to flush.
+     */
+    @Transactional(readOnly = true)
     public Page<VehicleResponseDTO> listVehicles(VehicleFilterDTO filters) {
 
+        if (RELEVANCE.equalsIgnoreCase(filters.getSortBy())) {
+            return listVehiclesByRelevance(filters);
+        }
+
         Sort.Direction direction =
                 filters.getSortDir().equalsIgnoreCase("ASC")
                         ? Sort.Direction.ASC
                         : Sort.Direction.DESC;
 
-        Sort sort = Sort.by(direction, filters.getSortBy());
+        Sort sort = Sort.by(direction, VehicleSortField.fromSortBy(filters.getSortBy()).attribute());
 
         Pageable pageable = PageRequest.of(
                 filters.getPage(),
@@ -75,12 +96,86 @@ public class VehicleService {
                 sort
         );
 
-        Page<Vehicle> vehicles = vehicleRepository.findAll(
+        return vehicleProjectionRepository.findAll(
                 VehicleSpecification.withFilters(filters),
                 pageable
         );
+    }
+
+    /**
+     * Substring search ranked by trigram similarity, so "volvo" lists make Volvo before
+     * plates that merely contain it. The ordering comes from the specification; the
+     * count query Spring Data derives from it stays unordered.
+     */
+    private Page<VehicleResponseDTO> listVehiclesByRelevance(VehicleFilterDTO filters) {
+
+        if (filters.getSearch() == null || filters.getSearch().isBlank()) {
+            throw new InvalidPaginationException("sortBy=relevance requires a search term");
+        }
+
+        Specification<Vehicle> spec = VehicleSpecification.withFilters(filters)
+                .and(VehicleSpecification.rankedBySimilarity(filters.getSearch()));
+
+        return vehicleProjectionRepository.findAll(spec, PageRequest.of(filters.getPage(), filters.getSize()));
+    }
+
+    /**
+     * Keyset listing: seeks past the cursor instead of skipping rows and runs no count,
+     * so page 500 costs about what page 1 does. Reads one row more than asked to know
+     * whether another page follows.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<VehicleResponseDTO> listVehiclesByCursor(VehicleFilterDTO filters) {
+
+        VehicleSortField field = VehicleSortField.fromSortBy(filters.getSortBy());
+        Sort.Direction direction =
+                filters.getSortDir().equalsIgnoreCase("ASC")
+                        ? Sort.Direction.ASC
+                        : Sort.Direction.DESC;
+        int size = filters.getSize();
+        if (size < 1) {
+            throw new InvalidPaginationException("size must be at least 1");
+        }
+
+        Specification<Vehicle> spec = VehicleSpecification.withFilters(filters);
+        if (filters.getCursor() != null && !filters.getCursor().isBlank()) {
+            VehicleCursor cursor = VehicleCursor.decode(filters.getCursor());
+            if (cursor.field() != field || cursor.direction() != direction) {
+                throw new InvalidPaginationException("Cursor was issued for a different sort");
+            }
+            spec = spec.and(VehicleSpecification.after(cursor));
+        }
+
+        Sort sort = field == VehicleSortField.ID
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, field.attribute(), "id");
+
+        List<Vehicle> rows = vehicleRepository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+
+        boolean hasNext = rows.size() > size;
+        List<Vehicle> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? VehicleCursor.after(page.get(size - 1), field, direction).encode()
+                : null;
+
+        return new CursorPageDTO<>(page.stream().map(this::mapToResponseDTO).toList(), page.size(), nextCursor);
+    }
 
-        return vehicles.map(this::mapToResponseDTO);
+    /**
+     * Suggestions straight from the database, for tenants too large for the in-memory
+     * index: the substring search of {@link #listVehicles} without a count.
+     */
+    @Transactional(readOnly = true)
+    public List<VehicleSuggestionDTO> searchSuggestions(String search, int limit) {
+
+        VehicleFilterDTO filters = new VehicleFilterDTO();
+        filters.setSearch(search);
+
+        return vehicleRepository.findBy(VehicleSpecification.withFilters(filters),
+                        q -> q.sortBy(Sort.by("licensePlate", "id")).limit(limit).all())
+                .stream()
+                .map(v -> new VehicleSuggestionDTO(v.getId(), v.getLicensePlate(), v.getMake(), v.getModel()))
+                .toList();
     }
 
     private VehicleResponseDTO mapToResponseDTO(Vehicle v) {
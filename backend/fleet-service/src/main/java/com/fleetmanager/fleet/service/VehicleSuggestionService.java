@@ -0,0 +1,311 @@
+package com.fleetmanager.fleet.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fleetmanager.fleet.context.TenantContext;
+import com.fleetmanager.fleet.dto.response.VehicleSuggestionDTO;
+import com.fleetmanager.fleet.entity.Vehicle;
+import com.fleetmanager.fleet.exception.InvalidPaginationException;
+import com.fleetmanager.fleet.repository.VehicleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * Typeahead over license plate, make and model, answered from memory.
+ *
+ * Each tenant gets its own index, loaded on its first suggestion request and kept in a
+ * bounded cache: the bound is the total number of index keys across tenants, and cold
+ * tenants are evicted first. Vehicle writes reach loaded indexes after commit through
+ * {@link com.fleetmanager.fleet.entity.VehicleSuggestionListener}, but only on the
+ * instance that made them: an index never outlives {@code fleet.suggest.max-staleness}
+ * from its load, however busy the tenant, so a vehicle created, renamed or deleted
+ * through another instance shows up here within that bound. An index idle for
+ * {@code fleet.suggest.idle-ttl} is dropped sooner. Tenants with more
+ * vehicles than {@code fleet.suggest.max-vehicles-per-tenant} are not indexed; their
+ * suggestions come from the trigram-indexed database search instead.
+ *
+ * Matching ignores case and anything that is not a letter or digit, so "ka01" finds
+ * "KA-01-AB-1234". Plates starting with the query rank first, then plates containing
+ * it, then makes and models with a word starting with it.
+ */
+@Service
+public class VehicleSuggestionService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final VehicleRepository vehicleRepository;
+    private final VehicleService vehicleService;
+    private final int maxVehiclesPerTenant;
+    private final Ticker ticker;
+    private final Cache<Long, TenantIndex> indexes;
+
+    @Autowired
+    public VehicleSuggestionService(
+            VehicleRepository vehicleRepository,
+            VehicleService vehicleService,
+            @Value("${fleet.suggest.max-entries:2000000}") long maxEntries,
+            @Value("${fleet.suggest.max-vehicles-per-tenant:100000}") int maxVehiclesPerTenant,
+            @Value("${fleet.suggest.idle-ttl:30m}") Duration idleTtl,
+            @Value("${fleet.suggest.max-staleness:5m}") Duration maxStaleness) {
+        this(vehicleRepository, vehicleService, maxEntries, maxVehiclesPerTenant, idleTtl, maxStaleness,
+                Ticker.systemTicker());
+    }
+
+    VehicleSuggestionService(VehicleRepository vehicleRepository, VehicleService vehicleService,
+                             long maxEntries, int maxVehiclesPerTenant, Duration idleTtl,
+                             Duration maxStaleness, Ticker ticker) {
+        this.vehicleRepository = vehicleRepository;
+        this.vehicleService = vehicleService;
+        this.maxVehiclesPerTenant = maxVehiclesPerTenant;
+        this.ticker = ticker;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxEntries)
+                .weigher((Long tenantId, TenantIndex index) -> index.weight())
+                .expireAfter(expiry(idleTtl.toNanos(), maxStaleness.toNanos()))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Expires an index after {@code idleNanos} without a read, and in any case
+     * {@code maxStalenessNanos} after it was loaded. Local writes extend neither.
+     */
+    private static Expiry<Long, TenantIndex> expiry(long idleNanos, long maxStalenessNanos) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long tenantId, TenantIndex index, long currentTime) {
+                return remaining(index, currentTime);
+            }
+
+            @Override
+            public long expireAfterUpdate(Long tenantId, TenantIndex index, long currentTime,
+                                          long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Long tenantId, TenantIndex index, long currentTime,
+                                        long currentDuration) {
+                return remaining(index, currentTime);
+            }
+
+            private long remaining(TenantIndex index, long currentTime) {
+                return Math.min(idleNanos, maxStalenessNanos - (currentTime - index.loadedAt()));
+            }
+        };
+    }
+
+    public List<VehicleSuggestionDTO> suggest(String query, int limit) {
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidPaginationException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        Long tenantId = TenantContext.getCurrentTenantIdOrThrow();
+        TenantIndex index = indexes.get(tenantId, this::load);
+        if (index.oversized()) {
+            return vehicleService.searchSuggestions(query, limit);
+        }
+        return index.suggest(prefix, limit);
+    }
+
+    /**
+     * Applies a persisted or updated vehicle to its tenant's index, if loaded, once the
+     * writing transaction commits. An index still loading is updated after its load.
+     */
+    public void vehicleSaved(Vehicle vehicle) {
+        VehicleSuggestionDTO suggestion = new VehicleSuggestionDTO(
+                vehicle.getId(), vehicle.getLicensePlate(), vehicle.getMake(), vehicle.getModel());
+        afterCommit(() -> indexes.asMap().computeIfPresent(vehicle.getTenantId(),
+                (tenantId, index) -> index.put(suggestion)));
+    }
+
+    public void vehicleRemoved(Vehicle vehicle) {
+        Long id = vehicle.getId();
+        afterCommit(() -> indexes.asMap().computeIfPresent(vehicle.getTenantId(),
+                (tenantId, index) -> index.remove(id)));
+    }
+
+    public void invalidateAll() {
+        indexes.invalidateAll();
+    }
+
+    private TenantIndex load(Long tenantId) {
+        // taken before the query, so the staleness bound also covers the load itself
+        long loadedAt = ticker.read();
+        List<VehicleSuggestionDTO> vehicles = vehicleRepository.findSuggestionsByTenantId(
+                tenantId, PageRequest.of(0, maxVehiclesPerTenant + 1));
+        if (vehicles.size() > maxVehiclesPerTenant) {
+            return TenantIndex.oversized(loadedAt);
+        }
+        TenantIndex index = new TenantIndex(loadedAt, false);
+        vehicles.forEach(index::put);
+        return index;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    /**
+     * One tenant's keys, as {@code term + '\0' + id} in sorted maps so a prefix lookup is
+     * a range scan that stops at the limit. Writes are serialized per tenant by the
+     * cache's compute; reads take no lock.
+     */
+    static final class TenantIndex {
+
+        private static final char SEPARATOR = '\0';
+        private static final char MAX_CHAR = Character.MAX_VALUE;
+
+        private final Map<Long, VehicleSuggestionDTO> vehicles = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<String, Long> plates = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, Long> plateInfixes = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, Long> names = new ConcurrentSkipListMap<>();
+        private final AtomicInteger keys = new AtomicInteger();
+        private final long loadedAt;
+        private final boolean oversized;
+
+        TenantIndex(long loadedAt, boolean oversized) {
+            this.loadedAt = loadedAt;
+            this.oversized = oversized;
+        }
+
+        /** A tenant too large to index; reloaded like any other so it can shrink back in. */
+        static TenantIndex oversized(long loadedAt) {
+            return new TenantIndex(loadedAt, true);
+        }
+
+        long loadedAt() {
+            return loadedAt;
+        }
+
+        boolean oversized() {
+            return oversized;
+        }
+
+        int weight() {
+            return Math.max(1, keys.get());
+        }
+
+        TenantIndex put(VehicleSuggestionDTO vehicle) {
+            if (oversized()) {
+                return this;
+            }
+            remove(vehicle.getId());
+            vehicles.put(vehicle.getId(), vehicle);
+            forEachKey(vehicle, (map, key) -> {
+                if (map.put(key, vehicle.getId()) == null) {
+                    keys.incrementAndGet();
+                }
+            });
+            return this;
+        }
+
+        TenantIndex remove(Long id) {
+            VehicleSuggestionDTO previous = vehicles.remove(id);
+            if (previous != null) {
+                forEachKey(previous, (map, key) -> {
+                    if (map.remove(key) != null) {
+                        keys.decrementAndGet();
+                    }
+                });
+            }
+            return this;
+        }
+
+        List<VehicleSuggestionDTO> suggest(String prefix, int limit) {
+            Map<Long, VehicleSuggestionDTO> found = new LinkedHashMap<>();
+            collect(plates, prefix, limit, found);
+            collect(plateInfixes, prefix, limit, found);
+            collect(names, prefix, limit, found);
+            return new ArrayList<>(found.values());
+        }
+
+        private void collect(ConcurrentSkipListMap<String, Long> map, String prefix, int limit,
+                             Map<Long, VehicleSuggestionDTO> found) {
+            if (found.size() >= limit) {
+                return;
+            }
+            for (Long id : map.subMap(prefix, prefix + MAX_CHAR).values()) {
+                VehicleSuggestionDTO vehicle = vehicles.get(id);
+                if (vehicle != null) {
+                    found.putIfAbsent(id, vehicle);
+                    if (found.size() >= limit) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void forEachKey(VehicleSuggestionDTO vehicle, KeyConsumer consumer) {
+            String suffix = SEPARATOR + vehicle.getId().toString();
+
+            String plate = normalize(vehicle.getLicensePlate());
+            if (!plate.isEmpty()) {
+                consumer.accept(plates, plate + suffix);
+                for (int i = 1; i < plate.length(); i++) {
+                    consumer.accept(plateInfixes, plate.substring(i) + suffix);
+                }
+            }
+            for (String name : new String[] { vehicle.getMake(), vehicle.getModel() }) {
+                String whole = normalize(name);
+                if (whole.isEmpty()) {
+                    continue;
+                }
+                consumer.accept(names, whole + suffix);
+                for (String word : name.split("[^\\p{L}\\p{N}]+")) {
+                    String token = normalize(word);
+                    if (!token.isEmpty() && !token.equals(whole)) {
+                        consumer.accept(names, token + suffix);
+                    }
+                }
+            }
+        }
+
+        @FunctionalInterface
+        private interface KeyConsumer {
+            void accept(ConcurrentSkipListMap<String, Long> map, String key);
+        }
+    }
+}
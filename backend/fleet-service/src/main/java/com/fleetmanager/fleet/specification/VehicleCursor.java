@@ -0,0 +1,48 @@
+package com.fleetmanager.fleet.specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import com.fleetmanager.fleet.entity.Vehicle;
+import com.fleetmanager.fleet.exception.InvalidPaginationException;
+
+/**
+ * Position after the last vehicle of a page: its sort value and id, plus the sort the
+ * page was read with. Clients only see {@link #encode()}, an opaque URL-safe token; it
+ * is not signed, since all it can do is move the window within the caller's own tenant.
+ */
+public record VehicleCursor(VehicleSortField field, Sort.Direction direction, Comparable<?> value, long id) {
+
+    private static final String VERSION = "v1";
+    private static final char SEPARATOR = '|';
+
+    public static VehicleCursor after(Vehicle last, VehicleSortField field, Sort.Direction direction) {
+        return new VehicleCursor(field, direction, field.valueOf(last), last.getId());
+    }
+
+    public String encode() {
+        // the value goes last: it is the only part that may contain the separator
+        String payload = VERSION + SEPARATOR + field.name() + SEPARATOR + direction.name()
+                + SEPARATOR + id + SEPARATOR + field.format(value);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static VehicleCursor decode(String token) {
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = payload.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new InvalidPaginationException("Invalid cursor");
+            }
+            VehicleSortField field = VehicleSortField.valueOf(parts[1]);
+            return new VehicleCursor(field, Sort.Direction.valueOf(parts[2]),
+                    field.parse(parts[4]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidPaginationException("Invalid cursor");
+        }
+    }
+}
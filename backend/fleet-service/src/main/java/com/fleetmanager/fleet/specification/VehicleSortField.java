@@ -0,0 +1,64 @@
+package com.fleetmanager.fleet.specification;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import com.fleetmanager.fleet.entity.Vehicle;
+import com.fleetmanager.fleet.enums.VehicleStatus;
+import com.fleetmanager.fleet.enums.VehicleType;
+import com.fleetmanager.fleet.exception.InvalidPaginationException;
+
+/**
+ * The {@code sortBy} values vehicle listings accept. All map to NOT NULL columns, so a
+ * keyset cursor never has to order or compare nulls; {@code id} breaks ties.
+ */
+public enum VehicleSortField {
+    CREATED_AT("createdAt", Vehicle::getCreatedAt, LocalDateTime::parse),
+    LICENSE_PLATE("licensePlate", Vehicle::getLicensePlate, Function.identity()),
+    MAKE("make", Vehicle::getMake, Function.identity()),
+    MODEL("model", Vehicle::getModel, Function.identity()),
+    YEAR("year", Vehicle::getYear, Integer::valueOf),
+    ODOMETER_READING("odometerReading", Vehicle::getOdometerReading, Integer::valueOf),
+    STATUS("status", Vehicle::getStatus, VehicleStatus::valueOf),
+    TYPE("type", Vehicle::getType, VehicleType::valueOf),
+    ID("id", Vehicle::getId, Long::valueOf);
+
+    private final String attribute;
+    private final Function<Vehicle, ? extends Comparable<?>> getter;
+    private final Function<String, ? extends Comparable<?>> parser;
+
+    VehicleSortField(String attribute,
+                     Function<Vehicle, ? extends Comparable<?>> getter,
+                     Function<String, ? extends Comparable<?>> parser) {
+        this.attribute = attribute;
+        this.getter = getter;
+        this.parser = parser;
+    }
+
+    /** Entity attribute name, which is also the API's {@code sortBy} value. */
+    public String attribute() {
+        return attribute;
+    }
+
+    Comparable<?> valueOf(Vehicle vehicle) {
+        return getter.apply(vehicle);
+    }
+
+    Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    /** Text form of a sort value, the inverse of {@link #parse}. */
+    String format(Comparable<?> value) {
+        return value instanceof Enum<?> e ? e.name() : value.toString();
+    }
+
+    public static VehicleSortField fromSortBy(String sortBy) {
+        for (VehicleSortField field : values()) {
+            if (field.attribute.equals(sortBy)) {
+                return field;
+            }
+        }
+        throw new InvalidPaginationException("Unsupported sortBy: " + sortBy);
+    }
+}
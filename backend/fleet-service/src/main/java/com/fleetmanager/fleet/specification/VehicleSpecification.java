@@ -2,6 +2,9 @@ package com.fleetmanager.fleet.specification;
 
 import com.fleetmanager.fleet.dto.request.VehicleFilterDTO;
 import com.fleetmanager.fleet.entity.Vehicle;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -10,6 +13,8 @@ import java.util.List;
 
 public class VehicleSpecification {
 
+    private static final char LIKE_ESCAPE = '\\';
+
     public static Specification<Vehicle> withFilters(VehicleFilterDTO filters) {
 
         return (root, query, cb) -> {
@@ -24,13 +29,14 @@ public class VehicleSpecification {
             }
 
             if (filters.getSearch() != null && !filters.getSearch().isBlank()) {
-                String search = "%" + filters.getSearch().toLowerCase() + "%";
+                // lower(column) LIKE matches the V5 trigram indexes' expressions
+                String search = "%" + escapeLike(filters.getSearch().toLowerCase()) + "%";
 
                 Predicate licensePlate =
-                        cb.like(cb.lower(root.get("licensePlate")), search);
+                        cb.like(cb.lower(root.get("licensePlate")), search, LIKE_ESCAPE);
 
                 Predicate make =
-                        cb.like(cb.lower(root.get("make")), search);
+                        cb.like(cb.lower(root.get("make")), search, LIKE_ESCAPE);
 
                 predicates.add(cb.or(licensePlate, make));
             }
@@ -38,4 +44,62 @@ public class VehicleSpecification {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Orders by trigram similarity of the search text to the license plate or make,
+     * best first, then by id. Only orders; combine it with {@link #withFilters}, whose
+     * search predicate picks the rows. Count queries are left unordered.
+     */
+    public static Specification<Vehicle> rankedBySimilarity(String search) {
+
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                Expression<String> text = cb.literal(search.toLowerCase());
+                Expression<Double> similarity = cb.function("greatest", Double.class,
+                        cb.function("similarity", Double.class, cb.lower(root.get("licensePlate")), text),
+                        cb.function("similarity", Double.class, cb.lower(root.get("make")), text));
+                query.orderBy(cb.desc(similarity), cb.asc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Rows strictly after {@code cursor} in its sort order, ties broken by id in the same
+     * direction. The redundant bound on the sort key alone lets PostgreSQL start an index
+     * scan at the cursor instead of filtering its way there.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static Specification<Vehicle> after(VehicleCursor cursor) {
+
+        return (root, query, cb) -> {
+            boolean ascending = cursor.direction().isAscending();
+            Path<Long> id = root.get("id");
+
+            if (cursor.field() == VehicleSortField.ID) {
+                return beyond(cb, id, cursor.id(), ascending);
+            }
+
+            Path<Comparable> key = root.get(cursor.field().attribute());
+            Comparable value = cursor.value();
+
+            Predicate bound = ascending
+                    ? cb.greaterThanOrEqualTo(key, value)
+                    : cb.lessThanOrEqualTo(key, value);
+            Predicate seek = cb.or(
+                    beyond(cb, key, value, ascending),
+                    cb.and(cb.equal(key, value), beyond(cb, id, cursor.id(), ascending)));
+
+            return cb.and(bound, seek);
+        };
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(
+            CriteriaBuilder cb, Path<? extends Y> path, Y value, boolean ascending) {
+        return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
 }
@@ -1,61 +0,0 @@
-package com.fleetmanager.fleet.util;
-
-
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
-
-import java.security.Key;
-import java.util.Date;
-
-@Component
-public class JwtUtil {
-
-    private final Key key;
-    private final long expirationTime;
-
-    public JwtUtil(
-            @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration-ms:86400000}") long expirationTime
-    ) {
-        this.key = Keys.hmacShaKeyFor(secret.getBytes());
-        this.expirationTime = expirationTime;
-    }
-
-
-
-    public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public Long extractUserId(String token) {
-        return extractClaims(token).get("user_id", Long.class);
-    }
-
-    public Long extractTenantId(String token) {
-        return extractClaims(token).get("tenant_id", Long.class);
-    }
-
-    public String extractRole(String token) {
-        return extractClaims(token).get("role", String.class);
-    }
-
-      public Date extractExpiration(String token) {
-        return extractClaims(token).getExpiration();
-    }
-    
-
-    public boolean validateToken(String token) {
-        try {
-            extractClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
-    }
-}
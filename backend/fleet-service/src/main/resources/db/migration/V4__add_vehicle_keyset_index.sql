@@ -0,0 +1,4 @@
+-- Serves the default listing order (created_at DESC, id DESC) per tenant, for both
+-- the first page and keyset seeks past a cursor; scanned backwards for DESC.
+CREATE INDEX idx_vehicles_tenant_created_at_id
+    ON vehicles (tenant_id, created_at, id);
@@ -0,0 +1,14 @@
+-- Trigram indexes for the substring search on license plate and make. The expressions
+-- match the lower(column) LIKE '%term%' predicates in VehicleSpecification exactly;
+-- btree_gin lets tenant_id sit in the same GIN index, so a search is scoped to one
+-- tenant inside the index rather than by filtering heap rows afterwards.
+-- Creating the extensions needs a role allowed to do so (superuser, or pg_trgm /
+-- btree_gin already installed by the DBA).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX idx_vehicles_license_plate_trgm
+    ON vehicles USING gin (tenant_id, lower(license_plate) gin_trgm_ops);
+
+CREATE INDEX idx_vehicles_make_trgm
+    ON vehicles USING gin (tenant_id, lower(make) gin_trgm_ops);
@@ -0,0 +1,101 @@
+package com.fleetmanager.fleet.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fleetmanager.common.security.InternalAssertionCodec;
+import com.fleetmanager.common.security.JwtVerifier;
+import com.fleetmanager.fleet.security.JwtAuthenticationFilter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Per-request latency of fleet-service authentication: bearer mode (one JWT
+ * verification per request) versus internal-auth mode (one HMAC over the gateway assertion).
+ *
+ * Run with: {@code mvn -pl fleet-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.fleetmanager.fleet.benchmark.AuthenticationFilterBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationFilterBenchmark {
+
+    private static final String JWT_SECRET = "YWHx2ms0eGJhYlN6TkJqbENBblUyTktWbEZka3NaNElvNkliZlJ3czZ1skhqbdjqw";
+    private static final String INTERNAL_SECRET = "dGhpcy1pcy1hbi1pbnRlcm5hbC1hc3NlcnRpb24ta2V5LWRldg";
+
+    private static final FilterChain NOOP_CHAIN = (req, res) -> { };
+
+    private JwtAuthenticationFilter bearerFilter;
+    private JwtAuthenticationFilter assertionFilter;
+    private MockHttpServletRequest bearerRequest;
+    private MockHttpServletRequest assertionRequest;
+
+    @Setup
+    public void setUp() {
+        JwtVerifier jwtVerifier = new JwtVerifier(JWT_SECRET);
+        InternalAssertionCodec codec = new InternalAssertionCodec(INTERNAL_SECRET);
+
+        bearerFilter = new JwtAuthenticationFilter(
+                jwtVerifier, new StaticListableBeanFactory().getBeanProvider(InternalAssertionCodec.class));
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("internalAssertionCodec", codec);
+        assertionFilter = new JwtAuthenticationFilter(jwtVerifier, beans.getBeanProvider(InternalAssertionCodec.class));
+
+        String token = Jwts.builder()
+                .claim("user_id", 42L)
+                .claim("tenant_id", 101L)
+                .claim("role", "MANAGER")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        bearerRequest = new MockHttpServletRequest("GET", "/api/vehicles");
+        bearerRequest.addHeader("Authorization", "Bearer " + token);
+
+        assertionRequest = new MockHttpServletRequest("GET", "/api/vehicles");
+        assertionRequest.addHeader("Authorization", "Bearer " + token);
+        assertionRequest.addHeader(InternalAssertionCodec.HEADER, codec.mint(42L, 101L, "MANAGER", 3600));
+    }
+
+    @Benchmark
+    public void bearerJwt() throws Exception {
+        bearerFilter.doFilter(bearerRequest, new MockHttpServletResponse(), NOOP_CHAIN);
+    }
+
+    @Benchmark
+    public void internalAssertion() throws Exception {
+        assertionFilter.doFilter(assertionRequest, new MockHttpServletResponse(), NOOP_CHAIN);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
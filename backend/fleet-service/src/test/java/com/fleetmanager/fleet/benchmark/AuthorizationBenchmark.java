@@ -0,0 +1,115 @@
+package com.fleetmanager.fleet.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.fleetmanager.fleet.enums.Permission;
+import com.fleetmanager.fleet.enums.Role;
+import com.fleetmanager.fleet.security.PermissionInterceptor;
+import com.fleetmanager.fleet.security.RequiresPermission;
+
+/**
+ * Per-request cost of the authorization check on a controller method: the
+ * {@code @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")} method-security proxy, which
+ * evaluates the SpEL expression on every call, versus {@link PermissionInterceptor},
+ * whose permission masks are resolved at startup. Both call the same method afterwards.
+ *
+ * Run with: {@code mvn -pl fleet-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.fleetmanager.fleet.benchmark.AuthorizationBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    public static class Endpoint {
+
+        @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+        public int createWithSpel() {
+            return 1;
+        }
+
+        @RequiresPermission(Permission.VEHICLE_WRITE)
+        public int createWithPermission() {
+            return 1;
+        }
+    }
+
+    private Endpoint spelProxy;
+    private Endpoint endpoint;
+    private PermissionInterceptor interceptor;
+    private HandlerMethod handlerMethod;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        endpoint = new Endpoint();
+
+        ProxyFactory proxyFactory = new ProxyFactory(endpoint);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(AuthorizationManagerBeforeMethodInterceptor.preAuthorize());
+        spelProxy = (Endpoint) proxyFactory.getProxy();
+
+        interceptor = new PermissionInterceptor(
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class));
+        handlerMethod = new HandlerMethod(endpoint, Endpoint.class.getMethod("createWithPermission"));
+        interceptor.register(List.of(handlerMethod));
+
+        request = new MockHttpServletRequest("POST", "/api/vehicles");
+        response = new MockHttpServletResponse();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(42L, null, List.of(Role.MANAGER)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public int spelPreAuthorize() {
+        return spelProxy.createWithSpel();
+    }
+
+    @Benchmark
+    public int permissionMask() {
+        interceptor.preHandle(request, response, handlerMethod);
+        return endpoint.createWithPermission();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuthorizationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.fleetmanager.fleet.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Pageable;
+
+import com.fleetmanager.fleet.context.TenantContext;
+import com.fleetmanager.fleet.dto.response.VehicleSuggestionDTO;
+import com.fleetmanager.fleet.repository.VehicleRepository;
+import com.fleetmanager.fleet.service.VehicleService;
+import com.fleetmanager.fleet.service.VehicleSuggestionService;
+
+/**
+ * Latency distribution of a typeahead lookup against a warm 50,000-vehicle tenant index,
+ * for the short prefixes dispatchers type first. Sample mode reports p99 directly.
+ *
+ * Run with: {@code mvn -pl fleet-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.fleetmanager.fleet.benchmark.VehicleSuggestionBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VehicleSuggestionBenchmark {
+
+    private static final int VEHICLES = 50_000;
+    private static final String[] MAKES = { "Tata", "Ashok Leyland", "Eicher", "Mahindra", "BharatBenz", "Volvo" };
+    private static final String[] STATES = { "KA", "MH", "DL", "TN", "GJ", "RJ", "UP", "WB" };
+
+    @Param({ "k", "ka", "ka0", "ka05ab", "123", "volvo" })
+    private String query;
+
+    private VehicleSuggestionService suggestionService;
+
+    @Setup
+    public void setUp() {
+        List<VehicleSuggestionDTO> vehicles = new ArrayList<>(VEHICLES);
+        for (int i = 0; i < VEHICLES; i++) {
+            String plate = String.format("%s-%02d-%c%c-%04d", STATES[i % STATES.length], i % 50,
+                    (char) ('A' + i % 26), (char) ('A' + (i / 26) % 26), i % 10_000);
+            vehicles.add(new VehicleSuggestionDTO((long) i, plate, MAKES[i % MAKES.length], "M" + (i % 40)));
+        }
+
+        VehicleRepository vehicleRepository = mock(VehicleRepository.class);
+        when(vehicleRepository.findSuggestionsByTenantId(eq(1L), any(Pageable.class))).thenReturn(vehicles);
+        suggestionService = new VehicleSuggestionService(
+                vehicleRepository, mock(VehicleService.class), 10_000_000, VEHICLES, Duration.ofHours(1), Duration.ofHours(1));
+
+        TenantContext.setCurrentTenantId(1L);
+        suggestionService.suggest("warm", 10);
+    }
+
+    @TearDown
+    public void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Benchmark
+    public List<VehicleSuggestionDTO> suggest() {
+        return suggestionService.suggest(query, 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VehicleSuggestionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fleetmanager.fleet.datasource;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class ReplicaRoutingPropertiesTest {
+
+    @Test
+    void defaults_coverTheWorstAdmittedLag() {
+        assertThatCode(new ReplicaRoutingProperties()::validate).doesNotThrowAnyException();
+    }
+
+    @Test
+    void stickyWindowNoLongerThanMaxLagPlusCheckInterval_failsStartup() {
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setHealthCheckInterval(Duration.ofSeconds(2));
+        properties.setStickyWindow(Duration.ofSeconds(7));
+
+        assertThatThrownBy(properties::validate)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("sticky-window");
+    }
+}
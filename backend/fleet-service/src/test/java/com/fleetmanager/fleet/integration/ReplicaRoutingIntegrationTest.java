@@ -0,0 +1,185 @@
+package com.fleetmanager.fleet.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fleetmanager.fleet.context.TenantContext;
+import com.fleetmanager.fleet.datasource.ReplicaNode;
+import com.fleetmanager.fleet.datasource.ReplicaRoutingDataSource;
+import com.fleetmanager.fleet.dto.request.VehicleCreateDTO;
+import com.fleetmanager.fleet.dto.request.VehicleFilterDTO;
+import com.fleetmanager.fleet.dto.response.VehicleResponseDTO;
+import com.fleetmanager.fleet.enums.VehicleType;
+import com.fleetmanager.fleet.service.VehicleService;
+
+/**
+ * Primary/replica routing against two independent PostgreSQL instances. Nothing
+ * replicates between them, so every row is inserted where a read is expected to land,
+ * and the replica's "lag" is a value in a table the lag query reads.
+ */
+@SpringBootTest
+class ReplicaRoutingIntegrationTest {
+
+    static PostgreSQLContainer<?> primary =
+            new PostgreSQLContainer<>("postgres:15")
+                    .withDatabaseName("test_db")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    static PostgreSQLContainer<?> replica =
+            new PostgreSQLContainer<>("postgres:15")
+                    .withDatabaseName("test_db")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    static JdbcTemplate replicaJdbc;
+
+    static {
+        primary.start();
+        replica.start();
+
+        // the primary is migrated by the application; a real replica would get this by replication
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        replicaJdbc = new JdbcTemplate(new DriverManagerDataSource(
+                replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()));
+        replicaJdbc.execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION NOT NULL)");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("eureka.client.enabled", () -> "false");
+        registry.add("spring.cloud.discovery.enabled", () -> "false");
+
+        registry.add("fleet.replicas.enabled", () -> "true");
+        registry.add("fleet.replicas.nodes[0].url", replica::getJdbcUrl);
+        registry.add("fleet.replicas.nodes[0].username", replica::getUsername);
+        registry.add("fleet.replicas.nodes[0].password", replica::getPassword);
+        registry.add("fleet.replicas.health-check-interval", () -> "200ms");
+        registry.add("fleet.replicas.max-lag", () -> "1s");
+        registry.add("fleet.replicas.sticky-window", () -> "2s");
+        registry.add("fleet.replicas.lag-query", () -> "SELECT seconds FROM replica_lag");
+    }
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE TABLE vehicles RESTART IDENTITY");
+        replicaJdbc.update("TRUNCATE TABLE vehicles RESTART IDENTITY");
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 0");
+
+        ReplicaNode node = replicaRoutingDataSource.getReplicas().get(0);
+        eventually(node::isAvailable);
+    }
+
+    @AfterEach
+    void cleanup() {
+        TenantContext.clear();
+    }
+
+    private static void insert(JdbcTemplate jdbc, long tenantId, String licensePlate) {
+        jdbc.update("""
+                INSERT INTO vehicles (tenant_id, license_plate, make, model, year, type, status,
+                                      odometer_reading, created_at)
+                VALUES (?, ?, 'Tata', 'Prima', 2020, 'TRUCK', 'AVAILABLE', 0, now())
+                """, tenantId, licensePlate);
+    }
+
+    private List<String> listPlates(long tenantId) {
+        TenantContext.setCurrentTenantId(tenantId);
+        try {
+            return vehicleService.listVehicles(new VehicleFilterDTO()).getContent().stream()
+                    .map(VehicleResponseDTO::getLicensePlate)
+                    .toList();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private static void eventually(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10s").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    @Test
+    void readOnlyListing_readsFromTheReplica() {
+        insert(jdbcTemplate, 1L, "PRIMARY-1");
+        insert(replicaJdbc, 1L, "REPLICA-1");
+
+        assertThat(listPlates(1L)).containsExactly("REPLICA-1");
+    }
+
+    @Test
+    void afterAWrite_theTenantReadsFromThePrimary_untilTheWindowCloses() {
+        insert(replicaJdbc, 3L, "REPLICA-3");
+        insert(replicaJdbc, 4L, "REPLICA-4");
+
+        TenantContext.setCurrentTenantId(3L);
+        vehicleService.createVehicle(new VehicleCreateDTO(
+                "NEW-3", "Tata", "Prima", 2024, null, VehicleType.TRUCK, null, 0));
+        TenantContext.clear();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM vehicles WHERE license_plate = 'NEW-3'", Long.class)).isEqualTo(1);
+        assertThat(listPlates(3L)).containsExactly("NEW-3");
+        // other tenants are not pinned
+        assertThat(listPlates(4L)).containsExactly("REPLICA-4");
+
+        eventually(() -> listPlates(3L).equals(List.of("REPLICA-3")));
+    }
+
+    @Test
+    void laggingReplica_isExcludedUntilItCatchesUp() {
+        insert(jdbcTemplate, 5L, "PRIMARY-5");
+        insert(replicaJdbc, 5L, "REPLICA-5");
+        ReplicaNode node = replicaRoutingDataSource.getReplicas().get(0);
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 60");
+        eventually(() -> !node.isAvailable());
+        assertThat(listPlates(5L)).containsExactly("PRIMARY-5");
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 0");
+        eventually(node::isAvailable);
+        assertThat(listPlates(5L)).containsExactly("REPLICA-5");
+    }
+}
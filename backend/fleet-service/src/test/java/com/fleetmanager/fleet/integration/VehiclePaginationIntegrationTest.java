@@ -0,0 +1,224 @@
+package com.fleetmanager.fleet.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fleetmanager.fleet.context.TenantContext;
+import com.fleetmanager.fleet.dto.request.VehicleFilterDTO;
+import com.fleetmanager.fleet.dto.response.CursorPageDTO;
+import com.fleetmanager.fleet.dto.response.VehicleResponseDTO;
+import com.fleetmanager.fleet.enums.VehicleStatus;
+import com.fleetmanager.fleet.specification.VehicleCursor;
+import com.fleetmanager.fleet.specification.VehicleSortField;
+import com.fleetmanager.fleet.service.VehicleService;
+
+/**
+ * Keyset listing against offset listing: the cursor walk must visit exactly the rows of
+ * the (sortBy, id) order for every sort field, and on a 1M-vehicle tenant page 500 must
+ * cost about what page 1 does. Latencies are medians, printed for the record.
+ */
+@SpringBootTest
+class VehiclePaginationIntegrationTest {
+
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:15")
+                    .withDatabaseName("test_db")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    static {
+        postgres.start();
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("eureka.client.enabled", () -> "false");
+        registry.add("spring.cloud.discovery.enabled", () -> "false");
+    }
+
+    private static final long SMALL_TENANT = 1L;
+    private static final long LARGE_TENANT = 2L;
+    private static final int LARGE_TENANT_ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 500;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE TABLE vehicles RESTART IDENTITY");
+    }
+
+    @AfterEach
+    void cleanup() {
+        TenantContext.clear();
+    }
+
+    /**
+     * Few distinct values per column, so every page boundary falls inside a run of ties.
+     */
+    private void seed(long tenantId, int rows) {
+        jdbcTemplate.update("""
+                INSERT INTO vehicles (tenant_id, license_plate, make, model, year, type, status,
+                                      odometer_reading, created_at)
+                SELECT ?, 'KA-' || g,
+                       (ARRAY['Tata', 'Ashok', 'Volvo', 'Eicher'])[1 + g % 4],
+                       'M' || (g % 7),
+                       2000 + g % 5,
+                       (ARRAY['CAR', 'TRUCK', 'VAN', 'SUV', 'MOTORCYCLE'])[1 + g % 5],
+                       (ARRAY['AVAILABLE', 'IN_USE', 'RETIRED'])[1 + g % 3],
+                       (g * 7919) % 1000,
+                       TIMESTAMP '2024-01-01' + (g % (? / 3 + 1)) * INTERVAL '1 minute'
+                FROM generate_series(1, ?) AS g
+                """, tenantId, rows, rows);
+        jdbcTemplate.execute("ANALYZE vehicles");
+    }
+
+    private static VehicleFilterDTO filters(VehicleSortField field, Sort.Direction direction) {
+        VehicleFilterDTO filters = new VehicleFilterDTO();
+        filters.setSortBy(field.attribute());
+        filters.setSortDir(direction.name());
+        filters.setSize(PAGE_SIZE);
+        return filters;
+    }
+
+    private <T> T inTenant(long tenantId, Supplier<T> work) {
+        TenantContext.setCurrentTenantId(tenantId);
+        try {
+            return work.get();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private List<Long> expectedIds(long tenantId, VehicleSortField field, Sort.Direction direction,
+                                   VehicleStatus status) {
+        String column = switch (field) {
+            case CREATED_AT -> "created_at";
+            case LICENSE_PLATE -> "license_plate";
+            case ODOMETER_READING -> "odometer_reading";
+            default -> field.attribute();
+        };
+        String order = direction.name();
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM vehicles WHERE tenant_id = ? AND (CAST(? AS VARCHAR) IS NULL OR status = ?)"
+                        + " ORDER BY " + column + " " + order + ", id " + order,
+                Long.class, tenantId, status == null ? null : status.name(), status == null ? null : status.name());
+    }
+
+    private List<Long> walk(long tenantId, VehicleFilterDTO filters) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            filters.setCursor(cursor);
+            CursorPageDTO<VehicleResponseDTO> page =
+                    inTenant(tenantId, () -> vehicleService.listVehiclesByCursor(filters));
+            page.getContent().forEach(v -> ids.add(v.getId()));
+            assertThat(page.getSize()).isLessThanOrEqualTo(PAGE_SIZE);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    @Test
+    void cursorWalk_matchesTheFullOrder_forEverySortField() {
+        seed(SMALL_TENANT, 233);
+        seed(LARGE_TENANT, 50); // must never show up
+
+        for (VehicleSortField field : VehicleSortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                assertThat(walk(SMALL_TENANT, filters(field, direction)))
+                        .as("%s %s", field, direction)
+                        .isEqualTo(expectedIds(SMALL_TENANT, field, direction, null));
+
+                VehicleFilterDTO available = filters(field, direction);
+                available.setStatus(VehicleStatus.AVAILABLE);
+                assertThat(walk(SMALL_TENANT, available))
+                        .as("%s %s, AVAILABLE only", field, direction)
+                        .isEqualTo(expectedIds(SMALL_TENANT, field, direction, VehicleStatus.AVAILABLE));
+            }
+        }
+    }
+
+    @Test
+    void deepPage_costsAboutTheSameAsTheFirst_withCursor() {
+        seed(LARGE_TENANT, LARGE_TENANT_ROWS);
+
+        VehicleFilterDTO offsetFirst = filters(VehicleSortField.CREATED_AT, Sort.Direction.DESC);
+        VehicleFilterDTO offsetDeep = filters(VehicleSortField.CREATED_AT, Sort.Direction.DESC);
+        offsetDeep.setPage(DEEP_PAGE - 1);
+
+        // the cursor a client would hold after reading page 499
+        VehicleCursor beforeDeepPage = jdbcTemplate.queryForObject("""
+                SELECT id, created_at FROM vehicles WHERE tenant_id = ?
+                ORDER BY created_at DESC, id DESC OFFSET ? LIMIT 1
+                """, (rs, i) -> new VehicleCursor(VehicleSortField.CREATED_AT, Sort.Direction.DESC,
+                        rs.getTimestamp("created_at").toLocalDateTime(), rs.getLong("id")),
+                LARGE_TENANT, (DEEP_PAGE - 1) * PAGE_SIZE - 1);
+        VehicleFilterDTO cursorFirst = filters(VehicleSortField.CREATED_AT, Sort.Direction.DESC);
+        VehicleFilterDTO cursorDeep = filters(VehicleSortField.CREATED_AT, Sort.Direction.DESC);
+        cursorDeep.setCursor(beforeDeepPage.encode());
+
+        List<Long> deepPageIds = jdbcTemplate.queryForList("""
+                SELECT id FROM vehicles WHERE tenant_id = ?
+                ORDER BY created_at DESC, id DESC OFFSET ? LIMIT ?
+                """, Long.class, LARGE_TENANT, (DEEP_PAGE - 1) * PAGE_SIZE, PAGE_SIZE);
+        assertThat(inTenant(LARGE_TENANT, () -> vehicleService.listVehiclesByCursor(cursorDeep)).getContent())
+                .extracting(VehicleResponseDTO::getId)
+                .isEqualTo(deepPageIds);
+
+        double offsetPage1 = medianMillis(() -> vehicleService.listVehicles(offsetFirst));
+        double offsetPage500 = medianMillis(() -> vehicleService.listVehicles(offsetDeep));
+        double cursorPage1 = medianMillis(() -> vehicleService.listVehiclesByCursor(cursorFirst));
+        double cursorPage500 = medianMillis(() -> vehicleService.listVehiclesByCursor(cursorDeep));
+
+        System.out.printf("%,d vehicles, %d per page (median ms): offset p1 %.2f, p%d %.2f;"
+                        + " cursor p1 %.2f, p%d %.2f%n",
+                LARGE_TENANT_ROWS, PAGE_SIZE, offsetPage1, DEEP_PAGE, offsetPage500,
+                cursorPage1, DEEP_PAGE, cursorPage500);
+
+        // offset pays for the count on every page and for the skipped rows on deep ones
+        assertThat(cursorPage500).isLessThan(offsetPage500);
+        assertThat(cursorPage500).isLessThan(offsetPage1);
+    }
+
+    private double medianMillis(Supplier<?> listing) {
+        int warmup = 5;
+        long[] nanos = new long[15];
+        for (int i = -warmup; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            inTenant(LARGE_TENANT, listing);
+            if (i >= 0) {
+                nanos[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2] / 1_000_000.0;
+    }
+}
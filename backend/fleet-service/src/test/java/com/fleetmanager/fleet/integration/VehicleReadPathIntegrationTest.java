@@ -0,0 +1,174 @@
+package com.fleetmanager.fleet.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fleetmanager.fleet.context.TenantContext;
+import com.fleetmanager.fleet.dto.request.VehicleFilterDTO;
+import com.fleetmanager.fleet.dto.response.VehicleResponseDTO;
+import com.fleetmanager.fleet.entity.Vehicle;
+import com.fleetmanager.fleet.repository.VehicleRepository;
+import com.fleetmanager.fleet.service.VehicleService;
+import com.fleetmanager.fleet.specification.VehicleSpecification;
+
+/**
+ * The projected listing against the entity listing it replaced (read-write transaction,
+ * managed entities, field-by-field mapping): same page, fewer bytes allocated. Latency
+ * and allocation per page of 100 are medians, printed for the record.
+ */
+@SpringBootTest
+class VehicleReadPathIntegrationTest {
+
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:15")
+                    .withDatabaseName("test_db")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    static {
+        postgres.start();
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("eureka.client.enabled", () -> "false");
+        registry.add("spring.cloud.discovery.enabled", () -> "false");
+    }
+
+    private static final long TENANT = 1L;
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE TABLE vehicles RESTART IDENTITY");
+        jdbcTemplate.update("""
+                INSERT INTO vehicles (tenant_id, license_plate, make, model, year, vin, type, status,
+                                      image_url, odometer_reading, created_at)
+                SELECT ?, 'KA-' || g, 'Make ' || (g % 9), 'Model ' || (g % 13), 2000 + g % 20,
+                       'VIN' || g, 'TRUCK', 'AVAILABLE', 'https://img.test/' || g || '.png',
+                       g * 17 % 500000, TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute'
+                FROM generate_series(1, 10000) AS g
+                """, TENANT);
+        jdbcTemplate.execute("ANALYZE vehicles");
+        TenantContext.setCurrentTenantId(TENANT);
+    }
+
+    @AfterEach
+    void cleanup() {
+        TenantContext.clear();
+    }
+
+    private static VehicleFilterDTO filters() {
+        VehicleFilterDTO filters = new VehicleFilterDTO();
+        filters.setSize(PAGE_SIZE);
+        filters.setPage(3);
+        return filters;
+    }
+
+    /** The listing as it was: managed entities in a read-write transaction, then mapped. */
+    private Page<VehicleResponseDTO> entityPage(VehicleFilterDTO filters) {
+        return transactionTemplate.execute(status -> vehicleRepository.findAll(
+                        VehicleSpecification.withFilters(filters),
+                        PageRequest.of(filters.getPage(), filters.getSize(), Sort.by(Sort.Direction.DESC, "createdAt")))
+                .map(VehicleReadPathIntegrationTest::map));
+    }
+
+    private static VehicleResponseDTO map(Vehicle v) {
+        return VehicleResponseDTO.builder()
+                .id(v.getId())
+                .licensePlate(v.getLicensePlate())
+                .make(v.getMake())
+                .model(v.getModel())
+                .year(v.getYear())
+                .vin(v.getVin())
+                .type(v.getType())
+                .status(v.getStatus())
+                .imageUrl(v.getImageUrl())
+                .odometerReading(v.getOdometerReading())
+                .createdAt(v.getCreatedAt())
+                .build();
+    }
+
+    @Test
+    void projectedPage_matchesTheEntityPage() {
+        Page<VehicleResponseDTO> projected = vehicleService.listVehicles(filters());
+        Page<VehicleResponseDTO> entities = entityPage(filters());
+
+        assertThat(projected.getTotalElements()).isEqualTo(entities.getTotalElements());
+        assertThat(projected.getContent())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(entities.getContent());
+    }
+
+    @Test
+    void projectedPage_allocatesLessThanTheEntityPage() {
+        VehicleFilterDTO filters = filters();
+
+        Measurement entity = measure(() -> entityPage(filters));
+        Measurement projected = measure(() -> vehicleService.listVehicles(filters));
+
+        System.out.printf("page of %d vehicles (median): entities %.2f ms, %,d bytes;"
+                        + " projection %.2f ms, %,d bytes%n",
+                PAGE_SIZE, entity.millis(), entity.bytes(), projected.millis(), projected.bytes());
+
+        assertThat(projected.bytes()).isLessThan(entity.bytes());
+    }
+
+    private record Measurement(double millis, long bytes) {
+    }
+
+    private static Measurement measure(Supplier<?> listing) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int warmup = 50;
+        long[] nanos = new long[51];
+        long[] bytes = new long[nanos.length];
+        for (int i = -warmup; i < nanos.length; i++) {
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            listing.get();
+            if (i >= 0) {
+                nanos[i] = System.nanoTime() - start;
+                bytes[i] = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            }
+        }
+        Arrays.sort(nanos);
+        Arrays.sort(bytes);
+        return new Measurement(nanos[nanos.length / 2] / 1_000_000.0, bytes[bytes.length / 2]);
+    }
+}
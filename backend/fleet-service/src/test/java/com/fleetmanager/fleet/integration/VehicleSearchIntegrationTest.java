@@ -0,0 +1,253 @@
+package com.fleetmanager.fleet.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleetmanager.fleet.context.TenantContext;
+import com.fleetmanager.fleet.dto.request.VehicleFilterDTO;
+import com.fleetmanager.fleet.dto.response.VehicleResponseDTO;
+import com.fleetmanager.fleet.exception.InvalidPaginationException;
+import com.fleetmanager.fleet.service.VehicleService;
+
+/**
+ * Substring search over license plate and make: relevance ordering, LIKE escaping, and
+ * query plans. The plans are taken for the SQL Hibernate actually sent, so a change to
+ * the specification that stops matching the V5 trigram indexes fails here instead of
+ * turning into a sequential scan in production.
+ */
+@SpringBootTest
+class VehicleSearchIntegrationTest {
+
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:15")
+                    .withDatabaseName("test_db")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    static {
+        postgres.start();
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("eureka.client.enabled", () -> "false");
+        registry.add("spring.cloud.discovery.enabled", () -> "false");
+    }
+
+    private static final long TENANT = 1L;
+    private static final long OTHER_TENANT = 2L;
+    private static final String PLATE_INDEX = "idx_vehicles_license_plate_trgm";
+    private static final String MAKE_INDEX = "idx_vehicles_make_trgm";
+
+    static final List<String> vehicleStatements = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CaptureStatements {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            StatementInspector inspector = sql -> {
+                if (sql.contains(" vehicles ")) {
+                    vehicleStatements.add(sql);
+                }
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE TABLE vehicles RESTART IDENTITY");
+        vehicleStatements.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        TenantContext.clear();
+    }
+
+    private void insert(long tenantId, String licensePlate, String make) {
+        jdbcTemplate.update("""
+                INSERT INTO vehicles (tenant_id, license_plate, make, model, year, type, status,
+                                      odometer_reading, created_at)
+                VALUES (?, ?, ?, 'M1', 2020, 'TRUCK', 'AVAILABLE', 0, now())
+                """, tenantId, licensePlate, make);
+    }
+
+    private void seedBulk(long tenantId, int rows) {
+        jdbcTemplate.update("""
+                INSERT INTO vehicles (tenant_id, license_plate, make, model, year, type, status,
+                                      odometer_reading, created_at)
+                SELECT ?, 'KA-' || ? || '-' || g,
+                       (ARRAY['Tata', 'Ashok Leyland', 'Eicher', 'Mahindra', 'BharatBenz'])[1 + g % 5],
+                       'M' || (g % 7), 2000 + g % 5, 'TRUCK', 'AVAILABLE', 0,
+                       TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute'
+                FROM generate_series(1, ?) AS g
+                """, tenantId, tenantId, rows);
+    }
+
+    private static VehicleFilterDTO search(String term, String sortBy) {
+        VehicleFilterDTO filters = new VehicleFilterDTO();
+        filters.setSearch(term);
+        filters.setSortBy(sortBy);
+        filters.setSize(20);
+        return filters;
+    }
+
+    private <T> T inTenant(long tenantId, Supplier<T> work) {
+        TenantContext.setCurrentTenantId(tenantId);
+        try {
+            return work.get();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    @Test
+    void relevance_ranksTheClosestMatchFirst_withinTheTenant() {
+        insert(TENANT, "VOLVO-7", "Tata");
+        insert(TENANT, "KA-01", "Volvo Trucks India");
+        insert(TENANT, "KA-02", "Volvo");
+        insert(TENANT, "KA-03", "Tata");
+        insert(OTHER_TENANT, "KA-04", "Volvo");
+
+        Page<VehicleResponseDTO> page = inTenant(TENANT,
+                () -> vehicleService.listVehicles(search("volvo", VehicleService.RELEVANCE)));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(VehicleResponseDTO::getLicensePlate)
+                .startsWith("KA-02")
+                .containsExactlyInAnyOrder("KA-02", "KA-01", "VOLVO-7");
+    }
+
+    @Test
+    void likeWildcardsInTheSearchTerm_matchLiterally() {
+        insert(TENANT, "KA_01", "Tata");
+        insert(TENANT, "KA-02", "Tata");
+        insert(TENANT, "KA-03", "Tata 100%");
+
+        assertThat(inTenant(TENANT, () -> vehicleService.listVehicles(search("_", "createdAt"))).getContent())
+                .extracting(VehicleResponseDTO::getLicensePlate).containsExactly("KA_01");
+        assertThat(inTenant(TENANT, () -> vehicleService.listVehicles(search("%", "createdAt"))).getContent())
+                .extracting(VehicleResponseDTO::getLicensePlate).containsExactly("KA-03");
+    }
+
+    @Test
+    void relevance_withoutSearchTerm_isRejected() {
+        assertThatThrownBy(() -> inTenant(TENANT,
+                () -> vehicleService.listVehicles(search(" ", VehicleService.RELEVANCE))))
+                .isInstanceOf(InvalidPaginationException.class);
+    }
+
+    @Test
+    void searchQueries_useTheTrigramIndexes() throws Exception {
+        seedBulk(TENANT, 50_000);
+        seedBulk(OTHER_TENANT, 50_000);
+        jdbcTemplate.execute("ANALYZE vehicles");
+
+        inTenant(TENANT, () -> vehicleService.listVehicles(search("ka-1-123", VehicleService.RELEVANCE)));
+
+        // the page query and the count query Spring Data derives from it
+        assertThat(vehicleStatements).hasSize(2);
+        for (String sql : vehicleStatements) {
+            JsonNode plan = genericPlan(sql);
+            Set<String> indexes = new HashSet<>();
+            List<String> nodeTypes = new ArrayList<>();
+            collect(plan, indexes, nodeTypes);
+
+            assertThat(indexes).as(sql).contains(PLATE_INDEX, MAKE_INDEX);
+            assertThat(nodeTypes).as(sql).doesNotContain("Seq Scan");
+        }
+    }
+
+    /**
+     * The plan PostgreSQL caches for the statement once the driver prepares it server-side,
+     * which does not depend on the bound values; they can all be NULL for EXPLAIN.
+     */
+    private JsonNode genericPlan(String sql) throws Exception {
+        StringBuilder numbered = new StringBuilder();
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameters);
+            } else {
+                numbered.append(c);
+            }
+        }
+        String execute = parameters == 0
+                ? "EXECUTE search_plan"
+                : "EXECUTE search_plan(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE search_plan AS " + numbered);
+                try (ResultSet rs = statement.executeQuery(
+                        "EXPLAIN (FORMAT JSON) " + execute)) {
+                    rs.next();
+                    return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+                } catch (IOException ex) {
+                    throw new IllegalStateException(ex);
+                } finally {
+                    statement.execute("DEALLOCATE search_plan");
+                    statement.execute("RESET plan_cache_mode");
+                }
+            }
+        });
+    }
+
+    private static void collect(JsonNode node, Set<String> indexes, List<String> nodeTypes) {
+        nodeTypes.add(node.path("Node Type").asText());
+        if (node.has("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, indexes, nodeTypes);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.fleetmanager.fleet.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fleetmanager.common.security.InternalAssertionCodec;
+import com.fleetmanager.common.security.JwtVerifier;
+import com.fleetmanager.fleet.context.TenantContext;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String JWT_SECRET = "testtesttesttesttesttesttesttesttesttest";
+    private static final String INTERNAL_SECRET = "internal-assertion-secret-for-tests-only";
+
+    private final JwtVerifier jwtVerifier = new JwtVerifier(JWT_SECRET);
+    private final InternalAssertionCodec codec = new InternalAssertionCodec(INTERNAL_SECRET);
+
+    private JwtAuthenticationFilter filter(InternalAssertionCodec codec) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        if (codec != null) {
+            beans.addBean("internalAssertionCodec", codec);
+        }
+        return new JwtAuthenticationFilter(jwtVerifier, beans.getBeanProvider(InternalAssertionCodec.class));
+    }
+
+    private String bearer() {
+        return "Bearer " + Jwts.builder()
+                .claim("user_id", 1L)
+                .claim("tenant_id", 100L)
+                .claim("role", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    /** Runs the filter and captures what the downstream chain saw. */
+    private Object[] run(JwtAuthenticationFilter filter, MockHttpServletRequest request) throws Exception {
+        AtomicReference<Authentication> auth = new AtomicReference<>();
+        AtomicReference<Long> tenant = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            auth.set(SecurityContextHolder.getContext().getAuthentication());
+            tenant.set(TenantContext.getCurrentTenantId());
+        });
+
+        return new Object[] { auth.get(), tenant.get() };
+    }
+
+    @Test
+    void assertionMode_validAssertion_authenticatesWithoutBearer() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/vehicles");
+        request.addHeader(InternalAssertionCodec.HEADER, codec.mint(5L, 200L, "MANAGER", 30));
+
+        Object[] seen = run(filter(codec), request);
+
+        Authentication auth = (Authentication) seen[0];
+        assertThat(auth).isNotNull();
+        assertThat(auth.getPrincipal()).isEqualTo(5L);
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_MANAGER");
+        assertThat(seen[1]).isEqualTo(200L);
+    }
+
+    @Test
+    void assertionMode_bearerOnly_staysUnauthenticated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/vehicles");
+        request.addHeader("Authorization", bearer());
+
+        Object[] seen = run(filter(codec), request);
+
+        assertThat(seen[0]).isNull();
+        assertThat(seen[1]).isNull();
+    }
+
+    @Test
+    void bearerMode_validJwt_authenticates() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/vehicles");
+        request.addHeader("Authorization", bearer());
+
+        Object[] seen = run(filter(null), request);
+
+        assertThat(seen[0]).isNotNull();
+        assertThat(seen[1]).isEqualTo(100L);
+    }
+}
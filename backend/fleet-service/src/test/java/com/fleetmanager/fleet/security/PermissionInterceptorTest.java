@@ -0,0 +1,140 @@
+package com.fleetmanager.fleet.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.fleetmanager.fleet.enums.Permission;
+import com.fleetmanager.fleet.enums.Role;
+
+class PermissionInterceptorTest {
+
+    @RequiresPermission(Permission.TRIP_READ)
+    static class TripsController {
+
+        public void list() {
+        }
+
+        @RequiresPermission(Permission.TRIP_WRITE)
+        public void start() {
+        }
+    }
+
+    @RequiresPermission(Permission.VEHICLE_READ)
+    static class VehiclesController {
+
+        public void list() {
+        }
+
+        @RequiresPermission(Permission.VEHICLE_WRITE)
+        public void update() {
+        }
+    }
+
+    static class OpenController {
+
+        public void health() {
+        }
+
+        @RequiresPermission(Permission.VEHICLE_WRITE)
+        public void create() {
+        }
+
+        @RequiresPermission({})
+        public void misconfigured() {
+        }
+    }
+
+    private final PermissionInterceptor interceptor = new PermissionInterceptor(
+            new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class));
+
+    private final TripsController trips = new TripsController();
+    private final VehiclesController vehicles = new VehiclesController();
+    private final OpenController open = new OpenController();
+
+    @BeforeEach
+    void register() throws Exception {
+        interceptor.register(List.of(
+                handler(trips, "list"), handler(trips, "start"),
+                handler(vehicles, "list"), handler(vehicles, "update"),
+                handler(open, "health"), handler(open, "create")));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static HandlerMethod handler(Object bean, String method) throws Exception {
+        return new HandlerMethod(bean, bean.getClass().getMethod(method));
+    }
+
+    private boolean check(GrantedAuthority authority, HandlerMethod handler) {
+        if (authority != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(1L, null, List.of(authority)));
+        }
+        return interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler);
+    }
+
+    @Test
+    void roleMasksMatchTheRoles() {
+        assertThat(Role.ADMIN.grants(Permission.mask(Permission.values()))).isTrue();
+        assertThat(Role.MANAGER.grants(Permission.VEHICLE_WRITE.bit())).isTrue();
+        assertThat(Role.DRIVER.grants(Permission.VEHICLE_WRITE.bit())).isFalse();
+        assertThat(Role.DRIVER.grants(Permission.mask(Permission.TRIP_READ, Permission.TRIP_WRITE))).isTrue();
+        assertThat(Role.DRIVER.getAuthority()).isEqualTo("ROLE_DRIVER");
+    }
+
+    @Test
+    void methodWithoutAnnotation_isNotChecked() throws Exception {
+        assertThat(check(null, handler(open, "health"))).isTrue();
+    }
+
+    @Test
+    void roleWithoutPermission_isDenied() throws Exception {
+        assertThat(check(Role.MANAGER, handler(open, "create"))).isTrue();
+        assertThatThrownBy(() -> check(Role.DRIVER, handler(open, "create")))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void classAndMethodPermissions_areBothRequired() throws Exception {
+        assertThat(check(Role.DRIVER, handler(trips, "list"))).isTrue();
+        assertThat(check(Role.DRIVER, handler(trips, "start"))).isTrue();
+        assertThat(check(Role.DRIVER, handler(vehicles, "list"))).isTrue();
+        assertThatThrownBy(() -> check(Role.DRIVER, handler(vehicles, "update")))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(check(Role.MANAGER, handler(vehicles, "update"))).isTrue();
+    }
+
+    @Test
+    void unauthenticatedOrUnknownRole_isDenied() throws Exception {
+        assertThatThrownBy(() -> check(null, handler(trips, "list")))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> check(new SimpleGrantedAuthority("ROLE_AUDITOR"), handler(trips, "list")))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void emptyPermissionList_failsAtStartup() {
+        assertThatThrownBy(() -> interceptor.register(List.of(handler(open, "misconfigured"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("misconfigured");
+    }
+}
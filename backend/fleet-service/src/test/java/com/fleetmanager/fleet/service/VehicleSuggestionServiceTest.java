@@ -0,0 +1,163 @@
+package com.fleetmanager.fleet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import com.fleetmanager.fleet.context.TenantContext;
+import com.fleetmanager.fleet.dto.response.VehicleSuggestionDTO;
+import com.fleetmanager.fleet.entity.Vehicle;
+import com.fleetmanager.fleet.exception.InvalidPaginationException;
+import com.fleetmanager.fleet.repository.VehicleRepository;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+class VehicleSuggestionServiceTest {
+
+    private VehicleRepository vehicleRepository;
+    private VehicleService vehicleService;
+    private VehicleSuggestionService suggestionService;
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        vehicleRepository = mock(VehicleRepository.class);
+        vehicleService = mock(VehicleService.class);
+        suggestionService = new VehicleSuggestionService(
+                vehicleRepository, vehicleService, 10_000, 3, Duration.ofMinutes(30), Duration.ofMinutes(5),
+                (Ticker) nanos::get);
+
+        when(vehicleRepository.findSuggestionsByTenantId(eq(1L), any(Pageable.class))).thenReturn(List.of(
+                new VehicleSuggestionDTO(1L, "KA-01-AB-1234", "Tata", "Prima"),
+                new VehicleSuggestionDTO(2L, "MH-12-KA-0001", "Ashok Leyland", "Dost"),
+                new VehicleSuggestionDTO(3L, "DL-3C-9999", "Kamaz", "Ka 6520")));
+        when(vehicleRepository.findSuggestionsByTenantId(eq(2L), any(Pageable.class))).thenReturn(List.of(
+                new VehicleSuggestionDTO(4L, "KA-02-ZZ-0002", "Volvo", "FH16")));
+
+        TenantContext.setCurrentTenantId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void platePrefix_thenPlateInfix_thenMakeOrModel() {
+        assertThat(suggestionService.suggest("ka", 10))
+                .extracting(VehicleSuggestionDTO::getId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void punctuationAndCaseAreIgnored() {
+        assertThat(suggestionService.suggest("ka01", 10)).extracting(VehicleSuggestionDTO::getId).containsExactly(1L);
+        assertThat(suggestionService.suggest("12 ka", 10)).extracting(VehicleSuggestionDTO::getId).containsExactly(2L);
+        assertThat(suggestionService.suggest("LEY", 10)).extracting(VehicleSuggestionDTO::getId).containsExactly(2L);
+        assertThat(suggestionService.suggest("-", 10)).isEmpty();
+    }
+
+    @Test
+    void indexIsLoadedOncePerTenant_andSeesOnlyThatTenant() {
+        suggestionService.suggest("ka", 10);
+        suggestionService.suggest("kam", 10);
+        TenantContext.setCurrentTenantId(2L);
+        assertThat(suggestionService.suggest("ka", 10)).extracting(VehicleSuggestionDTO::getId).containsExactly(4L);
+
+        verify(vehicleRepository, times(1)).findSuggestionsByTenantId(eq(1L), any(Pageable.class));
+        verify(vehicleRepository, times(1)).findSuggestionsByTenantId(eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void writes_updateALoadedIndex() {
+        suggestionService.suggest("ka", 10);
+
+        suggestionService.vehicleSaved(vehicle(5L, 1L, "GJ-05-XY-7777", "Eicher", "Pro"));
+        assertThat(suggestionService.suggest("eich", 10)).extracting(VehicleSuggestionDTO::getId).containsExactly(5L);
+
+        suggestionService.vehicleSaved(vehicle(5L, 1L, "GJ-05-XY-7777", "BharatBenz", "Pro"));
+        assertThat(suggestionService.suggest("eich", 10)).isEmpty();
+        assertThat(suggestionService.suggest("bharat", 10)).extracting(VehicleSuggestionDTO::getId).containsExactly(5L);
+
+        suggestionService.vehicleRemoved(vehicle(5L, 1L, "GJ-05-XY-7777", "BharatBenz", "Pro"));
+        assertThat(suggestionService.suggest("gj", 10)).isEmpty();
+    }
+
+    @Test
+    void busyTenant_isReloadedOnceMaxStalenessPasses_soOtherInstancesWritesShowUp() {
+        suggestionService.suggest("ka", 10);
+        advance(Duration.ofMinutes(3));
+        suggestionService.suggest("ka", 10);
+        suggestionService.vehicleSaved(vehicle(5L, 1L, "GJ-05-XY-7777", "Eicher", "Pro"));
+
+        // created through another instance: this one never saw the write
+        when(vehicleRepository.findSuggestionsByTenantId(eq(1L), any(Pageable.class))).thenReturn(List.of(
+                new VehicleSuggestionDTO(5L, "GJ-05-XY-7777", "Eicher", "Pro"),
+                new VehicleSuggestionDTO(6L, "KA-09-QQ-4242", "Tata", "Signa")));
+        advance(Duration.ofMinutes(1));
+        assertThat(suggestionService.suggest("ka09", 10)).isEmpty();
+
+        advance(Duration.ofMinutes(1));
+        assertThat(suggestionService.suggest("ka09", 10)).extracting(VehicleSuggestionDTO::getId).containsExactly(6L);
+        verify(vehicleRepository, times(2)).findSuggestionsByTenantId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    void idleIndex_isDroppedBeforeMaxStaleness() {
+        suggestionService = new VehicleSuggestionService(
+                vehicleRepository, vehicleService, 10_000, 3, Duration.ofMinutes(1), Duration.ofMinutes(5),
+                (Ticker) nanos::get);
+        suggestionService.suggest("ka", 10);
+
+        advance(Duration.ofMinutes(2));
+        suggestionService.suggest("ka", 10);
+
+        verify(vehicleRepository, times(2)).findSuggestionsByTenantId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    void oversizedTenant_fallsBackToTheDatabase() {
+        when(vehicleRepository.findSuggestionsByTenantId(eq(7L), any(Pageable.class))).thenReturn(List.of(
+                new VehicleSuggestionDTO(11L, "A1", "Tata", "Ace"),
+                new VehicleSuggestionDTO(12L, "A2", "Tata", "Ace"),
+                new VehicleSuggestionDTO(13L, "A3", "Tata", "Ace"),
+                new VehicleSuggestionDTO(14L, "A4", "Tata", "Ace")));
+        List<VehicleSuggestionDTO> fromDatabase = List.of(new VehicleSuggestionDTO(11L, "A1", "Tata", "Ace"));
+        when(vehicleService.searchSuggestions("a1", 5)).thenReturn(fromDatabase);
+
+        TenantContext.setCurrentTenantId(7L);
+
+        assertThat(suggestionService.suggest("a1", 5)).isSameAs(fromDatabase);
+    }
+
+    @Test
+    void limitOutOfRange_isRejected() {
+        assertThatThrownBy(() -> suggestionService.suggest("ka", 0)).isInstanceOf(InvalidPaginationException.class);
+        assertThatThrownBy(() -> suggestionService.suggest("ka", VehicleSuggestionService.MAX_LIMIT + 1))
+                .isInstanceOf(InvalidPaginationException.class);
+        assertThat(suggestionService.suggest("ka", 2)).hasSize(2);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static Vehicle vehicle(Long id, Long tenantId, String licensePlate, String make, String model) {
+        Vehicle vehicle = Vehicle.builder().id(id).licensePlate(licensePlate).make(make).model(model).build();
+        vehicle.setTenantId(tenantId);
+        return vehicle;
+    }
+}
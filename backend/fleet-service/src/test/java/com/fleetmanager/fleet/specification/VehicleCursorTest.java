@@ -0,0 +1,73 @@
+package com.fleetmanager.fleet.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.fleetmanager.fleet.entity.Vehicle;
+import com.fleetmanager.fleet.enums.VehicleStatus;
+import com.fleetmanager.fleet.enums.VehicleType;
+import com.fleetmanager.fleet.exception.InvalidPaginationException;
+
+class VehicleCursorTest {
+
+    private final Vehicle vehicle = Vehicle.builder()
+            .id(4711L)
+            .licensePlate("KA|01|AB")
+            .make("Tata")
+            .model("Ace")
+            .year(2021)
+            .type(VehicleType.TRUCK)
+            .status(VehicleStatus.IN_USE)
+            .odometerReading(120_000)
+            .createdAt(LocalDateTime.of(2024, 3, 1, 9, 30, 0, 123_456_000))
+            .build();
+
+    @Test
+    void everySortField_roundTrips() {
+        for (VehicleSortField field : VehicleSortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                VehicleCursor cursor = VehicleCursor.after(vehicle, field, direction);
+
+                VehicleCursor decoded = VehicleCursor.decode(cursor.encode());
+
+                assertThat(decoded).isEqualTo(cursor);
+                assertThat(decoded.value()).isEqualTo(field.valueOf(vehicle));
+            }
+        }
+    }
+
+    @Test
+    void token_isUrlSafe() {
+        String token = VehicleCursor.after(vehicle, VehicleSortField.LICENSE_PLATE, Sort.Direction.ASC).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedTokens_areRejected() {
+        String wrongType = Base64.getUrlEncoder().encodeToString(
+                "v1|YEAR|ASC|1|not-a-year".getBytes(StandardCharsets.UTF_8));
+        String unknownVersion = Base64.getUrlEncoder().encodeToString(
+                "v0|YEAR|ASC|1|2020".getBytes(StandardCharsets.UTF_8));
+
+        for (String token : new String[] { "%%%", "djE", wrongType, unknownVersion }) {
+            assertThatThrownBy(() -> VehicleCursor.decode(token))
+                    .isInstanceOf(InvalidPaginationException.class);
+        }
+    }
+
+    @Test
+    void unsupportedSortBy_isRejected() {
+        assertThat(VehicleSortField.fromSortBy("odometerReading")).isEqualTo(VehicleSortField.ODOMETER_READING);
+        assertThatThrownBy(() -> VehicleSortField.fromSortBy("vin"))
+                .isInstanceOf(InvalidPaginationException.class)
+                .hasMessageContaining("vin");
+    }
+}